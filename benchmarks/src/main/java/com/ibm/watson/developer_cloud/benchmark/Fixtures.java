@@ -0,0 +1,75 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+
+/**
+ * Loads the recorded service responses used by the benchmarks.
+ */
+final class Fixtures {
+
+  private static final Request REQUEST = new Request.Builder().url("http://localhost").build();
+
+  private Fixtures() {}
+
+  /**
+   * Loads a fixture from the classpath.
+   * 
+   * @param name the fixture name, e.g. personality_insights/profile.json
+   * @return the fixture content
+   */
+  static byte[] load(String name) {
+    final InputStream is = Fixtures.class.getClassLoader().getResourceAsStream(name);
+    if (is == null)
+      throw new IllegalArgumentException("Fixture not found: " + name);
+
+    try {
+      final ByteArrayOutputStream os = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = is.read(buffer)) != -1) {
+        os.write(buffer, 0, read);
+      }
+      return os.toByteArray();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      try {
+        is.close();
+      } catch (final IOException e) {
+        // ignore
+      }
+    }
+  }
+
+  /**
+   * Creates a successful JSON response with the given body, as returned by the service.
+   * 
+   * @param body the response body
+   * @return the response
+   */
+  static Response response(byte[] body) {
+    return new Response.Builder().request(REQUEST).protocol(Protocol.HTTP_1_1).code(200)
+        .body(ResponseBody.create(HttpMediaType.JSON, body)).build();
+  }
+}
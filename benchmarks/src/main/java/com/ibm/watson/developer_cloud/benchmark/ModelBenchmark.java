@@ -0,0 +1,136 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Concept;
+import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classification;
+import com.ibm.watson.developer_cloud.personality_insights.v2.model.Profile;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+/**
+ * Benchmarks the {@link com.ibm.watson.developer_cloud.service.model.GenericModel} equals and
+ * hashCode methods and the custom type adapters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelBenchmark {
+
+  private static final String CONCEPT = "{\"text\":\"IBM Watson\",\"relevance\":\"0.9\","
+      + "\"website\":\"http://www.ibm.com/watson\","
+      + "\"dbpedia\":\"http://dbpedia.org/resource/Watson\","
+      + "\"freebase\":\"http://rdf.freebase.com/ns/m.0gmdzx0\","
+      + "\"yago\":\"http://yago-knowledge.org/\"}";
+
+  private static final Type CONCEPT_LIST_TYPE = new TypeToken<List<Concept>>() {}.getType();
+
+  private final Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+  private String concepts;
+  private Classification classification;
+  private Classification classificationCopy;
+  private Profile profile;
+  private Profile profileCopy;
+
+  /**
+   * Loads the models to compare.
+   */
+  @Setup
+  public void setUp() {
+    final String classificationJson =
+        new String(Fixtures.load("natural_language_classifier/classification.json"));
+    classification = gson.fromJson(classificationJson, Classification.class);
+    classificationCopy = gson.fromJson(classificationJson, Classification.class);
+
+    final String profileJson = new String(Fixtures.load("personality_insights/profile.json"));
+    profile = gson.fromJson(profileJson, Profile.class);
+    profileCopy = gson.fromJson(profileJson, Profile.class);
+
+    final List<String> list = new ArrayList<String>();
+    for (int i = 0; i < 50; i++) {
+      list.add(CONCEPT);
+    }
+    concepts = list.toString();
+  }
+
+  /**
+   * Equals on two identical classifications.
+   * 
+   * @return true
+   */
+  @Benchmark
+  public boolean classificationEquals() {
+    return classification.equals(classificationCopy);
+  }
+
+  /**
+   * Hash code of a classification.
+   * 
+   * @return the hash code
+   */
+  @Benchmark
+  public int classificationHashCode() {
+    return classification.hashCode();
+  }
+
+  /**
+   * Parses 50 AlchemyLanguage concepts with the streaming type adapter.
+   * 
+   * @return the concepts
+   */
+  @Benchmark
+  public List<Concept> conceptTypeAdapter() {
+    return gson.fromJson(concepts, CONCEPT_LIST_TYPE);
+  }
+
+  /**
+   * Equals on two identical personality profiles, a deep tree of traits.
+   * 
+   * @return true
+   */
+  @Benchmark
+  public boolean profileEquals() {
+    return profile.equals(profileCopy);
+  }
+
+  /**
+   * Hash code of a personality profile.
+   * 
+   * @return the hash code
+   */
+  @Benchmark
+  public int profileHashCode() {
+    return profile.hashCode();
+  }
+}
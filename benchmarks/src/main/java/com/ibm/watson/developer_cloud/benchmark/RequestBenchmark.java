@@ -0,0 +1,80 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.util.RequestUtil;
+import com.squareup.okhttp.Request;
+
+/**
+ * Benchmarks the creation of the requests sent to the services.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestBenchmark {
+
+  private static final String TEXT =
+      "IBM Watson won the Jeopardy! television show hosted by Alex Trebek & friends.";
+
+  /**
+   * A POST request with query parameters and a JSON body, like most of the service calls.
+   * 
+   * @return the request
+   */
+  @Benchmark
+  public Request build() {
+    return RequestBuilder.post("/v1/classifiers/47C164-nlc-243/classify")
+        .withQuery("version", "2015-12-01", "sentences", true, "text", TEXT)
+        .withBodyContent("{\"text\":\"" + TEXT + "\"}", HttpMediaType.APPLICATION_JSON).build();
+  }
+
+  /**
+   * A GET URL with query parameters that need to be encoded.
+   * 
+   * @return the URL
+   */
+  @Benchmark
+  public String toUrl() {
+    return RequestBuilder.get("/v2/corpora/public/ibmresearcher/conceptual_search")
+        .withQuery("ids", "[\"/graphs/wikipedia/en-20120601/concepts/IBM_Watson\"]", "limit", 10,
+            "cursor", 0).toUrl();
+  }
+
+  /**
+   * URL encoding of free text.
+   * 
+   * @return the encoded text
+   */
+  @Benchmark
+  public String encode() {
+    return RequestUtil.encode(TEXT);
+  }
+}
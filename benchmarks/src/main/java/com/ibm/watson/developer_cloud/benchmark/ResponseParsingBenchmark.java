@@ -0,0 +1,101 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.watson.developer_cloud.document_conversion.v1.model.Answers;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModelList;
+import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classification;
+import com.ibm.watson.developer_cloud.personality_insights.v2.model.Profile;
+import com.ibm.watson.developer_cloud.util.ResponseUtil;
+
+/**
+ * Benchmarks {@link ResponseUtil#getObject} on recorded service responses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseParsingBenchmark {
+
+  private byte[] answers;
+  private byte[] classification;
+  private byte[] models;
+  private byte[] profile;
+
+  /**
+   * Loads the fixtures.
+   */
+  @Setup
+  public void setUp() {
+    answers = Fixtures.load("document_conversion/html-with-extra-content-input-to-answer.json");
+    classification = Fixtures.load("natural_language_classifier/classification.json");
+    models = Fixtures.load("language_translation/models.json");
+    profile = Fixtures.load("personality_insights/profile.json");
+  }
+
+  /**
+   * Parses document conversion answer units.
+   * 
+   * @return the answers
+   */
+  @Benchmark
+  public Answers answers() {
+    return ResponseUtil.getObject(Fixtures.response(answers), Answers.class);
+  }
+
+  /**
+   * Parses a classification, which uses a custom type adapter for its classes.
+   * 
+   * @return the classification
+   */
+  @Benchmark
+  public Classification classification() {
+    return ResponseUtil.getObject(Fixtures.response(classification), Classification.class);
+  }
+
+  /**
+   * Parses a list of translation models.
+   * 
+   * @return the models
+   */
+  @Benchmark
+  public TranslationModelList models() {
+    return ResponseUtil.getObject(Fixtures.response(models), TranslationModelList.class);
+  }
+
+  /**
+   * Parses a personality profile, a deep tree of traits.
+   * 
+   * @return the profile
+   */
+  @Benchmark
+  public Profile profile() {
+    return ResponseUtil.getObject(Fixtures.response(profile), Profile.class);
+  }
+}
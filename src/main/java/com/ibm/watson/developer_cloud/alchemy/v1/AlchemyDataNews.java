@@ -13,13 +13,21 @@
  */
 package com.ibm.watson.developer_cloud.alchemy.v1;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Document;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.DocumentsResult;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.VolumeResult;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.service.AlchemyService;
+import com.ibm.watson.developer_cloud.service.PagedPublisher;
+import com.ibm.watson.developer_cloud.service.Publisher;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.util.Validate;
+import com.squareup.okhttp.Request;
 
 /**
  * AlchemyData News indexes 250k to 300k English language news and blog articles every day with
@@ -56,6 +64,12 @@ public class AlchemyDataNews extends AlchemyService {
    */
   public static final String END = "end";
 
+  /**
+   * The Constant NEXT. the cursor of the next page of documents, returned with each page (value is
+   * "next")
+   */
+  public static final String NEXT = "next";
+
   /** The Constant String NEWS_END_POINT. */
   private static final String NEWS_END_POINT = "/data/GetNews";
 
@@ -80,6 +94,60 @@ public class AlchemyDataNews extends AlchemyService {
    * @return the news documents
    */
   public DocumentsResult getNewsDocuments(Map<String, Object> parameters) {
+    return executeRequest(buildNewsDocumentsRequest(parameters), DocumentsResult.class);
+  }
+
+  /**
+   * Gets the news documents without blocking the calling thread.
+   * 
+   * @param parameters the parameters
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the news documents
+   */
+  public Future<DocumentsResult> getNewsDocumentsAsync(Map<String, Object> parameters,
+      ServiceCallback<DocumentsResult> callback) {
+    return executeRequestAsync(buildNewsDocumentsRequest(parameters), DocumentsResult.class,
+        callback);
+  }
+
+  /**
+   * Gets the news documents as a {@link Publisher}. The pages are fetched as the subscriber
+   * requests documents, following the {@link #NEXT} cursor until all the documents matching the
+   * query have been emitted.
+   * 
+   * @param parameters the parameters
+   * @return a {@link Publisher} of the news documents
+   */
+  public Publisher<Document> getNewsDocumentsPublisher(final Map<String, Object> parameters) {
+    return new PagedPublisher<DocumentsResult, Document>() {
+      @Override
+      protected Future<DocumentsResult> fetch(DocumentsResult previous, int offset,
+          ServiceCallback<DocumentsResult> callback) {
+        final Map<String, Object> pageParameters = new HashMap<String, Object>(parameters);
+        if (previous != null)
+          pageParameters.put(NEXT, previous.getDocuments().getNext());
+        return getNewsDocumentsAsync(pageParameters, callback);
+      }
+
+      @Override
+      protected List<Document> getItems(DocumentsResult page) {
+        return page.getDocuments() != null ? page.getDocuments().getDocuments() : null;
+      }
+
+      @Override
+      protected boolean hasNext(DocumentsResult page, int offset) {
+        return page.getDocuments() != null && page.getDocuments().getNext() != null;
+      }
+    };
+  }
+
+  /**
+   * Builds the news documents request.
+   * 
+   * @param parameters the parameters
+   * @return the request
+   */
+  private Request buildNewsDocumentsRequest(Map<String, Object> parameters) {
     Validate.notNull(parameters.get(START), "start time cannot be null");
     Validate.notNull(parameters.get(END), "end time cannot be null");
     Validate.notNull(parameters.get(RETURN), "return cannot be null");
@@ -95,7 +163,7 @@ public class AlchemyDataNews extends AlchemyService {
       requestBuilder.withQuery(param, parameters.get(param));
     }
 
-    return executeRequest(requestBuilder.build(), DocumentsResult.class);
+    return requestBuilder.build();
   }
 
   /**
@@ -15,6 +15,7 @@
 package com.ibm.watson.developer_cloud.alchemy.v1;
 
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import com.ibm.watson.developer_cloud.alchemy.v1.model.AlchemyGenericModel;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.CombinedResults;
@@ -35,6 +36,8 @@ import com.ibm.watson.developer_cloud.alchemy.v1.util.AlchemyEndPoints;
 import com.ibm.watson.developer_cloud.alchemy.v1.util.AlchemyEndPoints.AlchemyAPI;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.service.AlchemyService;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
+import com.squareup.okhttp.Request;
 
 /**
  * The Alchemy Language service uses offers 12 text analysis services, each of which uses
@@ -87,6 +90,19 @@ public class AlchemyLanguage extends AlchemyService {
    */
   private <T extends AlchemyGenericModel> T executeRequest(Map<String, Object> params,
       AlchemyAPI operation, Class<T> returnType, String... acceptedFormats) {
+    return executeRequest(buildRequest(params, operation, acceptedFormats), returnType);
+  }
+
+  /**
+   * Builds the request for an Alchemy operation.
+   * 
+   * @param params the request parameters
+   * @param operation the alchemy operation
+   * @param acceptedFormats the accepted input formats e.g. "html", "text"...
+   * @return the request
+   */
+  private Request buildRequest(Map<String, Object> params, AlchemyAPI operation,
+      String... acceptedFormats) {
 
     // Get the input format and check for missing parameters
     final String format = getInputFormat(params, acceptedFormats);
@@ -104,7 +120,7 @@ public class AlchemyLanguage extends AlchemyService {
     for (final String param : params.keySet()) {
       requestBuilder.withForm(param, params.get(param));
     }
-    return executeRequest(requestBuilder.build(), returnType);
+    return requestBuilder.build();
   }
 
   /**
@@ -163,6 +179,21 @@ public class AlchemyLanguage extends AlchemyService {
     return executeRequest(params, AlchemyAPI.combined, CombinedResults.class, TEXT, HTML, URL);
   }
 
+  /**
+   * Automatically perform analysis using multiple features on any web page or posted (uploaded)
+   * HTML/text file without blocking the calling thread.
+   * 
+   * @param params The parameters to be used in the service call, text, html or url should be
+   *        specified.
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link CombinedResults}
+   */
+  public Future<CombinedResults> getCombinedResultsAsync(Map<String, Object> params,
+      ServiceCallback<CombinedResults> callback) {
+    return executeRequestAsync(buildRequest(params, AlchemyAPI.combined, TEXT, HTML, URL),
+        CombinedResults.class, callback);
+  }
+
   /**
    * Extracts a grouped, ranked list of named entities (people, companies, organizations, etc.) from
    * text, a URL or HTML.
@@ -175,6 +206,21 @@ public class AlchemyLanguage extends AlchemyService {
     return executeRequest(params, AlchemyAPI.entities, Entities.class, TEXT, HTML, URL);
   }
 
+  /**
+   * Extracts a grouped, ranked list of named entities from text, a URL or HTML without blocking
+   * the calling thread.
+   * 
+   * @param params The parameters to be used in the service call, text, html or url should be
+   *        specified.
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link Entities}
+   */
+  public Future<Entities> getEntitiesAsync(Map<String, Object> params,
+      ServiceCallback<Entities> callback) {
+    return executeRequestAsync(buildRequest(params, AlchemyAPI.entities, TEXT, HTML, URL),
+        Entities.class, callback);
+  }
+
   /**
    * Detects the RSS/ATOM feeds for a URL or HTML.
    * 
@@ -196,6 +242,20 @@ public class AlchemyLanguage extends AlchemyService {
     return executeRequest(params, AlchemyAPI.keywords, Keywords.class, TEXT, HTML, URL);
   }
 
+  /**
+   * Extracts the keywords from text, a URL or HTML without blocking the calling thread.
+   * 
+   * @param params The parameters to be used in the service call, text, html or url should be
+   *        specified.
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link Keywords}
+   */
+  public Future<Keywords> getKeywordsAsync(Map<String, Object> params,
+      ServiceCallback<Keywords> callback) {
+    return executeRequestAsync(buildRequest(params, AlchemyAPI.keywords, TEXT, HTML, URL),
+        Keywords.class, callback);
+  }
+
   /**
    * Detects the language for text, a URL or HTML.
    * 
@@ -17,6 +17,7 @@ import java.io.File;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import com.ibm.watson.developer_cloud.alchemy.v1.model.AlchemyGenericModel;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.ImageFaces;
@@ -27,7 +28,9 @@ import com.ibm.watson.developer_cloud.alchemy.v1.util.AlchemyEndPoints.AlchemyAP
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.service.AlchemyService;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.util.Validate;
+import com.squareup.okhttp.Request;
 import com.squareup.okhttp.RequestBody;
 
 /**
@@ -81,6 +84,17 @@ public class AlchemyVision extends AlchemyService {
    */
   private <T extends AlchemyGenericModel> T executeRequest(Map<String, Object> params,
       AlchemyAPI operation, Class<T> returnType) {
+    return executeRequest(buildRequest(params, operation), returnType);
+  }
+
+  /**
+   * Builds the request for an Alchemy Vision operation.
+   * 
+   * @param params the request parameters
+   * @param operation the alchemy operation
+   * @return the request
+   */
+  private Request buildRequest(Map<String, Object> params, AlchemyAPI operation) {
     final String inputType = getInputFormat(params, IMAGE, URL, HTML);
     final String path = AlchemyEndPoints.getPath(operation, inputType);
 
@@ -114,23 +128,22 @@ public class AlchemyVision extends AlchemyService {
       }
     }
 
-    return executeRequest(requestBuilder.build(), returnType);
+    return requestBuilder.build();
   }
 
   /**
-   * Extracts keywords from an image
+   * Creates the parameters used to extract keywords from an image.
    * 
-   * @param image the image file
+   * @param inputType the input type, image or url
+   * @param input the image file or URL
    * @param forceShowAll Includes lower confidence tags
    * @param knowledgeGraph Include knowledge graph information in the the results.
-   * @return {@link ImageKeywords}
+   * @return the request parameters
    */
-  public ImageKeywords getImageKeywords(File image, Boolean forceShowAll, Boolean knowledgeGraph) {
-    Validate.notNull(image, "image cannot be null");
-    Validate.isTrue(image.exists(), "image file: " + image.getAbsolutePath() + " not found");
-
+  private Map<String, Object> getImageKeywordsParams(String inputType, Object input,
+      Boolean forceShowAll, Boolean knowledgeGraph) {
     final Map<String, Object> params = new HashMap<String, Object>();
-    params.put(IMAGE, image);
+    params.put(inputType, input);
 
     if (forceShowAll != null)
       params.put(FORCE_SHOW_ALL, forceShowAll ? 1 : 0);
@@ -138,9 +151,46 @@ public class AlchemyVision extends AlchemyService {
     if (knowledgeGraph != null)
       params.put(KNOWLEDGE_GRAPH, knowledgeGraph ? 1 : 0);
 
+    return params;
+  }
+
+  /**
+   * Extracts keywords from an image
+   * 
+   * @param image the image file
+   * @param forceShowAll Includes lower confidence tags
+   * @param knowledgeGraph Include knowledge graph information in the the results.
+   * @return {@link ImageKeywords}
+   */
+  public ImageKeywords getImageKeywords(File image, Boolean forceShowAll, Boolean knowledgeGraph) {
+    Validate.notNull(image, "image cannot be null");
+    Validate.isTrue(image.exists(), "image file: " + image.getAbsolutePath() + " not found");
+
+    final Map<String, Object> params =
+        getImageKeywordsParams(IMAGE, image, forceShowAll, knowledgeGraph);
     return executeRequest(params, AlchemyAPI.image_keywords, ImageKeywords.class);
   }
 
+  /**
+   * Extracts keywords from an image without blocking the calling thread.
+   * 
+   * @param image the image file
+   * @param forceShowAll Includes lower confidence tags
+   * @param knowledgeGraph Include knowledge graph information in the the results.
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link ImageKeywords}
+   */
+  public Future<ImageKeywords> getImageKeywordsAsync(File image, Boolean forceShowAll,
+      Boolean knowledgeGraph, ServiceCallback<ImageKeywords> callback) {
+    Validate.notNull(image, "image cannot be null");
+    Validate.isTrue(image.exists(), "image file: " + image.getAbsolutePath() + " not found");
+
+    final Map<String, Object> params =
+        getImageKeywordsParams(IMAGE, image, forceShowAll, knowledgeGraph);
+    return executeRequestAsync(buildRequest(params, AlchemyAPI.image_keywords),
+        ImageKeywords.class, callback);
+  }
+
 
   /**
    * Extracts keywords from a URL.
@@ -153,16 +203,28 @@ public class AlchemyVision extends AlchemyService {
   public ImageKeywords getImageKeywords(URL url, Boolean forceShowAll, Boolean knowledgeGraph) {
     Validate.notNull(url, "url cannot be null");
 
-    final Map<String, Object> params = new HashMap<String, Object>();
-    params.put(URL, url);
-
-    if (forceShowAll != null)
-      params.put(FORCE_SHOW_ALL, forceShowAll ? 1 : 0);
+    final Map<String, Object> params =
+        getImageKeywordsParams(URL, url, forceShowAll, knowledgeGraph);
+    return executeRequest(params, AlchemyAPI.image_keywords, ImageKeywords.class);
+  }
 
-    if (knowledgeGraph != null)
-      params.put(KNOWLEDGE_GRAPH, knowledgeGraph ? 1 : 0);
+  /**
+   * Extracts keywords from a URL without blocking the calling thread.
+   * 
+   * @param url the image URL
+   * @param forceShowAll Includes lower confidence tags
+   * @param knowledgeGraph Include knowledge graph information in the the results.
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link ImageKeywords}
+   */
+  public Future<ImageKeywords> getImageKeywordsAsync(URL url, Boolean forceShowAll,
+      Boolean knowledgeGraph, ServiceCallback<ImageKeywords> callback) {
+    Validate.notNull(url, "url cannot be null");
 
-    return executeRequest(params, AlchemyAPI.image_keywords, ImageKeywords.class);
+    final Map<String, Object> params =
+        getImageKeywordsParams(URL, url, forceShowAll, knowledgeGraph);
+    return executeRequestAsync(buildRequest(params, AlchemyAPI.image_keywords),
+        ImageKeywords.class, callback);
   }
 
   /**
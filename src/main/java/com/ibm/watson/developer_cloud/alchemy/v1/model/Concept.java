@@ -14,13 +14,16 @@
 
 package com.ibm.watson.developer_cloud.alchemy.v1.model;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.ibm.watson.developer_cloud.alchemy.v1.AlchemyLanguage;
+import com.ibm.watson.developer_cloud.alchemy.v1.util.ConceptTypeAdapter;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 
 /**
  * Concept returned by the {@link AlchemyLanguage} service.
  * 
  */
+@JsonAdapter(ConceptTypeAdapter.class)
 public class Concept extends GenericModel {
 
   /**
@@ -16,6 +16,8 @@ package com.ibm.watson.developer_cloud.alchemy.v1.model;
 
 import java.util.List;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.ibm.watson.developer_cloud.alchemy.v1.util.DisambiguatedLinksTypeAdapter;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 
 /**
@@ -25,6 +27,7 @@ import com.ibm.watson.developer_cloud.service.model.GenericModel;
 /**
  * 
  */
+@JsonAdapter(DisambiguatedLinksTypeAdapter.class)
 public class DisambiguatedLinks extends GenericModel {
 
   /**
@@ -15,12 +15,15 @@ package com.ibm.watson.developer_cloud.alchemy.v1.model;
 
 import java.util.List;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.ibm.watson.developer_cloud.alchemy.v1.AlchemyDataNews;
 import com.ibm.watson.developer_cloud.alchemy.v1.AlchemyLanguage;
+import com.ibm.watson.developer_cloud.alchemy.v1.util.EntityTypeAdapter;
 
 /**
  * Entity returned by the {@link AlchemyDataNews} and {@link AlchemyLanguage} service.
  */
+@JsonAdapter(EntityTypeAdapter.class)
 public class Entity extends AlchemyGenericModel {
 
   /** The count. */
@@ -53,7 +56,7 @@ public class Entity extends AlchemyGenericModel {
    * 
    * @return The count
    */
-  public int getCount() {
+  public Integer getCount() {
     return count;
   }
 
@@ -14,12 +14,15 @@
 
 package com.ibm.watson.developer_cloud.alchemy.v1.model;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.ibm.watson.developer_cloud.alchemy.v1.AlchemyLanguage;
+import com.ibm.watson.developer_cloud.alchemy.v1.util.KeywordTypeAdapter;
 
 /**
  * Keyword returned by the {@link AlchemyLanguage} service.
  * 
  */
+@JsonAdapter(KeywordTypeAdapter.class)
 public class Keyword extends AlchemyLanguageGenericModel {
 
   /** The knowledge graph. */
@@ -13,12 +13,15 @@
  */
 package com.ibm.watson.developer_cloud.alchemy.v1.model;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.ibm.watson.developer_cloud.alchemy.v1.AlchemyDataNews;
+import com.ibm.watson.developer_cloud.alchemy.v1.util.KnowledgeGraphTypeAdapter;
 
 /**
  * Entity returned by the {@link AlchemyDataNews} service.
  * 
  */
+@JsonAdapter(KnowledgeGraphTypeAdapter.class)
 public class KnowledgeGraph extends AlchemyGenericModel {
 
   /** The type hierarchy. */
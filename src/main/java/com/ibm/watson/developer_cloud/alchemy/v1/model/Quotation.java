@@ -13,11 +13,14 @@
  */
 package com.ibm.watson.developer_cloud.alchemy.v1.model;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.ibm.watson.developer_cloud.alchemy.v1.util.QuotationTypeAdapter;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 
 /**
  * The Class Quotation.
  */
+@JsonAdapter(QuotationTypeAdapter.class)
 public class Quotation extends GenericModel {
 
   /** The quotation. */
@@ -14,14 +14,17 @@
 
 package com.ibm.watson.developer_cloud.alchemy.v1.model;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 import com.ibm.watson.developer_cloud.alchemy.v1.AlchemyLanguage;
+import com.ibm.watson.developer_cloud.alchemy.v1.util.SentimentTypeAdapter;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 
 /**
  * Sentiment returned by the {@link AlchemyLanguage} service.
  * 
  */
+@JsonAdapter(SentimentTypeAdapter.class)
 public class Sentiment extends GenericModel {
 
   /**
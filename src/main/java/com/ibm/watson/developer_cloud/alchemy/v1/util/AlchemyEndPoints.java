@@ -14,22 +14,15 @@
 
 package com.ibm.watson.developer_cloud.alchemy.v1.util;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonParser;
-
 /**
- * The Class AlchemyEndPoints.
+ * The paths of the Alchemy operations for each input type.
  * 
  */
 public class AlchemyEndPoints {
@@ -97,17 +90,62 @@ public class AlchemyEndPoints {
     publication_date
   }
 
-  /** The file where alchemy endpoints are described. */
-  private static final String filePath = "/alchemy_endpoints.json";
+  private static final String HTML = "html";
+  private static final String IMAGE = "image";
+  private static final String TEXT = "text";
+  private static final String URL = "url";
 
   /** The Constant log. */
   private static final Logger log = Logger.getLogger(AlchemyEndPoints.class.getName());
 
-  /** The alchemy operations. */
-  private static Map<String, Map<String, String>> operations;
+  /** The alchemy operations, paths indexed by input type. */
+  private static final Map<AlchemyAPI, Map<String, String>> operations =
+      new EnumMap<AlchemyAPI, Map<String, String>>(AlchemyAPI.class);
+
+  /** The call name prefix of each input type. */
+  private static final Map<String, String> prefixes = new HashMap<String, String>();
 
   static {
-    loadEndPointsFromJsonFile();
+    prefixes.put(HTML, "HTML");
+    prefixes.put(IMAGE, "Image");
+    prefixes.put(TEXT, "Text");
+    prefixes.put(URL, "URL");
+
+    add(AlchemyAPI.authors, "Authors", URL, HTML);
+    add(AlchemyAPI.combined, "CombinedData", URL, TEXT, HTML);
+    add(AlchemyAPI.concepts, "RankedConcepts", URL, TEXT, HTML);
+    add(AlchemyAPI.entities, "RankedNamedEntities", URL, TEXT, HTML);
+    add(AlchemyAPI.feeds, "FeedLinks", URL, HTML);
+    add(AlchemyAPI.image_keywords, "RankedImageKeywords", URL, IMAGE);
+    add(AlchemyAPI.image_link, "Image", URL, HTML);
+    add(AlchemyAPI.image_recognition, "RankedImageFaceTags", URL, IMAGE);
+    add(AlchemyAPI.keywords, "RankedKeywords", URL, TEXT, HTML);
+    add(AlchemyAPI.language, "Language", URL, TEXT, HTML);
+    add(AlchemyAPI.microformats, "MicroformatData", URL, HTML);
+    add(AlchemyAPI.publication_date, "PubDate", URL, HTML);
+    add(AlchemyAPI.relations, "Relations", URL, TEXT, HTML);
+    add(AlchemyAPI.sentiment, "TextSentiment", URL, TEXT, HTML);
+    add(AlchemyAPI.sentiment_targeted, "TargetedSentiment", URL, TEXT, HTML);
+    add(AlchemyAPI.taxonomy, "RankedTaxonomy", URL, TEXT, HTML);
+    add(AlchemyAPI.text, "Text", URL, HTML);
+    add(AlchemyAPI.text_raw, "RawText", URL, HTML);
+    add(AlchemyAPI.title, "Title", URL, TEXT, HTML);
+  }
+
+  /**
+   * Adds the paths of an operation, e.g. <code>/url/URLGetRankedKeywords</code> and
+   * <code>/text/TextGetRankedKeywords</code> for the <code>RankedKeywords</code> call.
+   * 
+   * @param operation the operation
+   * @param call the name of the call, without the input type prefix
+   * @param inputTypes the input types accepted by the operation
+   */
+  private static void add(AlchemyAPI operation, String call, String... inputTypes) {
+    final Map<String, String> paths = new HashMap<String, String>();
+    for (final String inputType : inputTypes) {
+      paths.put(inputType, "/" + inputType + "/" + prefixes.get(inputType) + "Get" + call);
+    }
+    operations.put(operation, Collections.unmodifiableMap(paths));
   }
 
   /**
@@ -118,58 +156,13 @@ public class AlchemyEndPoints {
    * @return the string that represent the path based on the operation and input type
    */
   public static String getPath(AlchemyAPI operation, String inputType) {
-    if ((operations.get(operation.name()) != null)
-        && operations.get(operation.name()).get(inputType) != null) {
-      return operations.get(operation.name()).get(inputType);
-    } else {
+    final Map<String, String> paths = operations.get(operation);
+    final String path = paths != null ? paths.get(inputType) : null;
+    if (path == null) {
       final String error = "Operation: " + operation + ", inputType: " + inputType + " not found";
       log.log(Level.SEVERE, error);
       throw new IllegalArgumentException(error);
     }
+    return path;
   }
-
-  /**
-   * Load the endpoints from json file.
-   */
-  private static void loadEndPointsFromJsonFile() {
-    log.log(Level.FINE, "Parsing End Points JSON file ");
-    operations = new HashMap<String, Map<String, String>>();
-    final JsonParser parser = new JsonParser();
-
-    Reader fileReader = null;
-    try {
-      final InputStream is = AlchemyEndPoints.class.getResourceAsStream(filePath);
-      if (null != is) {
-        fileReader = new InputStreamReader(is);
-      }
-      final Object obj = parser.parse(fileReader);
-      final JsonObject jsonObject = (JsonObject) obj;
-      for (final AlchemyAPI object : AlchemyAPI.values()) {
-        if (jsonObject.get(object.name()) == null) {
-          continue;
-        }
-        final JsonElement elt = jsonObject.get(object.name()).getAsJsonObject();
-        if (elt.isJsonObject()) {
-          final Map<String, String> records = new HashMap<String, String>();
-          for (final Map.Entry<String, JsonElement> e : elt.getAsJsonObject().entrySet()) {
-            records.put(e.getKey(), e.getValue().getAsString());
-          }
-          operations.put(object.name(), records);
-        }
-      }
-    } catch (final JsonParseException e) {
-      log.log(Level.SEVERE, "Could not parse json file: " + filePath, e);
-    } catch (final NullPointerException e) {
-      log.log(Level.SEVERE, "Not able to locate the end points json file: " + filePath, e);
-    } finally {
-      if (fileReader != null) {
-        try {
-          fileReader.close();
-        } catch (final IOException e) {
-          log.log(Level.SEVERE, "Could not close file reader: " + filePath, e);
-        }
-      }
-    }
-  }
-
 }
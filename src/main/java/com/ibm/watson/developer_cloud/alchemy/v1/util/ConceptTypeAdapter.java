@@ -0,0 +1,126 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Concept;
+
+/**
+ * The Class ConceptTypeAdapter. Parses the {@link Concept}s tagged by AlchemyLanguage without
+ * reflection.
+ */
+public class ConceptTypeAdapter extends TypeAdapter<Concept> {
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public Concept read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+
+    final Concept concept = new Concept();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+
+      if (name.equals("census")) {
+        concept.setCensus(reader.nextString());
+      } else if (name.equals("ciaFactbook")) {
+        concept.setCiaFactbook(reader.nextString());
+      } else if (name.equals("crunchbase")) {
+        concept.setCrunchbase(reader.nextString());
+      } else if (name.equals("dbpedia")) {
+        concept.setDbpedia(reader.nextString());
+      } else if (name.equals("freebase")) {
+        concept.setFreebase(reader.nextString());
+      } else if (name.equals("geo")) {
+        concept.setGeo(reader.nextString());
+      } else if (name.equals("geonames")) {
+        concept.setGeonames(reader.nextString());
+      } else if (name.equals("opencyc")) {
+        concept.setOpencyc(reader.nextString());
+      } else if (name.equals("relevance")) {
+        concept.setRelevance(reader.nextDouble());
+      } else if (name.equals("text")) {
+        concept.setText(reader.nextString());
+      } else if (name.equals("website")) {
+        concept.setWebsite(reader.nextString());
+      } else if (name.equals("yago")) {
+        concept.setYago(reader.nextString());
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return concept;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter writer, Concept value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+      return;
+    }
+
+    writer.beginObject();
+
+    if (value.getCensus() != null)
+      writer.name("census").value(value.getCensus());
+    if (value.getCiaFactbook() != null)
+      writer.name("ciaFactbook").value(value.getCiaFactbook());
+    if (value.getCrunchbase() != null)
+      writer.name("crunchbase").value(value.getCrunchbase());
+    if (value.getDbpedia() != null)
+      writer.name("dbpedia").value(value.getDbpedia());
+    if (value.getFreebase() != null)
+      writer.name("freebase").value(value.getFreebase());
+    if (value.getGeo() != null)
+      writer.name("geo").value(value.getGeo());
+    if (value.getGeonames() != null)
+      writer.name("geonames").value(value.getGeonames());
+    if (value.getOpencyc() != null)
+      writer.name("opencyc").value(value.getOpencyc());
+    if (value.getRelevance() != null)
+      writer.name("relevance").value(value.getRelevance());
+    if (value.getText() != null)
+      writer.name("text").value(value.getText());
+    if (value.getWebsite() != null)
+      writer.name("website").value(value.getWebsite());
+    if (value.getYago() != null)
+      writer.name("yago").value(value.getYago());
+
+    writer.endObject();
+  }
+
+}
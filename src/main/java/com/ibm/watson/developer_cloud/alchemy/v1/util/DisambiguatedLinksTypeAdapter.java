@@ -0,0 +1,145 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.DisambiguatedLinks;
+
+/**
+ * The Class DisambiguatedLinksTypeAdapter. Parses the {@link DisambiguatedLinks} of an entity
+ * without reflection.
+ */
+public class DisambiguatedLinksTypeAdapter extends TypeAdapter<DisambiguatedLinks> {
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public DisambiguatedLinks read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+
+    final DisambiguatedLinks disambiguatedLinks = new DisambiguatedLinks();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+
+      if (name.equals("census")) {
+        disambiguatedLinks.setCensus(reader.nextString());
+      } else if (name.equals("ciaFactbook")) {
+        disambiguatedLinks.setCiaFactbook(reader.nextString());
+      } else if (name.equals("crunchbase")) {
+        disambiguatedLinks.setCrunchbase(reader.nextString());
+      } else if (name.equals("dbpedia")) {
+        disambiguatedLinks.setDbpedia(reader.nextString());
+      } else if (name.equals("freebase")) {
+        disambiguatedLinks.setFreebase(reader.nextString());
+      } else if (name.equals("geo")) {
+        disambiguatedLinks.setGeo(reader.nextString());
+      } else if (name.equals("geonames")) {
+        disambiguatedLinks.setGeonames(reader.nextString());
+      } else if (name.equals("musicBrainz")) {
+        disambiguatedLinks.setMusicBrainz(reader.nextString());
+      } else if (name.equals("name")) {
+        disambiguatedLinks.setName(reader.nextString());
+      } else if (name.equals("opencyc")) {
+        disambiguatedLinks.setOpencyc(reader.nextString());
+      } else if (name.equals("subType")) {
+        final List<String> subType = new ArrayList<String>();
+        reader.beginArray();
+        while (reader.hasNext())
+          subType.add(reader.nextString());
+        reader.endArray();
+        disambiguatedLinks.setSubType(subType);
+      } else if (name.equals("umbel")) {
+        disambiguatedLinks.setUmbel(reader.nextString());
+      } else if (name.equals("website")) {
+        disambiguatedLinks.setWebsite(reader.nextString());
+      } else if (name.equals("yago")) {
+        disambiguatedLinks.setYago(reader.nextString());
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return disambiguatedLinks;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter writer, DisambiguatedLinks value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+      return;
+    }
+
+    writer.beginObject();
+
+    if (value.getCensus() != null)
+      writer.name("census").value(value.getCensus());
+    if (value.getCiaFactbook() != null)
+      writer.name("ciaFactbook").value(value.getCiaFactbook());
+    if (value.getCrunchbase() != null)
+      writer.name("crunchbase").value(value.getCrunchbase());
+    if (value.getDbpedia() != null)
+      writer.name("dbpedia").value(value.getDbpedia());
+    if (value.getFreebase() != null)
+      writer.name("freebase").value(value.getFreebase());
+    if (value.getGeo() != null)
+      writer.name("geo").value(value.getGeo());
+    if (value.getGeonames() != null)
+      writer.name("geonames").value(value.getGeonames());
+    if (value.getMusicBrainz() != null)
+      writer.name("musicBrainz").value(value.getMusicBrainz());
+    if (value.getName() != null)
+      writer.name("name").value(value.getName());
+    if (value.getOpencyc() != null)
+      writer.name("opencyc").value(value.getOpencyc());
+    if (value.getSubType() != null) {
+      writer.name("subType").beginArray();
+      for (final String item : value.getSubType())
+        writer.value(item);
+      writer.endArray();
+    }
+    if (value.getUmbel() != null)
+      writer.name("umbel").value(value.getUmbel());
+    if (value.getWebsite() != null)
+      writer.name("website").value(value.getWebsite());
+    if (value.getYago() != null)
+      writer.name("yago").value(value.getYago());
+
+    writer.endObject();
+  }
+
+}
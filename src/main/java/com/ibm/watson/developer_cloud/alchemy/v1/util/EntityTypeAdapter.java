@@ -0,0 +1,137 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Entity;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Quotation;
+
+/**
+ * The Class EntityTypeAdapter. Parses the {@link Entity} list returned by AlchemyLanguage and
+ * AlchemyData News without reflection.
+ */
+public class EntityTypeAdapter extends TypeAdapter<Entity> {
+
+  private final DisambiguatedLinksTypeAdapter linksAdapter = new DisambiguatedLinksTypeAdapter();
+  private final KnowledgeGraphTypeAdapter knowledgeGraphAdapter = new KnowledgeGraphTypeAdapter();
+  private final QuotationTypeAdapter quotationAdapter = new QuotationTypeAdapter();
+  private final SentimentTypeAdapter sentimentAdapter = new SentimentTypeAdapter();
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public Entity read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+
+    final Entity entity = new Entity();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+
+      if (name.equals("count")) {
+        entity.setCount(reader.nextInt());
+      } else if (name.equals("disambiguated")) {
+        entity.setDisambiguated(linksAdapter.read(reader));
+      } else if (name.equals("knowledgeGraph")) {
+        entity.setKnowledgeGraph(knowledgeGraphAdapter.read(reader));
+      } else if (name.equals("quotations")) {
+        final List<Quotation> quotations = new ArrayList<Quotation>();
+        reader.beginArray();
+        while (reader.hasNext())
+          quotations.add(quotationAdapter.read(reader));
+        reader.endArray();
+        entity.setQuotations(quotations);
+      } else if (name.equals("relevance")) {
+        entity.setRelevance(reader.nextDouble());
+      } else if (name.equals("sentiment")) {
+        entity.setSentiment(sentimentAdapter.read(reader));
+      } else if (name.equals("text")) {
+        entity.setText(reader.nextString());
+      } else if (name.equals("totalTransactions")) {
+        entity.setTotalTransactions(reader.nextInt());
+      } else if (name.equals("type")) {
+        entity.setType(reader.nextString());
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return entity;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter writer, Entity value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+      return;
+    }
+
+    writer.beginObject();
+
+    if (value.getCount() != null)
+      writer.name("count").value(value.getCount());
+    if (value.getDisambiguated() != null) {
+      writer.name("disambiguated");
+      linksAdapter.write(writer, value.getDisambiguated());
+    }
+    if (value.getKnowledgeGraph() != null) {
+      writer.name("knowledgeGraph");
+      knowledgeGraphAdapter.write(writer, value.getKnowledgeGraph());
+    }
+    if (value.getQuotations() != null) {
+      writer.name("quotations").beginArray();
+      for (final Quotation quotation : value.getQuotations())
+        quotationAdapter.write(writer, quotation);
+      writer.endArray();
+    }
+    if (value.getRelevance() != null)
+      writer.name("relevance").value(value.getRelevance());
+    if (value.getSentiment() != null) {
+      writer.name("sentiment");
+      sentimentAdapter.write(writer, value.getSentiment());
+    }
+    if (value.getText() != null)
+      writer.name("text").value(value.getText());
+    if (value.getTotalTransactions() != null)
+      writer.name("totalTransactions").value(value.getTotalTransactions());
+    if (value.getType() != null)
+      writer.name("type").value(value.getType());
+
+    writer.endObject();
+  }
+
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Keyword;
+
+/**
+ * The Class KeywordTypeAdapter. Parses the {@link Keyword} list returned by AlchemyLanguage without
+ * reflection.
+ */
+public class KeywordTypeAdapter extends TypeAdapter<Keyword> {
+
+  private final KnowledgeGraphTypeAdapter knowledgeGraphAdapter = new KnowledgeGraphTypeAdapter();
+  private final SentimentTypeAdapter sentimentAdapter = new SentimentTypeAdapter();
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public Keyword read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+
+    final Keyword keyword = new Keyword();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+
+      if (name.equals("knowledgeGraph")) {
+        keyword.setKnowledgeGraph(knowledgeGraphAdapter.read(reader));
+      } else if (name.equals("language")) {
+        keyword.setLanguage(reader.nextString());
+      } else if (name.equals("relevance")) {
+        keyword.setRelevance(reader.nextDouble());
+      } else if (name.equals("sentiment")) {
+        keyword.setSentiment(sentimentAdapter.read(reader));
+      } else if (name.equals("text")) {
+        keyword.setText(reader.nextString());
+      } else if (name.equals("totalTransactions")) {
+        keyword.setTotalTransactions(reader.nextInt());
+      } else if (name.equals("url")) {
+        keyword.setUrl(reader.nextString());
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return keyword;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter writer, Keyword value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+      return;
+    }
+
+    writer.beginObject();
+
+    if (value.getKnowledgeGraph() != null) {
+      writer.name("knowledgeGraph");
+      knowledgeGraphAdapter.write(writer, value.getKnowledgeGraph());
+    }
+    if (value.getLanguage() != null)
+      writer.name("language").value(value.getLanguage());
+    if (value.getRelevance() != null)
+      writer.name("relevance").value(value.getRelevance());
+    if (value.getSentiment() != null) {
+      writer.name("sentiment");
+      sentimentAdapter.write(writer, value.getSentiment());
+    }
+    if (value.getText() != null)
+      writer.name("text").value(value.getText());
+    if (value.getTotalTransactions() != null)
+      writer.name("totalTransactions").value(value.getTotalTransactions());
+    if (value.getUrl() != null)
+      writer.name("url").value(value.getUrl());
+
+    writer.endObject();
+  }
+
+}
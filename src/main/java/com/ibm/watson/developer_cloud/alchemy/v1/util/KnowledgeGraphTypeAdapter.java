@@ -0,0 +1,86 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.KnowledgeGraph;
+
+/**
+ * The Class KnowledgeGraphTypeAdapter. Parses the {@link KnowledgeGraph} of the entities and
+ * keywords without reflection.
+ */
+public class KnowledgeGraphTypeAdapter extends TypeAdapter<KnowledgeGraph> {
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public KnowledgeGraph read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+
+    final KnowledgeGraph knowledgeGraph = new KnowledgeGraph();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+
+      if (name.equals("totalTransactions")) {
+        knowledgeGraph.setTotalTransactions(reader.nextInt());
+      } else if (name.equals("typeHierarchy")) {
+        knowledgeGraph.setTypeHierarchy(reader.nextString());
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return knowledgeGraph;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter writer, KnowledgeGraph value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+      return;
+    }
+
+    writer.beginObject();
+
+    if (value.getTotalTransactions() != null)
+      writer.name("totalTransactions").value(value.getTotalTransactions());
+    if (value.getTypeHierarchy() != null)
+      writer.name("typeHierarchy").value(value.getTypeHierarchy());
+
+    writer.endObject();
+  }
+
+}
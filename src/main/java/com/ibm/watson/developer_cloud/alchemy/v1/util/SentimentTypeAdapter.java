@@ -0,0 +1,98 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Sentiment;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Sentiment.SentimentType;
+
+/**
+ * The Class SentimentTypeAdapter. Parses the {@link Sentiment}s returned by AlchemyLanguage without
+ * reflection.
+ */
+public class SentimentTypeAdapter extends TypeAdapter<Sentiment> {
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public Sentiment read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+
+    final Sentiment sentiment = new Sentiment();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+
+      if (name.equals("mixed")) {
+        sentiment.setMixed(reader.nextString());
+      } else if (name.equals("score")) {
+        sentiment.setScore(reader.nextDouble());
+      } else if (name.equals("type")) {
+        final String type = reader.nextString();
+        for (final SentimentType sentimentType : SentimentType.values()) {
+          if (sentimentType.name().equalsIgnoreCase(type)) {
+            sentiment.setType(sentimentType);
+            break;
+          }
+        }
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return sentiment;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter writer, Sentiment value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+      return;
+    }
+
+    writer.beginObject();
+
+    if (value.getMixed() != null)
+      writer.name("mixed").value(value.getMixed());
+    if (value.getScore() != null)
+      writer.name("score").value(value.getScore());
+    if (value.getType() != null)
+      writer.name("type").value(value.getType().name().toLowerCase(Locale.ENGLISH));
+
+    writer.endObject();
+  }
+
+}
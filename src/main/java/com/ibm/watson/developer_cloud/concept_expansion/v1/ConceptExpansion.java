@@ -15,6 +15,7 @@ package com.ibm.watson.developer_cloud.concept_expansion.v1;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -26,6 +27,7 @@ import com.ibm.watson.developer_cloud.concept_expansion.v1.model.Dataset;
 import com.ibm.watson.developer_cloud.concept_expansion.v1.model.Job;
 import com.ibm.watson.developer_cloud.concept_expansion.v1.model.Job.Status;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 import com.ibm.watson.developer_cloud.util.Validate;
@@ -76,6 +78,31 @@ public class ConceptExpansion extends WatsonService {
    * @return the {@link Job}
    */
   public Job createJob(final String label, final String[] seeds) {
+    return executeRequest(buildCreateJobRequest(label, seeds), Job.class);
+  }
+
+  /**
+   * Creates a {@link Job} without blocking the calling thread.
+   * 
+   * @param label A conceptual classification of the seed terms.
+   * @param seeds List of terms to be used as seeds
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link Job}
+   * @see #createJob(String, String[])
+   */
+  public Future<Job> createJobAsync(final String label, final String[] seeds,
+      final ServiceCallback<Job> callback) {
+    return executeRequestAsync(buildCreateJobRequest(label, seeds), Job.class, callback);
+  }
+
+  /**
+   * Builds the create job request.
+   * 
+   * @param label A conceptual classification of the seed terms.
+   * @param seeds List of terms to be used as seeds
+   * @return the request
+   */
+  private Request buildCreateJobRequest(final String label, final String[] seeds) {
     Validate.notEmpty(label, "label cannot be null or empty");
     Validate.notEmpty(seeds, "seeds cannot be null or empty");
     Validate.notNull(dataset, "dataset cannot be null");
@@ -90,8 +117,7 @@ public class ConceptExpansion extends WatsonService {
     payload.addProperty(DATASET, dataset.getId());
     payload.add(SEEDS, seedJsonArray);
 
-    final Request request = RequestBuilder.post(V1_UPLOAD).withBodyJson(payload).build();
-    return executeRequest(request, Job.class);
+    return RequestBuilder.post(V1_UPLOAD).withBodyJson(payload).build();
   }
 
   /**
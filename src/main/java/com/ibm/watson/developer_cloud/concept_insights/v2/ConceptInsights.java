@@ -13,9 +13,11 @@
  */
 package com.ibm.watson.developer_cloud.concept_insights.v2;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -43,6 +45,9 @@ import com.ibm.watson.developer_cloud.concept_insights.v2.util.IDHelper;
 import com.ibm.watson.developer_cloud.http.HttpHeaders;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.PagedPublisher;
+import com.ibm.watson.developer_cloud.service.Publisher;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
@@ -117,6 +122,12 @@ public class ConceptInsights extends WatsonService {
    */
   public static final String CURSOR = "cursor";
 
+  /**
+   * The number of documents fetched per page by {@link #listDocumentsPublisher(Corpus, Map)} when
+   * the limit is not specified.
+   */
+  private static final int DEFAULT_PAGE_SIZE = 100;
+
   /**
    * The Constant DOCUMENT_FIELDS. (value is "document_fields")
    */
@@ -192,6 +203,18 @@ public class ConceptInsights extends WatsonService {
    */
   private static final String URL = "https://gateway.watsonplatform.net/concept-insights/api";
 
+  /**
+   * The collections whose identifiers span two path segments, the account and the name (e.g.
+   * <code>/graphs/wikipedia/en-20120601</code>).
+   */
+  private static final List<String> TWO_SEGMENT_IDS = Arrays.asList("corpora", "graphs");
+
+  /**
+   * The collections whose identifiers are a single path segment (e.g.
+   * <code>/concepts/IBM_Watson</code>).
+   */
+  private static final List<String> ONE_SEGMENT_IDS = Arrays.asList("concepts", "documents");
+
   /** The account id. */
   private String accountId = null;
 
@@ -212,16 +235,39 @@ public class ConceptInsights extends WatsonService {
    * @return {@link Annotations}
    */
   public Annotations annotateText(final Graph graph, final String text) {
+    final Response response = execute(buildAnnotateTextRequest(graph, text));
+    return ResponseUtil.getObject(response, Annotations.class);
+  }
+
+  /**
+   * Identifies concepts in a piece of text without blocking the calling thread. The account id is
+   * retrieved synchronously the first time if the graph does not specify it.
+   * 
+   * @param graph - The graph object.
+   * @param text - The text to annotate.
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link Annotations}
+   */
+  public Future<Annotations> annotateTextAsync(final Graph graph, final String text,
+      final ServiceCallback<Annotations> callback) {
+    return executeRequestAsync(buildAnnotateTextRequest(graph, text), Annotations.class, callback);
+  }
+
+  /**
+   * Builds the annotate text request.
+   * 
+   * @param graph - The graph object.
+   * @param text - The text to annotate.
+   * @return the request
+   */
+  private Request buildAnnotateTextRequest(final Graph graph, final String text) {
     final String graphId = IDHelper.getGraphId(graph, getAccountId());
     Validate.notEmpty(text, "text cannot be empty");
 
-    final Request request =
-        RequestBuilder.post(API_VERSION + graphId + ANNOTATE_TEXT_PATH)
-            .withBodyContent(text, HttpMediaType.TEXT_PLAIN)
-            .withHeader(HttpHeaders.ACCEPT, HttpMediaType.APPLICATION_JSON).build();
-
-    final Response response = execute(request);
-    return ResponseUtil.getObject(response, Annotations.class);
+    final String path = API_VERSION + graphId + ANNOTATE_TEXT_PATH;
+    return RequestBuilder.post(path).withPathTemplate(toPathTemplate(path))
+        .withBodyContent(text, HttpMediaType.TEXT_PLAIN)
+        .withHeader(HttpHeaders.ACCEPT, HttpMediaType.APPLICATION_JSON).build();
   }
 
   /**
@@ -286,7 +332,9 @@ public class ConceptInsights extends WatsonService {
     final Request request =
         RequestBuilder
             .put(API_VERSION + corpusId)
-            .withBodyContent(GsonSingleton.getGson().toJson(corpus), HttpMediaType.APPLICATION_JSON)
+            .withPathTemplate(toPathTemplate(API_VERSION + corpusId))
+            .withBodyContent(GsonSingleton.getGsonWithoutPrettyPrinting().toJson(corpus),
+                HttpMediaType.APPLICATION_JSON)
             .build();
     executeWithoutResponse(request);
   }
@@ -301,7 +349,8 @@ public class ConceptInsights extends WatsonService {
     final Request request =
         RequestBuilder
             .put(API_VERSION + document.getId())
-            .withBodyContent(GsonSingleton.getGson().toJson(document),
+            .withPathTemplate(toPathTemplate(API_VERSION + document.getId()))
+            .withBodyContent(GsonSingleton.getGsonWithoutPrettyPrinting().toJson(document),
                 HttpMediaType.APPLICATION_JSON).build();
 
     executeWithoutResponse(request);
@@ -314,7 +363,9 @@ public class ConceptInsights extends WatsonService {
    */
   public void deleteCorpus(final Corpus corpus) {
     final String corpusId = IDHelper.getCorpusId(corpus, getAccountId());
-    final Request request = RequestBuilder.delete(API_VERSION + corpusId).build();
+    final String path = API_VERSION + corpusId;
+    final Request request =
+        RequestBuilder.delete(path).withPathTemplate(toPathTemplate(path)).build();
     executeWithoutResponse(request);
   }
 
@@ -326,7 +377,9 @@ public class ConceptInsights extends WatsonService {
 
   public void deleteDocument(final Document document) {
     IDHelper.getDocumentId(document);
-    final Request request = RequestBuilder.delete(API_VERSION + document.getId()).build();
+    final String path = API_VERSION + document.getId();
+    final Request request =
+        RequestBuilder.delete(path).withPathTemplate(toPathTemplate(path)).build();
     executeWithoutResponse(request);
   }
 
@@ -341,13 +394,55 @@ public class ConceptInsights extends WatsonService {
    */
   private <T extends GenericModel> T executeRequest(final String resourcePath,
       final Map<String, Object> queryParams, final Class<T> returnType) {
-    final RequestBuilder requestBuilder = RequestBuilder.get(resourcePath);
+    return executeRequest(buildGetRequest(resourcePath, queryParams), returnType);
+  }
+
+  /**
+   * Builds a GET request.
+   * 
+   * @param resourcePath the resource path
+   * @param queryParams the query parameters
+   * @return the request
+   */
+  private Request buildGetRequest(final String resourcePath,
+      final Map<String, Object> queryParams) {
+    final RequestBuilder requestBuilder =
+        RequestBuilder.get(resourcePath).withPathTemplate(toPathTemplate(resourcePath));
     if (queryParams != null && !queryParams.isEmpty()) {
       for (final Map.Entry<String, Object> entry : queryParams.entrySet()) {
         requestBuilder.withQuery(entry.getKey(), entry.getValue());
       }
     }
-    return executeRequest(requestBuilder.build(), returnType);
+    return requestBuilder.build();
+  }
+
+  /**
+   * Gets the path template of a resource path. The identifiers of accounts, graphs, corpora,
+   * concepts and documents are replaced by <code>{id}</code>; most of them contain no digit, so the
+   * template cannot be derived from the path alone.
+   * 
+   * @param resourcePath the resource path
+   * @return the path template
+   */
+  private static String toPathTemplate(String resourcePath) {
+    final StringBuilder template = new StringBuilder(resourcePath.length());
+    int ids = 0;
+    for (final String segment : resourcePath.split(FORWARD_SLASH)) {
+      if (segment.isEmpty())
+        continue;
+      template.append(FORWARD_SLASH);
+      if (ids > 0) {
+        template.append("{id}");
+        ids--;
+      } else {
+        template.append(segment);
+        if (TWO_SEGMENT_IDS.contains(segment))
+          ids = 2;
+        else if (ONE_SEGMENT_IDS.contains(segment))
+          ids = 1;
+      }
+    }
+    return template.toString();
   }
 
   /**
@@ -709,6 +804,75 @@ public class ConceptInsights extends WatsonService {
    * @return {@link Documents}
    */
   public Documents listDocuments(final Corpus corpus, final Map<String, Object> parameters) {
+    return executeRequest(buildListDocumentsRequest(corpus, parameters), Documents.class);
+  }
+
+  /**
+   * Retrieves the document ids of a corpus without blocking the calling thread.
+   * 
+   * @param corpus the corpus
+   * @param parameters the parameters to be used in the service call
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link Documents}
+   * @see #listDocuments(Corpus, Map)
+   */
+  public Future<Documents> listDocumentsAsync(final Corpus corpus,
+      final Map<String, Object> parameters, final ServiceCallback<Documents> callback) {
+    return executeRequestAsync(buildListDocumentsRequest(corpus, parameters), Documents.class,
+        callback);
+  }
+
+  /**
+   * Retrieves the document ids of a corpus as a {@link Publisher}. The pages are fetched as the
+   * subscriber requests ids, moving the cursor forward by the number of ids received until a page
+   * has fewer ids than the limit.
+   * 
+   * @param corpus the corpus
+   * @param parameters the parameters to be used in the service call. The limit is the page size,
+   *        100 if not specified.
+   * @return a {@link Publisher} of the document ids
+   * @see #listDocuments(Corpus, Map)
+   */
+  public Publisher<String> listDocumentsPublisher(final Corpus corpus,
+      final Map<String, Object> parameters) {
+    final int cursor =
+        parameters.get(CURSOR) != null ? ((Number) parameters.get(CURSOR)).intValue() : 0;
+    final int limit =
+        parameters.get(LIMIT) != null ? ((Number) parameters.get(LIMIT)).intValue()
+            : DEFAULT_PAGE_SIZE;
+    Validate.isTrue(limit > 0, "limit must be greater than 0");
+
+    return new PagedPublisher<Documents, String>() {
+      @Override
+      protected Future<Documents> fetch(Documents previous, int offset,
+          ServiceCallback<Documents> callback) {
+        final Map<String, Object> pageParameters = new HashMap<String, Object>(parameters);
+        pageParameters.put(CURSOR, cursor + offset);
+        pageParameters.put(LIMIT, limit);
+        return listDocumentsAsync(corpus, pageParameters, callback);
+      }
+
+      @Override
+      protected List<String> getItems(Documents page) {
+        return page.getDocuments();
+      }
+
+      @Override
+      protected boolean hasNext(Documents page, int offset) {
+        return page.getDocuments() != null && page.getDocuments().size() == limit;
+      }
+    };
+  }
+
+  /**
+   * Builds the list documents request.
+   * 
+   * @param corpus the corpus
+   * @param parameters the parameters to be used in the service call
+   * @return the request
+   */
+  private Request buildListDocumentsRequest(final Corpus corpus,
+      final Map<String, Object> parameters) {
     final String corpusId = IDHelper.getCorpusId(corpus, getAccountId());
 
     final Map<String, Object> queryParameters = new HashMap<String, Object>();
@@ -724,7 +888,7 @@ public class ConceptInsights extends WatsonService {
       queryParameters.put(QUERY, parameters.get(QUERY));
     }
 
-    return executeRequest(API_VERSION + corpusId + DOCUMENTS_PATH, queryParameters, Documents.class);
+    return buildGetRequest(API_VERSION + corpusId + DOCUMENTS_PATH, queryParameters);
   }
 
   /**
@@ -825,7 +989,9 @@ public class ConceptInsights extends WatsonService {
     final Request request =
         RequestBuilder
             .post(API_VERSION + corpusId)
-            .withBodyContent(GsonSingleton.getGson().toJson(corpus), HttpMediaType.APPLICATION_JSON)
+            .withPathTemplate(toPathTemplate(API_VERSION + corpusId))
+            .withBodyContent(GsonSingleton.getGsonWithoutPrettyPrinting().toJson(corpus),
+                HttpMediaType.APPLICATION_JSON)
             .build();
     executeWithoutResponse(request);
   }
@@ -840,7 +1006,8 @@ public class ConceptInsights extends WatsonService {
     final Request request =
         RequestBuilder
             .post(API_VERSION + documentId)
-            .withBodyContent(GsonSingleton.getGson().toJson(document),
+            .withPathTemplate(toPathTemplate(API_VERSION + documentId))
+            .withBodyContent(GsonSingleton.getGsonWithoutPrettyPrinting().toJson(document),
                 HttpMediaType.APPLICATION_JSON).build();
     executeWithoutResponse(request);
   }
@@ -13,7 +13,9 @@
  */
 package com.ibm.watson.developer_cloud.concept_insights.v2.model;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.ibm.watson.developer_cloud.concept_insights.v2.ConceptInsights;
+import com.ibm.watson.developer_cloud.concept_insights.v2.util.ConceptTypeAdapter;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 import com.ibm.watson.developer_cloud.util.Validate;
 
@@ -21,6 +23,7 @@ import com.ibm.watson.developer_cloud.util.Validate;
  * Concept returned by the {@link ConceptInsights} service.
  * 
  */
+@JsonAdapter(ConceptTypeAdapter.class)
 public class Concept extends GenericModel {
 
   /** The id. */
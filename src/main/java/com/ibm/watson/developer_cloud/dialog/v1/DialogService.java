@@ -21,6 +21,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import com.google.gson.JsonObject;
@@ -32,9 +33,14 @@ import com.ibm.watson.developer_cloud.dialog.v1.model.DialogContent;
 import com.ibm.watson.developer_cloud.dialog.v1.model.NameValue;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.PagedPublisher;
+import com.ibm.watson.developer_cloud.service.Publisher;
+import com.ibm.watson.developer_cloud.service.ResponseConverter;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
+import com.ibm.watson.developer_cloud.util.Validate;
 import com.squareup.okhttp.MultipartBuilder;
 import com.squareup.okhttp.Request;
 import com.squareup.okhttp.RequestBody;
@@ -68,6 +74,12 @@ public class DialogService extends WatsonService {
   /** The Constant DATE_TO. */
   public static final String DATE_TO = "date_to";
 
+  /**
+   * The number of conversations fetched per page by {@link #getConversationDataPublisher(Map)} when
+   * the limit is not specified.
+   */
+  private static final int DEFAULT_PAGE_SIZE = 100;
+
   /** The Constant DIALOG_ID. */
   public static final String DIALOG_ID = "dialog_id";
 
@@ -150,7 +162,41 @@ public class DialogService extends WatsonService {
    * @return the {@link Conversation} with the response
    */
   public Conversation converse(final Map<String, Object> params) {
+    final String dialogId = (String) params.get(DIALOG_ID);
+    final Conversation conversation =
+        executeRequest(buildConverseRequest(params), Conversation.class);
+    conversation.setDialogId(dialogId);
+    return conversation;
+  }
 
+  /**
+   * Starts or continue conversations without blocking the calling thread.
+   * 
+   * @param params the params
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link Conversation}
+   * @see #converse(Map)
+   */
+  public Future<Conversation> converseAsync(final Map<String, Object> params,
+      final ServiceCallback<Conversation> callback) {
+    final String dialogId = (String) params.get(DIALOG_ID);
+    return executeAsync(buildConverseRequest(params), new ResponseConverter<Conversation>() {
+      @Override
+      public Conversation convert(Response response) {
+        final Conversation conversation = ResponseUtil.getObject(response, Conversation.class);
+        conversation.setDialogId(dialogId);
+        return conversation;
+      }
+    }, callback);
+  }
+
+  /**
+   * Builds the converse request.
+   * 
+   * @param params the params
+   * @return the request
+   */
+  private Request buildConverseRequest(final Map<String, Object> params) {
     final String dialogId = (String) params.get(DIALOG_ID);
     final String input = (String) params.get(INPUT);
     final Integer clientId = (Integer) params.get(CLIENT_ID);
@@ -166,15 +212,8 @@ public class DialogService extends WatsonService {
       log.info("Creating a new client id with for dialog: " + dialogId);
     }
 
-    final String path = String.format(PATH_DIALOG_CONVERSATION, dialogId);
-
-    final Request request =
-        RequestBuilder.post(path)
-            .withForm(CONVERSATION_ID, conversationId, CLIENT_ID, clientId, INPUT, input).build();
-
-    final Conversation conversation = executeRequest(request, Conversation.class);
-    conversation.setDialogId(dialogId);
-    return conversation;
+    return RequestBuilder.post(PATH_DIALOG_CONVERSATION, dialogId)
+        .withForm(CONVERSATION_ID, conversationId, CLIENT_ID, clientId, INPUT, input).build();
   }
 
   /**
@@ -226,7 +265,7 @@ public class DialogService extends WatsonService {
     if (dialogId == null || dialogId.isEmpty())
       throw new IllegalArgumentException("dialogId cannot be null or empty");
 
-    final Request request = RequestBuilder.delete(String.format(PATH_DIALOG, dialogId)).build();
+    final Request request = RequestBuilder.delete(PATH_DIALOG, dialogId).build();
     executeWithoutResponse(request);
   }
 
@@ -241,12 +280,13 @@ public class DialogService extends WatsonService {
       throw new IllegalArgumentException("dialogId cannot be null or empty");
 
     final Request request =
-        RequestBuilder.get(String.format(PATH_DIALOG_CONTENT, dialogId)).build();
+        RequestBuilder.get(PATH_DIALOG_CONTENT, dialogId).build();
 
     final Response response = execute(request);
     final JsonObject jsonObject = ResponseUtil.getJsonObject(response);
     final List<DialogContent> content =
-        GsonSingleton.getGson().fromJson(jsonObject.get("items"), listDialogContentType);
+        GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(jsonObject.get("items"),
+            listDialogContentType);
     return content;
   }
 
@@ -257,6 +297,87 @@ public class DialogService extends WatsonService {
    * @return A list of {@link ConversationData}
    */
   public List<ConversationData> getConversationData(final Map<String, Object> params) {
+    return getConversationData(execute(buildConversationDataRequest(params)));
+  }
+
+  /**
+   * Returns chat session data dump for a given date rage without blocking the calling thread.
+   * 
+   * @param params the params
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the list of {@link ConversationData}
+   * @see #getConversationData(Map)
+   */
+  public Future<List<ConversationData>> getConversationDataAsync(final Map<String, Object> params,
+      final ServiceCallback<List<ConversationData>> callback) {
+    return executeAsync(buildConversationDataRequest(params),
+        new ResponseConverter<List<ConversationData>>() {
+          @Override
+          public List<ConversationData> convert(Response response) {
+            return getConversationData(response);
+          }
+        }, callback);
+  }
+
+  /**
+   * Returns chat session data dump for a given date rage as a {@link Publisher}. The pages are
+   * fetched as the subscriber requests conversations, moving the offset forward by the number of
+   * conversations received until a page has fewer conversations than the limit.
+   * 
+   * @param params the params. The limit is the page size, 100 if not specified.
+   * @return a {@link Publisher} of {@link ConversationData}
+   * @see #getConversationData(Map)
+   */
+  public Publisher<ConversationData> getConversationDataPublisher(
+      final Map<String, Object> params) {
+    final int start = params.get(OFFSET) != null ? ((Number) params.get(OFFSET)).intValue() : 0;
+    final int limit =
+        params.get(LIMIT) != null ? ((Number) params.get(LIMIT)).intValue() : DEFAULT_PAGE_SIZE;
+    Validate.isTrue(limit > 0, "limit must be greater than 0");
+
+    return new PagedPublisher<List<ConversationData>, ConversationData>() {
+      @Override
+      protected Future<List<ConversationData>> fetch(List<ConversationData> previous, int offset,
+          ServiceCallback<List<ConversationData>> callback) {
+        final Map<String, Object> pageParams = new HashMap<String, Object>(params);
+        pageParams.put(OFFSET, start + offset);
+        pageParams.put(LIMIT, limit);
+        return getConversationDataAsync(pageParams, callback);
+      }
+
+      @Override
+      protected List<ConversationData> getItems(List<ConversationData> page) {
+        return page;
+      }
+
+      @Override
+      protected boolean hasNext(List<ConversationData> page, int offset) {
+        return page.size() == limit;
+      }
+    };
+  }
+
+  /**
+   * Parses the conversation data of a response.
+   * 
+   * @param response the response
+   * @return A list of {@link ConversationData}
+   */
+  private List<ConversationData> getConversationData(Response response) {
+    final JsonObject jsonObject = ResponseUtil.getJsonObject(response);
+    final List<ConversationData> conversationDataList =
+        GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(jsonObject.get(CONVERSATIONS),
+            listConversationDataType);
+    return conversationDataList;
+  }
+
+  /**
+   * Builds the conversation data request.
+   * 
+   * @param params the params
+   * @return the request
+   */
+  private Request buildConversationDataRequest(final Map<String, Object> params) {
     final String dialogId = (String) params.get(DIALOG_ID);
 
     final Date from = (Date) params.get(DATE_FROM);
@@ -280,23 +401,16 @@ public class DialogService extends WatsonService {
     final String fromString = sdfDate.format(from);
     final String toString = sdfDate.format(to);
 
-    final String path = String.format(PATH_DIALOG_CONVERSATION, dialogId);
-
     final RequestBuilder requestBuilder =
-        RequestBuilder.get(path).withQuery(DATE_FROM, fromString, DATE_TO, toString);
+        RequestBuilder.get(PATH_DIALOG_CONVERSATION, dialogId).withQuery(DATE_FROM, fromString,
+            DATE_TO, toString);
 
     if (offset != null)
       requestBuilder.withQuery(OFFSET, offset);
     if (limit != null)
       requestBuilder.withQuery(LIMIT, limit);
 
-    final Request request = requestBuilder.build();
-
-    final Response response = execute(request);
-    final JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-    final List<ConversationData> conversationDataList =
-        GsonSingleton.getGson().fromJson(jsonObject.get(CONVERSATIONS), listConversationDataType);
-    return conversationDataList;
+    return requestBuilder.build();
   }
 
   /**
@@ -310,7 +424,8 @@ public class DialogService extends WatsonService {
     final Response response = execute(request);
     final JsonObject jsonObject = ResponseUtil.getJsonObject(response);
     final List<Dialog> dialogs =
-        GsonSingleton.getGson().fromJson(jsonObject.get("dialogs"), listDialogType);
+        GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(jsonObject.get("dialogs"),
+            listDialogType);
     return dialogs;
   }
 
@@ -330,7 +445,7 @@ public class DialogService extends WatsonService {
       throw new IllegalArgumentException("clientId cannot be null");
 
     final RequestBuilder requestbuilder =
-        RequestBuilder.get(String.format(PATH_PROFILE, dialogId)).withQuery(CLIENT_ID, clientId);
+        RequestBuilder.get(PATH_PROFILE, dialogId).withQuery(CLIENT_ID, clientId);
 
     if (names != null) {
       for (final String name : names) {
@@ -342,7 +457,8 @@ public class DialogService extends WatsonService {
     final Response response = execute(request);
     final JsonObject jsonObject = ResponseUtil.getJsonObject(response);
     final List<NameValue> nameValues =
-        GsonSingleton.getGson().fromJson(jsonObject.get(NAME_VALUES), listNameValueType);
+        GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(jsonObject.get(NAME_VALUES),
+            listNameValueType);
 
     return fromNameValues(nameValues);
   }
@@ -384,7 +500,7 @@ public class DialogService extends WatsonService {
                 RequestBody.create(HttpMediaType.BINARY_FILE, dialogFile)).build();
 
     final Request request =
-        RequestBuilder.put(String.format(PATH_DIALOG, dialogId)).withBody(body).build();
+        RequestBuilder.put(PATH_DIALOG, dialogId).withBody(body).build();
 
     executeWithoutResponse(request);
     final Dialog dialog = new Dialog().withDialogId(dialogId);
@@ -410,10 +526,11 @@ public class DialogService extends WatsonService {
     if (clientId != null)
       contentJson.addProperty(CLIENT_ID, clientId);
 
-    contentJson.add(NAME_VALUES, GsonSingleton.getGson().toJsonTree(toNameValue(profile)));
+    contentJson.add(NAME_VALUES,
+        GsonSingleton.getGsonWithoutPrettyPrinting().toJsonTree(toNameValue(profile)));
 
     final Request request =
-        RequestBuilder.put(String.format(PATH_PROFILE, dialogId)).withBodyJson(contentJson).build();
+        RequestBuilder.put(PATH_PROFILE, dialogId).withBodyJson(contentJson).build();
     executeWithoutResponse(request);
   }
 
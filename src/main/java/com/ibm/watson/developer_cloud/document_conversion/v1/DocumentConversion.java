@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,8 +34,8 @@ import com.ibm.watson.developer_cloud.document_conversion.v1.util.ConversionUtil
 import com.ibm.watson.developer_cloud.http.HttpHeaders;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 import com.squareup.okhttp.Headers;
 import com.squareup.okhttp.MediaType;
@@ -101,6 +102,23 @@ public class DocumentConversion extends WatsonService {
    */
   private InputStream convertDocument(final File document, final String mediaType,
       final ConversionTarget conversionTarget, final JsonObject customConfig) {
+    final Request request =
+        buildConvertDocumentRequest(document, mediaType, conversionTarget, customConfig);
+    final Response response = execute(request);
+    return ResponseUtil.getInputStream(response);
+  }
+
+  /**
+   * Builds the request to convert a document.
+   * 
+   * @param document The file to convert
+   * @param mediaType Internet media type of the file
+   * @param conversionTarget The conversion target to use
+   * @param customConfig The additional config params to use
+   * @return the request
+   */
+  private Request buildConvertDocumentRequest(final File document, final String mediaType,
+      final ConversionTarget conversionTarget, final JsonObject customConfig) {
 
     if (document == null || !document.exists())
       throw new IllegalArgumentException("document cannot be null and must exist");
@@ -133,12 +151,8 @@ public class DocumentConversion extends WatsonService {
             .addPart(Headers.of(HttpHeaders.CONTENT_DISPOSITION, "form-data; name=\"file\""),
                 RequestBody.create(mType, document)).build();
 
-    final Request request =
-        RequestBuilder.post(CONVERT_DOCUMENT_PATH).withQuery(VERSION, versionDate).withBody(body)
-            .build();
-
-    final Response response = execute(request);
-    return ResponseUtil.getInputStream(response);
+    return RequestBuilder.post(CONVERT_DOCUMENT_PATH).withQuery(VERSION, versionDate)
+        .withBody(body).build();
   }
 
   /**
@@ -175,9 +189,27 @@ public class DocumentConversion extends WatsonService {
    * @return converted document as {@link String}
    */
   public Answers convertDocumentToAnswer(File document, String mediaType, JsonObject customConfig) {
-    final InputStream is = convertDocument(document, mediaType, ANSWER_UNITS, customConfig);
-    final String convertedDocument = responseToString(is);
-    return GsonSingleton.getGson().fromJson(convertedDocument, Answers.class);
+    final Request request =
+        buildConvertDocumentRequest(document, mediaType, ANSWER_UNITS, customConfig);
+    return executeRequest(request, Answers.class);
+  }
+
+  /**
+   * Converts a document to Answer Units using a custom configuration without blocking the calling
+   * thread.
+   * 
+   * @param document the document
+   * @param mediaType the document media type. It will use the file extension if not provided.
+   * @param customConfig a config used to customize the conversion
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the converted document as {@link Answers}
+   * @see #convertDocumentToAnswer(File, String, JsonObject)
+   */
+  public Future<Answers> convertDocumentToAnswerAsync(File document, String mediaType,
+      JsonObject customConfig, ServiceCallback<Answers> callback) {
+    final Request request =
+        buildConvertDocumentRequest(document, mediaType, ANSWER_UNITS, customConfig);
+    return executeRequestAsync(request, Answers.class, callback);
   }
 
   /**
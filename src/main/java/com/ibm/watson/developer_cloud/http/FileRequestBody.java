@@ -0,0 +1,118 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.internal.Util;
+
+/**
+ * RequestBody that streams a {@link File}, or a region of it, with its exact length. The file is
+ * opened each time the body is written, so the request can be sent again (e.g. when it is retried)
+ * and no stream is left open when it is not sent.
+ */
+public class FileRequestBody extends RequestBody {
+
+  private final File file;
+  private final long length;
+  private final MediaType mediaType;
+  private final long offset;
+
+  /**
+   * Creates the {@link RequestBody} from a {@link File}.
+   * 
+   * @param mediaType the media type
+   * @param file the file
+   * @return the request body
+   */
+  public static RequestBody create(final MediaType mediaType, final File file) {
+    if (file == null)
+      throw new IllegalArgumentException("file cannot be null");
+    return new FileRequestBody(mediaType, file, 0, file.length());
+  }
+
+  /**
+   * Creates the {@link RequestBody} from a region of a {@link File}, e.g. to upload a large file in
+   * parts.
+   * 
+   * @param mediaType the media type
+   * @param file the file
+   * @param offset the position of the first byte to send
+   * @param length the number of bytes to send
+   * @return the request body
+   */
+  public static RequestBody create(final MediaType mediaType, final File file, final long offset,
+      final long length) {
+    if (file == null)
+      throw new IllegalArgumentException("file cannot be null");
+    if (offset < 0 || length < 0)
+      throw new IllegalArgumentException("offset and length cannot be negative");
+    return new FileRequestBody(mediaType, file, offset, length);
+  }
+
+  private FileRequestBody(MediaType mediaType, File file, long offset, long length) {
+    this.mediaType = mediaType;
+    this.file = file;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.RequestBody#contentLength()
+   */
+  @Override
+  public long contentLength() {
+    return length;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.RequestBody#contentType()
+   */
+  @Override
+  public MediaType contentType() {
+    return mediaType;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.RequestBody#writeTo(okio.BufferedSink)
+   */
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    final FileInputStream inputStream = new FileInputStream(file);
+    Source source = null;
+    try {
+      // position the channel rather than skipping through the stream
+      inputStream.getChannel().position(offset);
+      source = Okio.source(inputStream);
+      sink.write(source, length);
+    } finally {
+      Util.closeQuietly(source);
+      Util.closeQuietly(inputStream);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.Dispatcher;
+import com.squareup.okhttp.OkHttpClient;
+
+/**
+ * HTTP transport shared by the Watson services. It owns a single {@link ConnectionPool},
+ * {@link Dispatcher} and {@link SSLSocketFactory} so that every service created from it reuses the
+ * same connections and TLS sessions. Services get their own {@link OkHttpClient} from
+ * {@link #newClient()}, which shares those resources but keeps its own configuration (e.g. cookie
+ * handler).
+ * 
+ * <pre>
+ * HttpTransport transport = new HttpTransport(new HttpTransportOptions().maxRequestsPerHost(20));
+ * 
+ * NaturalLanguageClassifier classifier = new NaturalLanguageClassifier();
+ * classifier.setHttpTransport(transport);
+ * LanguageTranslation translation = new LanguageTranslation();
+ * translation.setHttpTransport(transport);
+ * </pre>
+ */
+public class HttpTransport {
+
+  private static HttpTransport defaultTransport;
+
+  private final OkHttpClient client;
+  private final HttpTransportOptions options;
+
+  /**
+   * Instantiates a new HTTP transport with the default options.
+   */
+  public HttpTransport() {
+    this(new HttpTransportOptions());
+  }
+
+  /**
+   * Instantiates a new HTTP transport.
+   * 
+   * @param options the transport options
+   */
+  public HttpTransport(HttpTransportOptions options) {
+    if (options == null)
+      throw new IllegalArgumentException("options cannot be null");
+
+    this.options = options;
+
+    final Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(options.getMaxRequests());
+    dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
+
+    client = new OkHttpClient();
+    client.setConnectionPool(new ConnectionPool(options.getMaxIdleConnections(), options
+        .getKeepAliveDuration()));
+    client.setDispatcher(dispatcher);
+    client.setSslSocketFactory(createSslSocketFactory());
+    client.setConnectTimeout(options.getConnectTimeout(), TimeUnit.MILLISECONDS);
+    client.setWriteTimeout(options.getWriteTimeout(), TimeUnit.MILLISECONDS);
+    client.setReadTimeout(options.getReadTimeout(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Gets the transport used by default by the Watson services.
+   * 
+   * @return the default transport
+   */
+  public static synchronized HttpTransport getDefault() {
+    if (defaultTransport == null) {
+      defaultTransport = new HttpTransport();
+    }
+    return defaultTransport;
+  }
+
+  /**
+   * Sets the transport used by default by the Watson services created after this call.
+   * 
+   * @param transport the new default transport
+   */
+  public static synchronized void setDefault(HttpTransport transport) {
+    defaultTransport = transport;
+  }
+
+  /**
+   * Creates the SSL socket factory shared by all the clients. Sharing it allows TLS sessions to be
+   * resumed across services.
+   * 
+   * @return the SSL socket factory
+   */
+  private static SSLSocketFactory createSslSocketFactory() {
+    try {
+      final SSLContext sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(null, null, null);
+      return sslContext.getSocketFactory();
+    } catch (final Exception e) {
+      throw new RuntimeException("Error creating the SSL socket factory", e);
+    }
+  }
+
+  /**
+   * Gets the connection pool.
+   * 
+   * @return the connection pool
+   */
+  public ConnectionPool getConnectionPool() {
+    return client.getConnectionPool();
+  }
+
+  /**
+   * Gets the dispatcher used to execute asynchronous calls.
+   * 
+   * @return the dispatcher
+   */
+  public Dispatcher getDispatcher() {
+    return client.getDispatcher();
+  }
+
+  /**
+   * Gets the transport options.
+   * 
+   * @return the transport options
+   */
+  public HttpTransportOptions getOptions() {
+    return options;
+  }
+
+  /**
+   * Creates a new {@link OkHttpClient} that shares the connection pool, dispatcher and SSL socket
+   * factory of this transport.
+   * 
+   * @return the HTTP client
+   */
+  public OkHttpClient newClient() {
+    return client.clone();
+  }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Options used to create an {@link HttpTransport}. All the durations are in milliseconds.
+ * 
+ * <pre>
+ * HttpTransportOptions options = new HttpTransportOptions().maxIdleConnections(20)
+ *     .keepAliveDuration(TimeUnit.MINUTES.toMillis(2)).maxRequestsPerHost(50);
+ * HttpTransport.setDefault(new HttpTransport(options));
+ * </pre>
+ */
+public class HttpTransportOptions {
+
+  private long connectTimeout = TimeUnit.SECONDS.toMillis(60);
+  private long keepAliveDuration = TimeUnit.MINUTES.toMillis(5);
+  private int maxIdleConnections = 5;
+  private int maxRequests = 64;
+  private int maxRequestsPerHost = 64;
+  private long readTimeout = TimeUnit.SECONDS.toMillis(90);
+  private long writeTimeout = TimeUnit.SECONDS.toMillis(60);
+
+  /**
+   * Sets the connect timeout. Default is 60 seconds.
+   * 
+   * @param connectTimeout the connect timeout in milliseconds
+   * @return the transport options
+   */
+  public HttpTransportOptions connectTimeout(long connectTimeout) {
+    this.connectTimeout = connectTimeout;
+    return this;
+  }
+
+  /**
+   * Gets the connect timeout.
+   * 
+   * @return the connect timeout in milliseconds
+   */
+  public long getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  /**
+   * Gets the keep alive duration.
+   * 
+   * @return the keep alive duration in milliseconds
+   */
+  public long getKeepAliveDuration() {
+    return keepAliveDuration;
+  }
+
+  /**
+   * Gets the max idle connections.
+   * 
+   * @return the max idle connections
+   */
+  public int getMaxIdleConnections() {
+    return maxIdleConnections;
+  }
+
+  /**
+   * Gets the max requests.
+   * 
+   * @return the max requests
+   */
+  public int getMaxRequests() {
+    return maxRequests;
+  }
+
+  /**
+   * Gets the max requests per host.
+   * 
+   * @return the max requests per host
+   */
+  public int getMaxRequestsPerHost() {
+    return maxRequestsPerHost;
+  }
+
+  /**
+   * Gets the read timeout.
+   * 
+   * @return the read timeout in milliseconds
+   */
+  public long getReadTimeout() {
+    return readTimeout;
+  }
+
+  /**
+   * Gets the write timeout.
+   * 
+   * @return the write timeout in milliseconds
+   */
+  public long getWriteTimeout() {
+    return writeTimeout;
+  }
+
+  /**
+   * Sets how long an idle connection is kept in the pool before being evicted. Default is 5
+   * minutes.
+   * 
+   * @param keepAliveDuration the keep alive duration in milliseconds
+   * @return the transport options
+   */
+  public HttpTransportOptions keepAliveDuration(long keepAliveDuration) {
+    this.keepAliveDuration = keepAliveDuration;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of idle connections kept in the pool. Default is 5.
+   * 
+   * @param maxIdleConnections the max idle connections
+   * @return the transport options
+   */
+  public HttpTransportOptions maxIdleConnections(int maxIdleConnections) {
+    this.maxIdleConnections = maxIdleConnections;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of asynchronous requests executed concurrently. Default is 64.
+   * 
+   * @param maxRequests the max requests
+   * @return the transport options
+   */
+  public HttpTransportOptions maxRequests(int maxRequests) {
+    this.maxRequests = maxRequests;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of asynchronous requests executed concurrently against the same host.
+   * Default is 64, the same as {@link #maxRequests(int)}, since most services share a single
+   * gateway host; further asynchronous requests to that host wait in the dispatcher queue.
+   * 
+   * @param maxRequestsPerHost the max requests per host
+   * @return the transport options
+   */
+  public HttpTransportOptions maxRequestsPerHost(int maxRequestsPerHost) {
+    this.maxRequestsPerHost = maxRequestsPerHost;
+    return this;
+  }
+
+  /**
+   * Sets the read timeout. Default is 90 seconds.
+   * 
+   * @param readTimeout the read timeout in milliseconds
+   * @return the transport options
+   */
+  public HttpTransportOptions readTimeout(long readTimeout) {
+    this.readTimeout = readTimeout;
+    return this;
+  }
+
+  /**
+   * Sets the write timeout. Default is 60 seconds.
+   * 
+   * @param writeTimeout the write timeout in milliseconds
+   * @return the transport options
+   */
+  public HttpTransportOptions writeTimeout(long writeTimeout) {
+    this.writeTimeout = writeTimeout;
+    return this;
+  }
+}
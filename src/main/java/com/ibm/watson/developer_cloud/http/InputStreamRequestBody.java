@@ -13,8 +13,11 @@
  */
 package com.ibm.watson.developer_cloud.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 
 import okio.BufferedSink;
 import okio.Okio;
@@ -26,30 +29,69 @@ import com.squareup.okhttp.internal.Util;
 
 
 /**
- * RequestBody that takes an {@link InputStream}.
+ * RequestBody that takes an {@link InputStream}. The stream is sent with its exact length when it
+ * is known and with chunked transfer encoding otherwise, so it is never buffered in memory.
  * 
  */
 public class InputStreamRequestBody extends RequestBody {
 
+  private final long contentLength;
   private InputStream inputStream;
   private MediaType mediaType;
 
   /**
-   * Creates the @link {@link RequestBody} from an @link {@link InputStream}
+   * Creates the @link {@link RequestBody} from an @link {@link InputStream}. The length is only
+   * known for {@link ByteArrayInputStream} and {@link FileInputStream}, other streams are sent with
+   * chunked transfer encoding.
    * 
    * @param mediaType the media type
    * @param inputStream the input stream
    * @return the request body
    */
   public static RequestBody create(final MediaType mediaType, final InputStream inputStream) {
+    return new InputStreamRequestBody(inputStream, mediaType, getLength(inputStream));
+  }
 
+  /**
+   * Creates the @link {@link RequestBody} from an @link {@link InputStream} of a known length.
+   * Writing the body fails if the stream ends before <code>contentLength</code> bytes are read.
+   * 
+   * @param mediaType the media type
+   * @param inputStream the input stream
+   * @param contentLength the number of bytes to send, -1 to use chunked transfer encoding
+   * @return the request body
+   */
+  public static RequestBody create(final MediaType mediaType, final InputStream inputStream,
+      final long contentLength) {
+    if (contentLength < -1)
+      throw new IllegalArgumentException("contentLength cannot be less than -1");
+    return new InputStreamRequestBody(inputStream, mediaType, contentLength);
+  }
 
-    return new InputStreamRequestBody(inputStream, mediaType);
+  /**
+   * Gets the number of bytes left in a stream when it can be known without reading it.
+   * 
+   * @param inputStream the input stream
+   * @return the number of bytes left or -1 if unknown
+   */
+  private static long getLength(InputStream inputStream) {
+    try {
+      if (inputStream instanceof ByteArrayInputStream)
+        return inputStream.available();
+      if (inputStream instanceof FileInputStream) {
+        final FileChannel channel = ((FileInputStream) inputStream).getChannel();
+        return Math.max(0, channel.size() - channel.position());
+      }
+    } catch (IOException e) {
+      // unknown length
+    }
+    return -1;
   }
 
-  private InputStreamRequestBody(InputStream inputStream, MediaType mediaType) {
+  private InputStreamRequestBody(InputStream inputStream, MediaType mediaType, long contentLength) {
     this.inputStream = inputStream;
     this.mediaType = mediaType;
+    this.contentLength = contentLength;
   }
 
   /*
@@ -69,11 +111,7 @@ public class InputStreamRequestBody extends RequestBody {
    */
   @Override
   public long contentLength() {
-    try {
-      return inputStream.available();
-    } catch (IOException e) {
-      return 0;
-    }
+    return contentLength;
   }
 
   /*
@@ -86,7 +124,10 @@ public class InputStreamRequestBody extends RequestBody {
     Source source = null;
     try {
       source = Okio.source(inputStream);
-      sink.writeAll(source);
+      if (contentLength == -1)
+        sink.writeAll(source);
+      else
+        sink.write(source, contentLength);
     } finally {
       Util.closeQuietly(source);
     }
@@ -36,6 +36,11 @@ public class RequestBuilder {
     DELETE, GET, POST, PUT
   }
 
+  /** Placeholder of the path parameters in the path formats. */
+  private static final String PATH_PARAM = "%s";
+
+  /** Placeholder of the path parameters in the path templates. */
+  private static final String PATH_TEMPLATE_PARAM = "{id}";
 
   /**
    * The DELETE method requests that the origin server delete the resource identified by the
@@ -49,6 +54,19 @@ public class RequestBuilder {
     return new RequestBuilder(HTTPMethod.DELETE, url);
   }
 
+  /**
+   * The DELETE method, with a path built from a format whose <code>%s</code> placeholders are
+   * replaced by the path parameters. The format is kept as the path template of the request.
+   * 
+   * @param pathFormat the path format, e.g. <code>/v1/classifiers/%s</code>
+   * @param pathParams the path parameters
+   * 
+   * @return this
+   */
+  public static RequestBuilder delete(String pathFormat, Object... pathParams) {
+    return delete(String.format(pathFormat, pathParams)).withPathFormat(pathFormat);
+  }
+
   /**
    * The GET method means retrieve whatever information (in the form of an entity) is identified by
    * the Request-URI.
@@ -61,6 +79,19 @@ public class RequestBuilder {
     return new RequestBuilder(HTTPMethod.GET, url);
   }
 
+  /**
+   * The GET method, with a path built from a format whose <code>%s</code> placeholders are
+   * replaced by the path parameters. The format is kept as the path template of the request.
+   * 
+   * @param pathFormat the path format, e.g. <code>/v1/classifiers/%s</code>
+   * @param pathParams the path parameters
+   * 
+   * @return this
+   */
+  public static RequestBuilder get(String pathFormat, Object... pathParams) {
+    return get(String.format(pathFormat, pathParams)).withPathFormat(pathFormat);
+  }
+
   /**
    * The POST request method is designed to request that a web server accept the data enclosed in
    * the request message's body for storage. It is often used when uploading a file or submitting a
@@ -74,6 +105,19 @@ public class RequestBuilder {
     return new RequestBuilder(HTTPMethod.POST, url);
   }
 
+  /**
+   * The POST method, with a path built from a format whose <code>%s</code> placeholders are
+   * replaced by the path parameters. The format is kept as the path template of the request.
+   * 
+   * @param pathFormat the path format, e.g. <code>/v1/classifiers/%s/classify</code>
+   * @param pathParams the path parameters
+   * 
+   * @return this
+   */
+  public static RequestBuilder post(String pathFormat, Object... pathParams) {
+    return post(String.format(pathFormat, pathParams)).withPathFormat(pathFormat);
+  }
+
   /**
    * The PUT method requests that the enclosed entity be stored under the supplied Request-URI.
    * 
@@ -85,6 +129,19 @@ public class RequestBuilder {
     return new RequestBuilder(HTTPMethod.PUT, url);
   }
 
+  /**
+   * The PUT method, with a path built from a format whose <code>%s</code> placeholders are
+   * replaced by the path parameters. The format is kept as the path template of the request.
+   * 
+   * @param pathFormat the path format, e.g. <code>/v1/classifiers/%s</code>
+   * @param pathParams the path parameters
+   * 
+   * @return this
+   */
+  public static RequestBuilder put(String pathFormat, Object... pathParams) {
+    return put(String.format(pathFormat, pathParams)).withPathFormat(pathFormat);
+  }
+
   /** The body. */
   private RequestBody body;
 
@@ -100,6 +157,12 @@ public class RequestBuilder {
   /** The method. */
   private final HTTPMethod method;
 
+  /** Whether the body can only be written once. */
+  private boolean oneShotBody;
+
+  /** The path template. */
+  private String pathTemplate;
+
   /** The query params. */
   private final List<NameValue> queryParams = new ArrayList<NameValue>();
 
@@ -114,10 +177,15 @@ public class RequestBuilder {
     if (url == null)
       throw new IllegalArgumentException("url cannot be null");
 
-    // Since HttpUrl requires requires a http/s full url, add a default endpoint
-    httpUrl = HttpUrl.parse(url);
-    if (httpUrl == null)
-      this.httpUrl = HttpUrl.parse(RequestUtil.DEFAULT_ENDPOINT + url);
+    // Since HttpUrl requires requires a http/s full url, add a default endpoint. Relative paths
+    // are prefixed up front so they are parsed only once.
+    if (url.startsWith("/")) {
+      httpUrl = HttpUrl.parse(RequestUtil.DEFAULT_ENDPOINT + url);
+    } else {
+      httpUrl = HttpUrl.parse(url);
+      if (httpUrl == null)
+        httpUrl = HttpUrl.parse(RequestUtil.DEFAULT_ENDPOINT + url);
+    }
 
   }
 
@@ -175,7 +243,7 @@ public class RequestBuilder {
   public Request build() {
     final Builder builder = new Request.Builder();
     // URL
-    builder.url(toUrl());
+    builder.url(toHttpUrl());
 
     // POST/PUT require a body so send an empty body if the actual is null
     RequestBody requestBody = body;
@@ -200,6 +268,9 @@ public class RequestBuilder {
       }
     }
 
+    if (oneShotBody || pathTemplate != null)
+      builder.tag(new RequestTag(pathTemplate, oneShotBody));
+
     switch (method) {
       case GET:
         builder.get();
@@ -236,13 +307,26 @@ public class RequestBuilder {
    * @return the URL as string
    */
   public String toUrl() {
+    return toHttpUrl().toString();
+  }
+
+  /**
+   * Create and return the URL being used in the request, without going through a string that
+   * would have to be parsed again.
+   * 
+   * @return the URL
+   */
+  private HttpUrl toHttpUrl() {
+    if (queryParams.isEmpty())
+      return httpUrl;
+
     final HttpUrl.Builder builder = httpUrl.newBuilder();
     for (final NameValue param : queryParams) {
       // TODO: we should not be manually encoding the query parameters.
       builder.addEncodedQueryParameter(RequestUtil.encode(param.getName()),
           RequestUtil.encode(param.getValue()));
     }
-    return builder.build().url().toString();
+    return builder.build();
   }
 
   /**
@@ -273,9 +357,50 @@ public class RequestBuilder {
    */
   public RequestBuilder withBody(RequestBody body) {
     this.body = body;
+    if (body instanceof InputStreamRequestBody)
+      oneShotBody = true;
+    return this;
+  }
+
+  /**
+   * Marks the body as one that can only be written once, like a multipart body with an
+   * {@link InputStreamRequestBody} part. The request is then never sent again by the retries or
+   * the failover. An {@link InputStreamRequestBody} given to {@link #withBody(RequestBody)} is
+   * marked without calling this method.
+   * 
+   * @return this
+   */
+  public RequestBuilder withOneShotBody() {
+    oneShotBody = true;
     return this;
   }
 
+  /**
+   * Sets the path template of the request, used to group the requests to the same operation in the
+   * metrics and in the options set per path (e.g. <code>/v1/classifiers/{id}/classify</code>).
+   * Without it, the template is derived from the path by replacing the segments that contain a
+   * digit.
+   * 
+   * @param pathTemplate the path template
+   * 
+   * @return this
+   */
+  public RequestBuilder withPathTemplate(String pathTemplate) {
+    this.pathTemplate = pathTemplate;
+    return this;
+  }
+
+  /**
+   * Sets the path template of the request from the format its path was built with.
+   * 
+   * @param pathFormat the path format
+   * 
+   * @return this
+   */
+  private RequestBuilder withPathFormat(String pathFormat) {
+    return withPathTemplate(pathFormat.replace(PATH_PARAM, PATH_TEMPLATE_PARAM));
+  }
+
   /**
    * Adds string content to the request (used with POST/PUT). This will encapsulate the string into
    * a {@link RequestBody} encoded with UTF-8
@@ -0,0 +1,53 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+/**
+ * Tag of the requests built by a {@link RequestBuilder}. It carries what the builder knows about a
+ * request that cannot be told from the request itself.
+ */
+public final class RequestTag {
+
+  private final boolean oneShotBody;
+  private final String pathTemplate;
+
+  /**
+   * Instantiates a new request tag.
+   * 
+   * @param pathTemplate the path template, can be null
+   * @param oneShotBody whether the body can only be written once
+   */
+  RequestTag(String pathTemplate, boolean oneShotBody) {
+    this.pathTemplate = pathTemplate;
+    this.oneShotBody = oneShotBody;
+  }
+
+  /**
+   * Gets the path template of the request, e.g. <code>/v1/classifiers/{id}/classify</code>.
+   * 
+   * @return the path template or null if it was not given to the builder
+   */
+  public String getPathTemplate() {
+    return pathTemplate;
+  }
+
+  /**
+   * Checks if the body can only be written once, see {@link RequestBuilder#withOneShotBody()}.
+   * 
+   * @return true, if the body can only be written once
+   */
+  public boolean isOneShotBody() {
+    return oneShotBody;
+  }
+}
@@ -14,6 +14,7 @@
 package com.ibm.watson.developer_cloud.language_translation.v2;
 
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -28,11 +29,15 @@ import com.ibm.watson.developer_cloud.language_translation.v2.model.LanguageList
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModelList;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationResult;
+import com.ibm.watson.developer_cloud.service.ResponseConverter;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
+import com.ibm.watson.developer_cloud.util.ResponseUtil;
 import com.ibm.watson.developer_cloud.util.Validate;
 import com.squareup.okhttp.MultipartBuilder;
 import com.squareup.okhttp.Request;
 import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
 
 /**
  * The IBM Watson Language Translation service translate text from one language to another and
@@ -132,7 +137,7 @@ public class LanguageTranslation extends WatsonService {
     if (modelId == null || modelId.isEmpty())
       throw new IllegalArgumentException("modelId cannot be null or empty");
 
-    final Request request = RequestBuilder.delete(String.format(PATH_MODEL, modelId)).build();
+    final Request request = RequestBuilder.delete(PATH_MODEL, modelId).build();
     executeWithoutResponse(request);
   }
 
@@ -159,7 +164,7 @@ public class LanguageTranslation extends WatsonService {
     if (modelId == null || modelId.isEmpty())
       throw new IllegalArgumentException("modelId cannot be null or empty");
 
-    final Request request = RequestBuilder.get(String.format(PATH_MODEL, modelId)).build();
+    final Request request = RequestBuilder.get(PATH_MODEL, modelId).build();
     return executeRequest(request, TranslationModel.class);
   }
 
@@ -206,14 +211,49 @@ public class LanguageTranslation extends WatsonService {
    * @param text the text to identify
    * @return the identified language
    */
-  @SuppressWarnings("unchecked")
   public List<IdentifiedLanguage> identify(final String text) {
-    final Request request =
-        RequestBuilder.post(PATH_IDENTIFY).withBodyContent(text, HttpMediaType.TEXT_PLAIN)
-            .withHeader(HttpHeaders.ACCEPT, HttpMediaType.APPLICATION_JSON).build();
+    final LanguageList languages = executeRequest(buildIdentifyRequest(text), LanguageList.class);
+    return toIdentifiedLanguages(languages);
+  }
 
-    final LanguageList languages = executeRequest(request, LanguageList.class);
+  /**
+   * Identify language in which text is written without blocking the calling thread.
+   * 
+   * @param text the text to identify
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the identified language
+   * @see #identify(String)
+   */
+  public Future<List<IdentifiedLanguage>> identifyAsync(final String text,
+      final ServiceCallback<List<IdentifiedLanguage>> callback) {
+    return executeAsync(buildIdentifyRequest(text),
+        new ResponseConverter<List<IdentifiedLanguage>>() {
+          @Override
+          public List<IdentifiedLanguage> convert(Response response) {
+            return toIdentifiedLanguages(ResponseUtil.getObject(response, LanguageList.class));
+          }
+        }, callback);
+  }
+
+  /**
+   * Builds the identify request.
+   * 
+   * @param text the text to identify
+   * @return the request
+   */
+  private Request buildIdentifyRequest(final String text) {
+    return RequestBuilder.post(PATH_IDENTIFY).withBodyContent(text, HttpMediaType.TEXT_PLAIN)
+        .withHeader(HttpHeaders.ACCEPT, HttpMediaType.APPLICATION_JSON).build();
+  }
 
+  /**
+   * Gets the identified languages from a {@link LanguageList}.
+   * 
+   * @param languages the language list
+   * @return the identified languages
+   */
+  @SuppressWarnings("unchecked")
+  private List<IdentifiedLanguage> toIdentifiedLanguages(final LanguageList languages) {
     return (List<IdentifiedLanguage>) (List<?>) languages.getLanguages();
   }
 
@@ -226,7 +266,8 @@ public class LanguageTranslation extends WatsonService {
    */
   public TranslationResult translate(final String text, final String modelId) {
     Validate.isTrue(modelId != null && !modelId.isEmpty(), "modelId cannot be null or empty");
-    return translateRequest(text, modelId, null, null);
+    return executeRequest(buildTranslateRequest(text, modelId, null, null),
+        TranslationResult.class);
   }
 
   /**
@@ -252,21 +293,56 @@ public class LanguageTranslation extends WatsonService {
   public TranslationResult translate(final String text, final String source, final String target) {
     Validate.isTrue(source != null && !source.isEmpty(), "source cannot be null or empty");
     Validate.isTrue(target != null && !target.isEmpty(), "target cannot be null or empty");
-    return translateRequest(text, null, source, target);
+    return executeRequest(buildTranslateRequest(text, null, source, target),
+        TranslationResult.class);
+  }
+
+  /**
+   * Translate text using a model without blocking the calling thread.
+   * 
+   * @param text The submitted paragraphs to translate
+   * @param modelId the model id
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link TranslationResult}
+   * @see #translate(String, String)
+   */
+  public Future<TranslationResult> translateAsync(final String text, final String modelId,
+      final ServiceCallback<TranslationResult> callback) {
+    Validate.isTrue(modelId != null && !modelId.isEmpty(), "modelId cannot be null or empty");
+    return executeRequestAsync(buildTranslateRequest(text, modelId, null, null),
+        TranslationResult.class, callback);
+  }
+
+  /**
+   * Translate text using source and target languages without blocking the calling thread.
+   * 
+   * @param text The submitted paragraphs to translate
+   * @param source The source language
+   * @param target The target language
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link TranslationResult}
+   * @see #translate(String, String, String)
+   */
+  public Future<TranslationResult> translateAsync(final String text, final String source,
+      final String target, final ServiceCallback<TranslationResult> callback) {
+    Validate.isTrue(source != null && !source.isEmpty(), "source cannot be null or empty");
+    Validate.isTrue(target != null && !target.isEmpty(), "target cannot be null or empty");
+    return executeRequestAsync(buildTranslateRequest(text, null, source, target),
+        TranslationResult.class, callback);
   }
 
   /**
-   * Translate paragraphs of text using a model and or source and target. model_id or source and
-   * target needs to be specified. If both are specified, then only model_id will be used
+   * Builds the request to translate paragraphs of text using a model and or source and target.
+   * model_id or source and target needs to be specified. If both are specified, then only model_id
+   * will be used
    * 
    * @param text the text
    * @param modelId the model id
    * @param source the source
    * @param target the target
-   * @return The {@link TranslationResult}
+   * @return the request
    */
-  private TranslationResult translateRequest(String text, String modelId, String source,
-      String target) {
+  private Request buildTranslateRequest(String text, String modelId, String source, String target) {
     Validate.isTrue(text != null && !text.isEmpty(), "text cannot be null or empty");
 
     final JsonObject contentJson = new JsonObject();
@@ -288,7 +364,7 @@ public class LanguageTranslation extends WatsonService {
       contentJson.addProperty(MODEL_ID, modelId);
 
     requestBuilder.withBodyJson(contentJson);
-    return executeRequest(requestBuilder.build(), TranslationResult.class);
+    return requestBuilder.build();
   }
 
 }
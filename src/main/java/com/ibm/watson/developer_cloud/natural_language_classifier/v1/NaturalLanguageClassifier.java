@@ -14,6 +14,7 @@
 package com.ibm.watson.developer_cloud.natural_language_classifier.v1;
 
 import java.io.File;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.http.HttpHeaders;
@@ -23,6 +24,8 @@ import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Class
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.ClassifiedClass;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classifier;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classifiers;
+import com.ibm.watson.developer_cloud.service.ResponseConverter;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 import com.ibm.watson.developer_cloud.util.Validate;
@@ -73,6 +76,39 @@ public class NaturalLanguageClassifier extends WatsonService {
    * @return the classification of a phrase with a given classifier
    */
   public Classification classify(final String classifierId, final String text) {
+    final Response response = execute(buildClassifyRequest(classifierId, text));
+    return toClassification(response);
+  }
+
+  /**
+   * Returns classification information for a classifier on a phrase without blocking the calling
+   * thread.
+   * 
+   * @param classifierId The classifier id
+   * @param text The submitted phrase to classify
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the classification of a phrase with a given classifier
+   * @see #classify(String, String)
+   */
+  public Future<Classification> classifyAsync(final String classifierId, final String text,
+      final ServiceCallback<Classification> callback) {
+    return executeAsync(buildClassifyRequest(classifierId, text),
+        new ResponseConverter<Classification>() {
+          @Override
+          public Classification convert(Response response) {
+            return toClassification(response);
+          }
+        }, callback);
+  }
+
+  /**
+   * Builds the classify request.
+   * 
+   * @param classifierId The classifier id
+   * @param text The submitted phrase to classify
+   * @return the request
+   */
+  private Request buildClassifyRequest(final String classifierId, final String text) {
     if (classifierId == null || classifierId.isEmpty())
       throw new IllegalArgumentException("classifierId cannot be null or empty");
 
@@ -82,11 +118,16 @@ public class NaturalLanguageClassifier extends WatsonService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty(TEXT, text);
 
-    final String path = String.format(PATH_CLASSIFY, classifierId);
-
-    final Request request = RequestBuilder.post(path).withBodyJson(contentJson).build();
+    return RequestBuilder.post(PATH_CLASSIFY, classifierId).withBodyJson(contentJson).build();
+  }
 
-    final Response response = execute(request);
+  /**
+   * Parses the classify response and sets the top class confidence.
+   * 
+   * @param response the HTTP response
+   * @return the classification
+   */
+  private Classification toClassification(final Response response) {
     final Classification classification = ResponseUtil.getObject(response, Classification.class);
 
     for (final ClassifiedClass klass : classification.getClasses()) {
@@ -148,7 +189,7 @@ public class NaturalLanguageClassifier extends WatsonService {
       throw new IllegalArgumentException("classifierId cannot be null or empty");
 
     final Request request =
-        RequestBuilder.delete(String.format(PATH_CLASSIFIER, classifierId)).build();
+        RequestBuilder.delete(PATH_CLASSIFIER, classifierId).build();
     executeWithoutResponse(request);
   }
 
@@ -164,7 +205,7 @@ public class NaturalLanguageClassifier extends WatsonService {
       throw new IllegalArgumentException("classifierId cannot be null or empty");
 
     final Request request =
-        RequestBuilder.get(String.format(PATH_CLASSIFIER, classifierId)).build();
+        RequestBuilder.get(PATH_CLASSIFIER, classifierId).build();
     return executeRequest(request, Classifier.class);
   }
 
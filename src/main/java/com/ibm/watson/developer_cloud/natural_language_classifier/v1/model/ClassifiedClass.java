@@ -13,14 +13,17 @@
  */
 package com.ibm.watson.developer_cloud.natural_language_classifier.v1.model;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.NaturalLanguageClassifier;
+import com.ibm.watson.developer_cloud.natural_language_classifier.v1.util.ClassifiedClassTypeAdapter;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 
 /**
  * Classified class used by the {@link NaturalLanguageClassifier} service.
  * 
  */
+@JsonAdapter(ClassifiedClassTypeAdapter.class)
 public class ClassifiedClass extends GenericModel {
 
   private Double confidence;
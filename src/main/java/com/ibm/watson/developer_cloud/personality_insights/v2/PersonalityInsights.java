@@ -14,6 +14,7 @@
 package com.ibm.watson.developer_cloud.personality_insights.v2;
 
 import java.util.Date;
+import java.util.concurrent.Future;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -23,6 +24,7 @@ import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.personality_insights.v2.model.Content;
 import com.ibm.watson.developer_cloud.personality_insights.v2.model.Profile;
 import com.ibm.watson.developer_cloud.personality_insights.v2.model.ProfileOptions;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 import com.ibm.watson.developer_cloud.util.TimestampTypeAdapter;
@@ -146,6 +148,21 @@ public class PersonalityInsights extends WatsonService {
     return executeRequest(requestBuilder.build(), Profile.class);
   }
 
+  /**
+   * Returns a {@link Profile} with a tree of characteristics that include personality, needs, and
+   * values without blocking the calling thread.
+   * 
+   * @param options the {@link ProfileOptions}
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the personality {@link Profile}
+   * @see #getProfile(ProfileOptions)
+   */
+  public Future<Profile> getProfileAsync(final ProfileOptions options,
+      final ServiceCallback<Profile> callback) {
+    final RequestBuilder requestBuilder = buildProfileRequest(options);
+    return executeRequestAsync(requestBuilder.build(), Profile.class, callback);
+  }
+
   /**
    * Returns a CSV profile.
    * 
@@ -13,8 +13,12 @@
  */
 package com.ibm.watson.developer_cloud.relationship_extraction.v1;
 
+import java.util.concurrent.Future;
+
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.relationship_extraction.v1.model.Dataset;
+import com.ibm.watson.developer_cloud.service.ResponseConverter;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 import com.ibm.watson.developer_cloud.util.Validate;
@@ -68,14 +72,39 @@ public class RelationshipExtraction extends WatsonService {
    * @return the result as XML string
    */
   public String extract(final String text) {
+    final Response response = execute(buildExtractRequest(text));
+    return ResponseUtil.getString(response);
+  }
+
+  /**
+   * Extracts relationships between sentence components without blocking the calling thread.
+   * 
+   * @param text the text to analyze
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the result as XML string
+   * @see #extract(String)
+   */
+  public Future<String> extractAsync(final String text, final ServiceCallback<String> callback) {
+    return executeAsync(buildExtractRequest(text), new ResponseConverter<String>() {
+      @Override
+      public String convert(Response response) {
+        return ResponseUtil.getString(response);
+      }
+    }, callback);
+  }
+
+  /**
+   * Builds the extract request.
+   * 
+   * @param text the text to analyze
+   * @return the request
+   */
+  private Request buildExtractRequest(final String text) {
     Validate.notNull(dataset, "dataset cannot be null");
     Validate.notNull(text, "text cannot be null");
 
-    final Request request =
-        RequestBuilder.post("/v1/sire/0")
-            .withForm("sid", dataset.getId(), "rt", "xml", "txt", text).build();
-    final Response response = execute(request);
-    return ResponseUtil.getString(response);
+    return RequestBuilder.post("/v1/sire/0")
+        .withForm("sid", dataset.getId(), "rt", "xml", "txt", text).build();
   }
 
   /**
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,6 +34,7 @@ import com.ibm.watson.developer_cloud.retrieve_and_rank.v1.model.SolrClusterList
 import com.ibm.watson.developer_cloud.retrieve_and_rank.v1.model.SolrClusterOptions;
 import com.ibm.watson.developer_cloud.retrieve_and_rank.v1.model.SolrConfigList;
 import com.ibm.watson.developer_cloud.retrieve_and_rank.v1.util.ZipUtils;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
@@ -85,18 +87,16 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
   }
 
   /**
-   * Creates the Solr configuration path.
+   * Validates the identifiers of a Solr configuration.
    * 
    * @param solrClusterId the solr cluster id
    * @param configName the configuration name
-   * @return the string
    */
-  private String createConfigPath(String solrClusterId, String configName) {
+  private void validateConfig(String solrClusterId, String configName) {
     Validate.isTrue(solrClusterId != null && !solrClusterId.isEmpty(),
         "solrClusterId cannot be null or empty");
     Validate.isTrue(configName != null && !configName.isEmpty(),
         "configName cannot be null or empty");
-    return String.format(PATH_SOLR_CLUSTERS_CONFIGS, solrClusterId, configName);
   }
 
   /**
@@ -161,7 +161,8 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
     final RequestBuilder requestBuilder = RequestBuilder.post(PATH_SOLR_CLUSTERS);
 
     if (config != null) {
-      requestBuilder.withBodyContent(GsonSingleton.getGson().toJson(config),
+      requestBuilder.withBodyContent(
+          GsonSingleton.getGsonWithoutPrettyPrinting().toJson(config),
           HttpMediaType.APPLICATION_JSON);
     }
 
@@ -176,7 +177,7 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
   public void deleteRanker(final String rankerID) {
     Validate.isTrue(rankerID != null && !rankerID.isEmpty(), "rankerId cannot be null or empty");
 
-    final Request request = RequestBuilder.delete(String.format(PATH_RANKER, rankerID)).build();
+    final Request request = RequestBuilder.delete(PATH_RANKER, rankerID).build();
     executeWithoutResponse(request);
   }
 
@@ -192,7 +193,7 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
     Validate.isTrue(solrClusterId != null && !solrClusterId.isEmpty(),
         "solrClusterId cannot be null or empty");
     final Request request =
-        RequestBuilder.delete(String.format(PATH_GET_SOLR_CLUSTER, solrClusterId)).build();
+        RequestBuilder.delete(PATH_GET_SOLR_CLUSTER, solrClusterId).build();
     executeWithoutResponse(request);
   }
 
@@ -204,8 +205,9 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
    */
   @Override
   public void deleteSolrClusterConfiguration(String solrClusterId, String configName) {
-    final String configPath = createConfigPath(solrClusterId, configName);
-    final Request request = RequestBuilder.delete(configPath).build();
+    validateConfig(solrClusterId, configName);
+    final Request request =
+        RequestBuilder.delete(PATH_SOLR_CLUSTERS_CONFIGS, solrClusterId, configName).build();
     executeWithoutResponse(request);
   }
 
@@ -231,7 +233,7 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
   public Ranker getRankerStatus(final String rankerID) {
     Validate.isTrue(rankerID != null && !rankerID.isEmpty(), "rankerId cannot be null or empty");
 
-    final Request request = RequestBuilder.get(String.format(PATH_RANKER, rankerID)).build();
+    final Request request = RequestBuilder.get(PATH_RANKER, rankerID).build();
     return executeRequest(request, Ranker.class);
   }
 
@@ -247,7 +249,7 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
     Validate.isTrue(solrClusterId != null && !solrClusterId.isEmpty(),
         "solrClusterId cannot be null or empty");
     final Request request =
-        RequestBuilder.get(String.format(PATH_GET_SOLR_CLUSTER, solrClusterId)).build();
+        RequestBuilder.get(PATH_GET_SOLR_CLUSTER, solrClusterId).build();
     return executeRequest(request, SolrCluster.class);
 
   }
@@ -266,8 +268,9 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
     Validate.isTrue(configName != null && !configName.isEmpty(),
         "configName cannot be null or empty");
 
-    final String configPath = createConfigPath(solrClusterId, configName);
-    final RequestBuilder requestBuider = RequestBuilder.get(configPath);
+    validateConfig(solrClusterId, configName);
+    final RequestBuilder requestBuider =
+        RequestBuilder.get(PATH_SOLR_CLUSTERS_CONFIGS, solrClusterId, configName);
     requestBuider.withHeader(HttpHeaders.ACCEPT, HttpMediaType.APPLICATION_ZIP).build();
     final Response response = execute(requestBuider.build());
     return ResponseUtil.getInputStream(response);
@@ -285,7 +288,7 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
     Validate.isTrue(solrClusterId != null && !solrClusterId.isEmpty(),
         "solrClusterId cannot be null or empty");
     final Request request =
-        RequestBuilder.get(String.format(PATH_SOLR_CLUSTERS_CONFIG, solrClusterId)).build();
+        RequestBuilder.get(PATH_SOLR_CLUSTERS_CONFIG, solrClusterId).build();
 
     final SolrConfigList configList = executeRequest(request, SolrConfigList.class);
     return configList.getSolrConfigs();
@@ -322,6 +325,34 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
    * @return the ranking of the answers
    */
   public Ranking rank(final String rankerID, final File answers, Integer topAnswers) {
+    return executeRequest(buildRankRequest(rankerID, answers, topAnswers), Ranking.class);
+  }
+
+  /**
+   * Gets and returns the ranked answers without blocking the calling thread.
+   * 
+   * @param rankerID The ranker ID
+   * @param answers The CSV file that contains the search results that you want to rank.
+   * @param topAnswers The number of top answers needed, default is 10
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the ranking of the answers
+   * @see #rank(String, File, Integer)
+   */
+  public Future<Ranking> rankAsync(final String rankerID, final File answers, Integer topAnswers,
+      ServiceCallback<Ranking> callback) {
+    return executeRequestAsync(buildRankRequest(rankerID, answers, topAnswers), Ranking.class,
+        callback);
+  }
+
+  /**
+   * Builds the rank request.
+   * 
+   * @param rankerID The ranker ID
+   * @param answers The CSV file that contains the search results that you want to rank.
+   * @param topAnswers The number of top answers needed, default is 10
+   * @return the request
+   */
+  private Request buildRankRequest(final String rankerID, final File answers, Integer topAnswers) {
     Validate.isTrue(rankerID != null && !rankerID.isEmpty(), "rankerID cannot be null or empty");
     Validate.notNull(answers, "answers file cannot be null");
     Validate.isTrue(answers.exists(), "answers file: " + answers.getAbsolutePath() + " not found");
@@ -339,9 +370,7 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
                 Headers.of(HttpHeaders.CONTENT_DISPOSITION, "form-data; name=\"answer_metadata\""),
                 RequestBody.create(HttpMediaType.TEXT, contentJson.toString())).build();
 
-    final String path = String.format(PATH_RANK, rankerID);
-    final Request request = RequestBuilder.post(path).withBody(body).build();
-    return executeRequest(request, Ranking.class);
+    return RequestBuilder.post(PATH_RANK, rankerID).withBody(body).build();
   }
 
   /*
@@ -381,8 +410,9 @@ public class RetrieveAndRank extends WatsonService implements ClusterLifecycleMa
   @Override
   public void uploadSolrClusterConfigurationZip(String solrClusterId, String configName,
       File zippedConfig) {
-    final String configPath = createConfigPath(solrClusterId, configName);
-    final RequestBuilder requestBuilder = RequestBuilder.post(configPath);
+    validateConfig(solrClusterId, configName);
+    final RequestBuilder requestBuilder =
+        RequestBuilder.post(PATH_SOLR_CLUSTERS_CONFIGS, solrClusterId, configName);
     requestBuilder.withBody(RequestBody.create(MediaType.parse(HttpMediaType.APPLICATION_ZIP),
         zippedConfig));
     executeWithoutResponse(requestBuilder.build());
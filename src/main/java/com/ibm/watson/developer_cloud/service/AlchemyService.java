@@ -68,12 +68,33 @@ public abstract class AlchemyService extends WatsonService {
    * @param apiKey the API key token
    */
   private void addApiKeyToRequest(Builder builder, String apiKey) {
-    final HttpUrl url = HttpUrl.parse(builder.build().urlString());
-    if (url.query() == null || url.query().isEmpty()) {
-      builder.url(builder.build().url() + "?" + apiKey);
-    } else {
-      builder.url(builder.build().url() + "&" + apiKey);
-    }
+    final HttpUrl url = builder.build().httpUrl();
+    builder.url(url.newBuilder().addEncodedQueryParameter(PARAM_APIKEY, apiKey).build());
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see
+   * com.ibm.watson.developer_cloud.service.WatsonService#authenticate(com.squareup.okhttp.Request
+   * , java.lang.String)
+   */
+  @Override
+  Request authenticate(Request request, String apiKey) {
+    final HttpUrl url =
+        request.httpUrl().newBuilder().setQueryParameter(PARAM_APIKEY, apiKey).build();
+    return request.newBuilder().url(url).build();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see
+   * com.ibm.watson.developer_cloud.service.WatsonService#getCredential(com.squareup.okhttp.Request)
+   */
+  @Override
+  String getCredential(Request request) {
+    return request.httpUrl().queryParameter(PARAM_APIKEY);
   }
 
   /**
@@ -99,11 +120,13 @@ public abstract class AlchemyService extends WatsonService {
   /*
    * (non-Javadoc)
    * 
-   * @see com.ibm.watson.developer_cloud.service.WatsonService#execute(com.squareup.okhttp .Request)
+   * @see
+   * com.ibm.watson.developer_cloud.service.WatsonService#processResponse(com.squareup.okhttp.Response
+   * )
    */
   @Override
-  protected Response execute(Request request) {
-    final Response response = super.execute(request);
+  protected Response processResponse(Response response) {
+    super.processResponse(response);
     final JsonObject error = getErrorMessage(response);
     if (error == null) {
       return response;
@@ -187,6 +210,19 @@ public abstract class AlchemyService extends WatsonService {
     return acceptedFormats[i];
   }
 
+  /*
+   * (non-Javadoc)
+   * 
+   * @see
+   * com.ibm.watson.developer_cloud.service.WatsonService#isQuotaExceeded(com.squareup.okhttp.Response
+   * )
+   */
+  @Override
+  boolean isQuotaExceeded(Response response) {
+    return STATUS_ERROR.equals(response.header(X_ALCHEMY_API_STATUS))
+        && DAILY_TRANSACTION_LIMIT_EXCEEDED.equals(response.header(X_ALCHEMY_API_ERROR_MSG));
+  }
+
   /*
    * (non-Javadoc)
    * 
@@ -196,8 +232,10 @@ public abstract class AlchemyService extends WatsonService {
   @Override
   protected void setAuthentication(Builder builder) {
     if (getApiKey() == null) {
+      if (getCredentialPool() != null)
+        return;
       throw new IllegalArgumentException("apiKey not specified");
     }
-    addApiKeyToRequest(builder, PARAM_APIKEY + "=" + getApiKey());
+    addApiKeyToRequest(builder, getApiKey());
   }
 }
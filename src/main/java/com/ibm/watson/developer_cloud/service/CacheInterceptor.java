@@ -0,0 +1,91 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+
+import com.ibm.watson.developer_cloud.http.HttpHeaders;
+import com.ibm.watson.developer_cloud.http.HttpStatus;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor that serves the GET requests of a {@link WatsonService} from its
+ * {@link ResponseCache}. Fresh responses are returned without calling the service, expired
+ * responses are revalidated with <code>If-None-Match</code> or <code>If-Modified-Since</code> when
+ * the service sent an <code>ETag</code> or a <code>Last-Modified</code> header.
+ */
+class CacheInterceptor implements Interceptor {
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new cache interceptor.
+   * 
+   * @param service the service that owns the response cache
+   */
+  CacheInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final Request request = chain.request();
+    final ResponseCache cache = service.getResponseCache();
+    if (cache == null || !"GET".equals(request.method())
+        || request.header(HttpHeaders.IF_NONE_MATCH) != null
+        || request.header(HttpHeaders.IF_MODIFIED_SINCE) != null)
+      return chain.proceed(request);
+
+    final long ttl = cache.getTtl(CallContext.getPathTemplate(request));
+    if (ttl <= 0)
+      return chain.proceed(request);
+
+    final String key = ResponseCache.key(request, service.getCredentialPool());
+    final ResponseCache.Entry cached = cache.get(key);
+    if (cached != null && System.currentTimeMillis() - cached.getStoredAt() < ttl)
+      return cached.newResponse(request);
+
+    Request networkRequest = request;
+    if (cached != null && (cached.getETag() != null || cached.getLastModified() != null)) {
+      final Request.Builder builder = request.newBuilder();
+      if (cached.getETag() != null)
+        builder.header(HttpHeaders.IF_NONE_MATCH, cached.getETag());
+      if (cached.getLastModified() != null)
+        builder.header(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+      networkRequest = builder.build();
+    }
+
+    final Response response = chain.proceed(networkRequest);
+    if (cached != null && response.code() == HttpStatus.NOT_MODIFIED) {
+      response.body().close();
+      cache.put(key, cached.revalidated(System.currentTimeMillis()));
+      return cached.newResponse(request);
+    }
+    if (response.code() != HttpStatus.OK)
+      return response;
+
+    final ResponseCache.Entry entry =
+        new ResponseCache.Entry(response.protocol(), response.code(), response.message(),
+            response.headers(), response.body().bytes(), System.currentTimeMillis());
+    cache.put(key, entry);
+    return entry.newResponse(request);
+  }
+}
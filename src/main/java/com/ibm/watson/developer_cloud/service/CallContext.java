@@ -0,0 +1,199 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.watson.developer_cloud.util.RequestUtil;
+import com.squareup.okhttp.Request;
+
+/**
+ * State of a call of a {@link WatsonService}, attached to its request as the tag so the
+ * interceptors can tell a call cancelled on the client side, or past its deadline, apart from a
+ * failure of the service. It also carries the path template of the request, computed once per call.
+ */
+class CallContext {
+
+  private volatile boolean canceled;
+  private final long deadline;
+  private final long expiry;
+  private volatile HedgedCall hedgedCall;
+  private final CallContext parent;
+  private final String pathTemplate;
+  private final boolean replayable;
+
+  /**
+   * Instantiates a new call context.
+   * 
+   * @param deadline the deadline in milliseconds, 0 for no deadline
+   * @param replayable whether the request body can be written more than once
+   * @param pathTemplate the path template of the request
+   */
+  CallContext(long deadline, boolean replayable, String pathTemplate) {
+    this.deadline = deadline;
+    this.expiry = deadline > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadline) : 0;
+    this.parent = null;
+    this.pathTemplate = pathTemplate;
+    this.replayable = replayable;
+  }
+
+  /**
+   * Instantiates a new call context part of another call.
+   * 
+   * @param parent the context of the call this one is part of
+   */
+  private CallContext(CallContext parent) {
+    this.deadline = parent.deadline;
+    this.expiry = parent.expiry;
+    this.parent = parent;
+    this.pathTemplate = parent.pathTemplate;
+    this.replayable = parent.replayable;
+  }
+
+  /**
+   * Gets the context of a request.
+   * 
+   * @param request the request
+   * @return the context or null if the request was not prepared by a {@link WatsonService}
+   */
+  static CallContext of(Request request) {
+    final Object tag = request.tag();
+    return tag instanceof CallContext ? (CallContext) tag : null;
+  }
+
+  /**
+   * Gets the path template of a request.
+   * 
+   * @param request the request
+   * @return the path template, derived from the path if the request was not prepared by a
+   *         {@link WatsonService}
+   */
+  static String getPathTemplate(Request request) {
+    final CallContext context = of(request);
+    if (context != null)
+      return context.getPathTemplate();
+    return RequestUtil.toPathTemplate(request.httpUrl().encodedPath());
+  }
+
+  /**
+   * Gets the time left before the deadline of the call a request is part of, so waits on the
+   * client side do not outlive the call.
+   * 
+   * @param request the request
+   * @return the time left in milliseconds, {@link Long#MAX_VALUE} if the call has no deadline
+   */
+  static long getRemaining(Request request) {
+    final CallContext context = of(request);
+    return context != null ? context.getRemaining() : Long.MAX_VALUE;
+  }
+
+  /**
+   * Checks if a failed request was cancelled or rejected on the client side: the call was
+   * cancelled, it was interrupted or a local limit rejected it. Socket timeouts are not included,
+   * they are caused by the service.
+   * 
+   * @param request the request
+   * @param e the failure
+   * @return true if the failure does not come from the service
+   */
+  static boolean isCanceled(Request request, IOException e) {
+    final CallContext context = of(request);
+    if (context != null && context.isCanceled())
+      return true;
+    return (e instanceof InterruptedIOException && !(e instanceof SocketTimeoutException))
+        || "Canceled".equals(e.getMessage());
+  }
+
+  /**
+   * Marks the call as cancelled, and cancels the requests of its hedged call if any.
+   */
+  void cancel() {
+    canceled = true;
+    final HedgedCall current = hedgedCall;
+    if (current != null)
+      current.cancel();
+  }
+
+  /**
+   * Creates the context of a request sent as part of this call, that can be cancelled on its own.
+   * 
+   * @return the context
+   */
+  CallContext fork() {
+    return new CallContext(this);
+  }
+
+  /**
+   * Gets the deadline of the call.
+   * 
+   * @return the deadline in milliseconds, 0 for no deadline
+   */
+  long getDeadline() {
+    return deadline;
+  }
+
+  /**
+   * Gets the path template of the request.
+   * 
+   * @return the path template
+   */
+  String getPathTemplate() {
+    return pathTemplate;
+  }
+
+  /**
+   * Sets the hedged call sending the request of this call, so that it is cancelled with the call.
+   * 
+   * @param hedgedCall the hedged call, null once it completed
+   */
+  void setHedgedCall(HedgedCall hedgedCall) {
+    this.hedgedCall = hedgedCall;
+    if (hedgedCall != null && isCanceled())
+      hedgedCall.cancel();
+  }
+
+  /**
+   * Gets the time left before the deadline of the call.
+   * 
+   * @return the time left in milliseconds, {@link Long#MAX_VALUE} if the call has no deadline
+   */
+  long getRemaining() {
+    if (expiry == 0)
+      return Long.MAX_VALUE;
+    return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiry - System.nanoTime()));
+  }
+
+  /**
+   * Checks if the request body can be written more than once, so the request can be retried or
+   * failed over.
+   * 
+   * @return true, if the request can be replayed
+   */
+  boolean isReplayable() {
+    return replayable;
+  }
+
+  /**
+   * Checks if the call was cancelled or its deadline expired.
+   * 
+   * @return true if the call or the call it is part of was cancelled
+   */
+  boolean isCanceled() {
+    return canceled || (parent != null && parent.isCanceled())
+        || (expiry != 0 && System.nanoTime() - expiry >= 0);
+  }
+}
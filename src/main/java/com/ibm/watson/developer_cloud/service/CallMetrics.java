@@ -0,0 +1,147 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of a single call made by a {@link WatsonService}, reported to a {@link MetricsListener}.
+ */
+public final class CallMetrics {
+
+  /** The status code reported when no response was received. */
+  public static final int NO_RESPONSE = -1;
+
+  private final long bytesReceived;
+  private final long bytesSent;
+  private final long duration;
+  private final String method;
+  private final String pathTemplate;
+  private final String serviceName;
+  private final int statusCode;
+  private final long timeToFirstByte;
+
+  /**
+   * Instantiates new call metrics.
+   * 
+   * @param serviceName the service name
+   * @param method the HTTP method
+   * @param pathTemplate the path template
+   * @param statusCode the HTTP status code or {@link #NO_RESPONSE}
+   * @param bytesSent the request body size in bytes, -1 if unknown
+   * @param bytesReceived the number of response body bytes read
+   * @param timeToFirstByte the time until the response headers were received, in nanoseconds
+   * @param duration the total duration of the call, in nanoseconds
+   */
+  public CallMetrics(String serviceName, String method, String pathTemplate, int statusCode,
+      long bytesSent, long bytesReceived, long timeToFirstByte, long duration) {
+    this.serviceName = serviceName;
+    this.method = method;
+    this.pathTemplate = pathTemplate;
+    this.statusCode = statusCode;
+    this.bytesSent = bytesSent;
+    this.bytesReceived = bytesReceived;
+    this.timeToFirstByte = timeToFirstByte;
+    this.duration = duration;
+  }
+
+  /**
+   * Gets the number of response body bytes read.
+   * 
+   * @return the bytes received
+   */
+  public long getBytesReceived() {
+    return bytesReceived;
+  }
+
+  /**
+   * Gets the request body size.
+   * 
+   * @return the bytes sent, -1 if unknown
+   */
+  public long getBytesSent() {
+    return bytesSent;
+  }
+
+  /**
+   * Gets the total duration of the call, from the time it was sent until the response body was
+   * consumed.
+   * 
+   * @param unit the time unit
+   * @return the duration
+   */
+  public long getDuration(TimeUnit unit) {
+    return unit.convert(duration, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Gets the HTTP method.
+   * 
+   * @return the method
+   */
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * Gets the path template, relative to the service end point, where identifiers are replaced by
+   * <code>{id}</code> (e.g. <code>/v1/classifiers/{id}/classify</code>).
+   * 
+   * @return the path template
+   */
+  public String getPathTemplate() {
+    return pathTemplate;
+  }
+
+  /**
+   * Gets the service name.
+   * 
+   * @return the service name
+   */
+  public String getServiceName() {
+    return serviceName;
+  }
+
+  /**
+   * Gets the HTTP status code.
+   * 
+   * @return the status code or {@link #NO_RESPONSE} if the call failed
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Gets the time until the response headers were received.
+   * 
+   * @param unit the time unit
+   * @return the time to first byte
+   */
+  public long getTimeToFirstByte(TimeUnit unit) {
+    return unit.convert(timeToFirstByte, TimeUnit.NANOSECONDS);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return serviceName + " " + method + " " + pathTemplate + " " + statusCode + " sent="
+        + bytesSent + " received=" + bytesReceived + " ttfb="
+        + getTimeToFirstByte(TimeUnit.MILLISECONDS) + "ms duration="
+        + getDuration(TimeUnit.MILLISECONDS) + "ms";
+  }
+}
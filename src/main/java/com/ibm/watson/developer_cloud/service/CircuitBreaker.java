@@ -0,0 +1,227 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Circuit breaker keyed by service endpoint. After <code>failureThreshold</code> consecutive
+ * failures (connection errors or 5xx responses) the circuit opens and requests fail right away
+ * with a {@link CircuitBreakerOpenException}. Once <code>openDuration</code> has elapsed the
+ * circuit becomes half-open and a single probe request is let through: the circuit closes if it
+ * succeeds and opens again otherwise.<br>
+ * <br>
+ * Each request admitted by {@link #tryAcquire(String)} gets a ticket that is passed back with its
+ * outcome. The ticket changes whenever the circuit changes state and for every probe, so late
+ * outcomes of requests sent before the circuit opened, or of requests other than the probe, are
+ * ignored.<br>
+ * <br>
+ * The same instance can be shared by several services.
+ * 
+ * <pre>
+ * service.setCircuitBreaker(new CircuitBreaker(5, 30000));
+ * </pre>
+ */
+public class CircuitBreaker {
+
+  /** Ticket returned by {@link #tryAcquire(String)} when the request is rejected. */
+  public static final long REJECTED = -1;
+
+  /**
+   * The circuit states.
+   */
+  public enum State {
+    /** Requests go through. */
+    CLOSED,
+    /** A probe request checks whether the endpoint recovered. */
+    HALF_OPEN,
+    /** Requests fail fast. */
+    OPEN
+  }
+
+  /**
+   * Circuit of a single endpoint.
+   */
+  private static class Circuit {
+    private int failures;
+    private long generation;
+    private long openedAt;
+    private boolean probing;
+    private State state = State.CLOSED;
+  }
+
+  private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<String, Circuit>();
+  private final int failureThreshold;
+  private final long openDuration;
+
+  /**
+   * Instantiates a new circuit breaker.
+   * 
+   * @param failureThreshold the number of consecutive failures that opens the circuit
+   * @param openDuration the time in milliseconds the circuit stays open before probing the endpoint
+   */
+  public CircuitBreaker(int failureThreshold, long openDuration) {
+    if (failureThreshold < 1)
+      throw new IllegalArgumentException("failureThreshold needs to be at least 1");
+    if (openDuration < 0)
+      throw new IllegalArgumentException("openDuration cannot be negative");
+
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+  }
+
+  /**
+   * Checks whether a request to the endpoint can be sent. Every admitted request needs to be
+   * followed by a call to {@link #onSuccess(String, long)}, {@link #onFailure(String, long)} or
+   * {@link #onCancel(String, long)} with its ticket.
+   * 
+   * @param endPoint the endpoint
+   * @return the ticket of the request, or {@link #REJECTED} if it cannot be sent
+   */
+  public long tryAcquire(String endPoint) {
+    final Circuit circuit = getCircuit(endPoint);
+    synchronized (circuit) {
+      switch (circuit.state) {
+        case CLOSED:
+          return circuit.generation;
+        case OPEN:
+          if (System.currentTimeMillis() - circuit.openedAt < openDuration)
+            return REJECTED;
+          circuit.state = State.HALF_OPEN;
+          return probe(circuit);
+        default:
+          if (circuit.probing)
+            return REJECTED;
+          return probe(circuit);
+      }
+    }
+  }
+
+  /**
+   * Lets a probe request through a half-open circuit.
+   * 
+   * @param circuit the circuit
+   * @return the ticket of the probe
+   */
+  private static long probe(Circuit circuit) {
+    circuit.probing = true;
+    return ++circuit.generation;
+  }
+
+  /**
+   * Gets the circuit of an endpoint, creating it if needed.
+   * 
+   * @param endPoint the endpoint
+   * @return the circuit
+   */
+  private Circuit getCircuit(String endPoint) {
+    final String key = endPoint != null ? endPoint : "";
+    Circuit circuit = circuits.get(key);
+    if (circuit == null) {
+      final Circuit newCircuit = new Circuit();
+      circuit = circuits.putIfAbsent(key, newCircuit);
+      if (circuit == null)
+        circuit = newCircuit;
+    }
+    return circuit;
+  }
+
+  /**
+   * Gets the failure threshold.
+   * 
+   * @return the failure threshold
+   */
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  /**
+   * Gets the open duration.
+   * 
+   * @return the open duration in milliseconds
+   */
+  public long getOpenDuration() {
+    return openDuration;
+  }
+
+  /**
+   * Gets the state of the circuit of an endpoint.
+   * 
+   * @param endPoint the endpoint
+   * @return the state
+   */
+  public State getState(String endPoint) {
+    final Circuit circuit = getCircuit(endPoint);
+    synchronized (circuit) {
+      return circuit.state;
+    }
+  }
+
+  /**
+   * Records a request that was cancelled, or rejected on the client side, before completing. It
+   * counts neither as a success nor as a failure.
+   * 
+   * @param endPoint the endpoint
+   * @param ticket the ticket of the request
+   */
+  public void onCancel(String endPoint, long ticket) {
+    final Circuit circuit = getCircuit(endPoint);
+    synchronized (circuit) {
+      if (ticket == circuit.generation)
+        circuit.probing = false;
+    }
+  }
+
+  /**
+   * Records a failed request.
+   * 
+   * @param endPoint the endpoint
+   * @param ticket the ticket of the request
+   */
+  public void onFailure(String endPoint, long ticket) {
+    final Circuit circuit = getCircuit(endPoint);
+    synchronized (circuit) {
+      if (ticket != circuit.generation)
+        return;
+      circuit.probing = false;
+      circuit.failures++;
+      if (circuit.state == State.HALF_OPEN || circuit.failures >= failureThreshold) {
+        circuit.state = State.OPEN;
+        circuit.openedAt = System.currentTimeMillis();
+        circuit.generation++;
+      }
+    }
+  }
+
+  /**
+   * Records a successful request.
+   * 
+   * @param endPoint the endpoint
+   * @param ticket the ticket of the request
+   */
+  public void onSuccess(String endPoint, long ticket) {
+    final Circuit circuit = getCircuit(endPoint);
+    synchronized (circuit) {
+      if (ticket != circuit.generation)
+        return;
+      circuit.probing = false;
+      circuit.failures = 0;
+      if (circuit.state != State.CLOSED) {
+        circuit.state = State.CLOSED;
+        circuit.generation++;
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.watson.developer_cloud.http.HttpHeaders;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+
+/**
+ * Interceptor that coalesces concurrent identical GET and HEAD requests of a {@link WatsonService}
+ * that enables request coalescing. The first request is sent and the identical requests received
+ * while it is in flight wait for its response, which is buffered and replayed to each of them.
+ * Requests are identical when they have the same method, URL, credentials and negotiated content
+ * (<code>Accept</code> and <code>Accept-Language</code> headers). Requests of different services
+ * are never coalesced, since the credentials of a {@link CredentialPool} are only set once the
+ * request leaves this interceptor.<br>
+ * <br>
+ * A waiting request stops waiting when its own call is cancelled or reaches its deadline, and is
+ * sent on its own when the request in flight was cancelled.
+ */
+class CoalescingInterceptor implements Interceptor {
+
+  /**
+   * A request in flight and its outcome.
+   */
+  private static final class Flight {
+    private byte[] body;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private IOException error;
+    private Response response;
+
+    /**
+     * Builds a copy of the shared response for the given request.
+     * 
+     * @param request the request
+     * @return the response
+     */
+    Response newResponse(Request request) {
+      final MediaType contentType = response.body() != null ? response.body().contentType() : null;
+      return response.newBuilder().request(request).body(ResponseBody.create(contentType, body))
+          .build();
+    }
+  }
+
+  /** Interval in milliseconds at which waiting requests check whether their call was cancelled. */
+  private static final long CANCEL_CHECK_INTERVAL = 50;
+
+  /** Bodies of unknown type are only shared up to this size. */
+  private static final long MAX_SHARED_BODY = 64 * 1024;
+
+  /**
+   * Checks if a response can be buffered and shared. JSON responses and small responses are
+   * shared, other responses (e.g. synthesized audio) keep being streamed.
+   * 
+   * @param response the response
+   * @return true if the response can be shared
+   * @throws IOException if the content length cannot be read
+   */
+  private static boolean isShareable(Response response) throws IOException {
+    if (response.body() == null)
+      return false;
+    final MediaType contentType = response.body().contentType();
+    if (contentType != null && contentType.subtype().contains("json"))
+      return true;
+    final long length = response.body().contentLength();
+    return length >= 0 && length <= MAX_SHARED_BODY;
+  }
+
+  private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<String, Flight>();
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new coalescing interceptor.
+   * 
+   * @param service the service that owns the interceptor
+   */
+  CoalescingInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final Request request = chain.request();
+    if (!service.isRequestCoalescing()
+        || !("GET".equals(request.method()) || "HEAD".equals(request.method())))
+      return chain.proceed(request);
+
+    final String key =
+        request.method() + " " + request.urlString() + " "
+            + request.header(HttpHeaders.AUTHORIZATION) + " " + request.header(HttpHeaders.ACCEPT)
+            + " " + request.header(HttpHeaders.ACCEPT_LANGUAGE);
+    final Flight flight = new Flight();
+    final Flight inFlight = flights.putIfAbsent(key, flight);
+    if (inFlight != null)
+      return await(inFlight, chain);
+
+    try {
+      final Response response = chain.proceed(request);
+      if (isShareable(response)) {
+        flight.body = response.body().bytes();
+        flight.response = response;
+        return flight.newResponse(request);
+      }
+      return response;
+    } catch (final IOException e) {
+      // a cancellation is not shared, the waiting requests are sent on their own
+      if (!CallContext.isCanceled(request, e))
+        flight.error = e;
+      throw e;
+    } finally {
+      flights.remove(key, flight);
+      flight.done.countDown();
+    }
+  }
+
+  /**
+   * Waits for a request in flight and returns a copy of its response. If the response could not
+   * be shared, or the request in flight was cancelled, the request is sent.
+   * 
+   * @param flight the request in flight
+   * @param chain the chain
+   * @return the response
+   * @throws IOException if the request in flight failed, or the call of this request was
+   *         cancelled or reached its deadline while waiting
+   */
+  private Response await(Flight flight, Chain chain) throws IOException {
+    final CallContext context = CallContext.of(chain.request());
+    try {
+      while (!flight.done.await(CANCEL_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+        if (context != null && context.isCanceled())
+          throw new InterruptedIOException("Canceled");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for an identical request");
+    }
+    if (flight.error != null)
+      throw flight.error;
+    if (flight.response == null)
+      return chain.proceed(chain.request());
+    return flight.newResponse(chain.request());
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.GzipSink;
+import okio.Okio;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor that gzips the request bodies selected by the {@link CompressionOptions} of a
+ * {@link WatsonService}. The body is compressed once, before the retries, and sent with its
+ * compressed length; it is sent uncompressed when compression doesn't make it smaller. Either way
+ * the body is held in memory, which also makes streamed bodies replayable.
+ */
+class CompressionInterceptor implements Interceptor {
+
+  private static final String CONTENT_ENCODING = "Content-Encoding";
+  private static final String GZIP = "gzip";
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new compression interceptor.
+   * 
+   * @param service the service that owns the compression options
+   */
+  CompressionInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final CompressionOptions options = service.getCompressionOptions();
+    final Request request = chain.request();
+    final RequestBody body = request.body();
+    if (options == null || body == null || request.header(CONTENT_ENCODING) != null)
+      return chain.proceed(request);
+
+    final long contentLength = body.contentLength();
+    final String pathTemplate = CallContext.getPathTemplate(request);
+    if (!options.isCompressed(pathTemplate, body.contentType(), contentLength))
+      return chain.proceed(request);
+
+    // the body may be a stream that can only be read once
+    final Buffer buffer = new Buffer();
+    body.writeTo(buffer);
+    final ByteString uncompressed = buffer.readByteString();
+    final BufferedSink gzip = Okio.buffer(new GzipSink(buffer));
+    gzip.write(uncompressed);
+    gzip.close();
+
+    final Request.Builder builder = request.newBuilder();
+    if (buffer.size() < uncompressed.size()) {
+      builder.header(CONTENT_ENCODING, GZIP).method(request.method(),
+          RequestBody.create(body.contentType(), buffer.readByteString()));
+    } else {
+      builder.method(request.method(), RequestBody.create(body.contentType(), uncompressed));
+    }
+    return chain.proceed(builder.build());
+  }
+}
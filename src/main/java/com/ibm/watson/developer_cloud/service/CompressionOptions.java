@@ -0,0 +1,107 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.squareup.okhttp.MediaType;
+
+/**
+ * Compression policy used by a {@link WatsonService} to gzip large request bodies. Text, JSON and
+ * XML bodies of a known length greater than the threshold are compressed and sent with a
+ * <code>Content-Encoding: gzip</code> header; other bodies are sent as they are.<br>
+ * <br>
+ * Not every endpoint accepts compressed bodies, so the paths registered with {@link #path(String)}
+ * are the only ones compressed. When no path is registered, the bodies of every call of the
+ * service are compressed.
+ * 
+ * <pre>
+ * service.setCompressionOptions(new CompressionOptions().path(&quot;/v2/profile&quot;)
+ *     .threshold(8192));
+ * </pre>
+ */
+public class CompressionOptions {
+
+  private final Set<String> paths = Collections.synchronizedSet(new HashSet<String>());
+  private long threshold = 1024;
+
+  /**
+   * Gets the threshold.
+   * 
+   * @return the minimum body size compressed, in bytes
+   */
+  public long getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Checks if a request body is compressed.
+   * 
+   * @param pathTemplate the path template of the request
+   * @param mediaType the media type of the body, can be null
+   * @param contentLength the length of the body, -1 if unknown
+   * @return true if the body is compressed
+   */
+  public boolean isCompressed(String pathTemplate, MediaType mediaType, long contentLength) {
+    if (contentLength < threshold || !isCompressible(mediaType))
+      return false;
+    synchronized (paths) {
+      return paths.isEmpty() || paths.contains(pathTemplate);
+    }
+  }
+
+  /**
+   * Checks if a media type is text that compresses well.
+   * 
+   * @param mediaType the media type, can be null
+   * @return true if the media type is text, JSON or XML
+   */
+  private static boolean isCompressible(MediaType mediaType) {
+    if (mediaType == null)
+      return false;
+    final String subtype = mediaType.subtype();
+    return "text".equals(mediaType.type()) || subtype.equals("json") || subtype.endsWith("+json")
+        || subtype.equals("xml") || subtype.endsWith("+xml");
+  }
+
+  /**
+   * Adds a path whose request bodies are compressed.
+   * 
+   * @param pathTemplate the path template, relative to the service end point, where identifiers
+   *        are replaced by <code>{id}</code> (e.g. <code>/v2/accounts/{id}/documents</code>)
+   * @return the compression options
+   */
+  public CompressionOptions path(String pathTemplate) {
+    if (pathTemplate == null)
+      throw new IllegalArgumentException("pathTemplate cannot be null");
+    paths.add(pathTemplate);
+    return this;
+  }
+
+  /**
+   * Sets the minimum size of the bodies that are compressed. Smaller bodies don't gain enough to
+   * pay for the compression. Default is 1024 bytes.
+   * 
+   * @param threshold the threshold in bytes
+   * @return the compression options
+   */
+  public CompressionOptions threshold(long threshold) {
+    if (threshold < 0)
+      throw new IllegalArgumentException("threshold cannot be negative");
+    this.threshold = threshold;
+    return this;
+  }
+}
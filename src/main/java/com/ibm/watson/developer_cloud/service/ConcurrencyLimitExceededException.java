@@ -0,0 +1,39 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.InterruptedIOException;
+
+/**
+ * Thrown without calling the service when the {@link ConcurrencyLimiter} of its endpoint has no
+ * capacity left and the call could not be queued.
+ */
+public class ConcurrencyLimitExceededException extends InterruptedIOException {
+
+  /**
+   * The Constant serialVersionUID.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Instantiates a new Concurrency Limit Exceeded Exception.
+   * 
+   * @param endPoint the endpoint
+   * @param limit the current concurrency limit of the endpoint
+   */
+  public ConcurrencyLimitExceededException(String endPoint, int limit) {
+    super("Concurrency limit of " + limit + " calls reached for " + endPoint);
+  }
+
+}
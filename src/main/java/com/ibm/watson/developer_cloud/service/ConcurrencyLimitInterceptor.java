@@ -0,0 +1,107 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import com.ibm.watson.developer_cloud.http.HttpStatus;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor that holds a slot of the {@link ConcurrencyLimiter} of a {@link WatsonService} while
+ * each attempt is in flight, and reports its round-trip time or whether the service shed load. A
+ * call with a deadline does not wait for a slot past it. The attempts routed by an
+ * {@link EndpointPool} are limited per selected endpoint.
+ */
+class ConcurrencyLimitInterceptor implements Interceptor {
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new concurrency limit interceptor.
+   * 
+   * @param service the service that owns the concurrency limiter
+   */
+  ConcurrencyLimitInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /**
+   * Gets the endpoint a request is sent to: the endpoint selected by the {@link EndpointPool} of
+   * the service, or its end point.
+   * 
+   * @param request the request
+   * @return the endpoint
+   */
+  private String getEndPoint(Request request) {
+    final EndpointPool pool = service.getEndPointPool();
+    final String endPoint = pool != null ? pool.getEndPoint(request.httpUrl()) : null;
+    return endPoint != null ? endPoint : service.getEndPoint();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final ConcurrencyLimiter limiter = service.getConcurrencyLimiter();
+    if (limiter == null)
+      return chain.proceed(chain.request());
+
+    final String endPoint = getEndPoint(chain.request());
+    final CallContext context = CallContext.of(chain.request());
+    final long remaining = context != null ? context.getRemaining() : Long.MAX_VALUE;
+    try {
+      limiter.acquire(endPoint, remaining);
+    } catch (final ConcurrencyLimitExceededException e) {
+      if (remaining >= limiter.getMaxWait())
+        throw e;
+      final DeadlineExceededException exception =
+          new DeadlineExceededException(context.getDeadline());
+      exception.initCause(e);
+      throw exception;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the concurrency limiter");
+    }
+
+    final long start = System.nanoTime();
+    final Response response;
+    try {
+      response = chain.proceed(chain.request());
+    } catch (final InterruptedIOException e) {
+      // timeouts
+      limiter.onDropped(endPoint);
+      throw e;
+    } catch (final IOException e) {
+      limiter.onIgnored(endPoint);
+      throw e;
+    } catch (final RuntimeException e) {
+      limiter.onIgnored(endPoint);
+      throw e;
+    }
+
+    if (response.code() == HttpStatus.TOO_MANY_REQUESTS
+        || response.code() == HttpStatus.SERVICE_UNAVAILABLE)
+      limiter.onDropped(endPoint);
+    else
+      limiter.onSuccess(endPoint, System.nanoTime() - start);
+    return response;
+  }
+}
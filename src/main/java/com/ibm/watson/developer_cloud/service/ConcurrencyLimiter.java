@@ -0,0 +1,249 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limit of the calls in flight, keyed by service endpoint. Instead of a fixed pool size,
+ * the limit follows the endpoint capacity:
+ * <ul>
+ * <li>when the round-trip time grows over the minimum observed one, the service is queuing
+ * requests and the limit is reduced by the latency gradient (<code>minRtt / rtt</code>), as TCP
+ * Vegas and gradient limiters do</li>
+ * <li>when the round-trip time stays close to the minimum, the limit grows by the square root of
+ * the limit</li>
+ * <li>when the service sheds load (429 or 503 responses, timeouts), the limit is cut by a
+ * multiplicative factor (AIMD)</li>
+ * </ul>
+ * Calls over the limit wait up to <code>maxWait</code> for a slot and are then rejected locally
+ * with a {@link ConcurrencyLimitExceededException}.<br>
+ * <br>
+ * The same instance can be shared by several services.
+ * 
+ * <pre>
+ * service.setConcurrencyLimiter(new ConcurrencyLimiter(10, 100, 1000));
+ * </pre>
+ */
+public class ConcurrencyLimiter {
+
+  /**
+   * Limit of a single endpoint.
+   */
+  private static class Limit {
+    private int inFlight;
+    private double limit;
+    private long minRtt = Long.MAX_VALUE;
+    private int samples;
+
+    /**
+     * Gets the limit as a number of calls.
+     * 
+     * @return the limit
+     */
+    int get() {
+      return (int) limit;
+    }
+  }
+
+  /** Factor applied to the limit when the service sheds load. */
+  private static final double BACKOFF_RATIO = 0.9;
+  /** Number of samples after which the minimum round-trip time is measured again. */
+  private static final int MIN_RTT_WINDOW = 500;
+  /** Weight of the new limit estimate. */
+  private static final double SMOOTHING = 0.2;
+  /** Round-trip time increase, relative to the minimum, tolerated before reducing the limit. */
+  private static final double TOLERANCE = 1.5;
+
+  private final int initialLimit;
+  private final ConcurrentMap<String, Limit> limits = new ConcurrentHashMap<String, Limit>();
+  private final int maxLimit;
+  private final long maxWait;
+
+  /**
+   * Instantiates a new concurrency limiter.
+   * 
+   * @param initialLimit the initial number of calls in flight allowed per endpoint
+   * @param maxLimit the maximum number of calls in flight allowed per endpoint
+   * @param maxWait the time in milliseconds a call waits for a slot before being rejected, 0 to
+   *        reject it right away
+   */
+  public ConcurrencyLimiter(int initialLimit, int maxLimit, long maxWait) {
+    if (initialLimit < 1)
+      throw new IllegalArgumentException("initialLimit needs to be at least 1");
+    if (maxLimit < initialLimit)
+      throw new IllegalArgumentException("maxLimit cannot be lower than initialLimit");
+    if (maxWait < 0)
+      throw new IllegalArgumentException("maxWait cannot be negative");
+
+    this.initialLimit = initialLimit;
+    this.maxLimit = maxLimit;
+    this.maxWait = maxWait;
+  }
+
+  /**
+   * Waits for a slot to call the endpoint. Every acquired slot needs to be released with
+   * {@link #onSuccess(String, long)}, {@link #onDropped(String)} or {@link #onIgnored(String)}.
+   * 
+   * @param endPoint the endpoint
+   * @throws ConcurrencyLimitExceededException if no slot was released within the max wait
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public void acquire(String endPoint) throws ConcurrencyLimitExceededException,
+      InterruptedException {
+    acquire(endPoint, maxWait);
+  }
+
+  /**
+   * Waits for a slot to call the endpoint, for no longer than the given timeout or the max wait,
+   * whichever is shorter. Every acquired slot needs to be released with
+   * {@link #onSuccess(String, long)}, {@link #onDropped(String)} or {@link #onIgnored(String)}.
+   * 
+   * @param endPoint the endpoint
+   * @param timeout the time in milliseconds the caller is willing to wait (e.g. until its deadline)
+   * @throws ConcurrencyLimitExceededException if no slot was released in time
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public void acquire(String endPoint, long timeout) throws ConcurrencyLimitExceededException,
+      InterruptedException {
+    final long wait = Math.min(maxWait, timeout);
+    final Limit limit = getEndPointLimit(endPoint);
+    synchronized (limit) {
+      if (limit.inFlight >= limit.get()) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(wait);
+        long remaining = deadline - System.nanoTime();
+        while (limit.inFlight >= limit.get()) {
+          if (remaining <= 0)
+            throw new ConcurrencyLimitExceededException(endPoint, limit.get());
+          TimeUnit.NANOSECONDS.timedWait(limit, remaining);
+          remaining = deadline - System.nanoTime();
+        }
+      }
+      limit.inFlight++;
+    }
+  }
+
+  /**
+   * Gets the number of calls in flight to an endpoint.
+   * 
+   * @param endPoint the endpoint
+   * @return the calls in flight
+   */
+  public int getInFlight(String endPoint) {
+    final Limit limit = getEndPointLimit(endPoint);
+    synchronized (limit) {
+      return limit.inFlight;
+    }
+  }
+
+  /**
+   * Gets the current limit of an endpoint.
+   * 
+   * @param endPoint the endpoint
+   * @return the number of calls in flight allowed
+   */
+  public int getLimit(String endPoint) {
+    final Limit limit = getEndPointLimit(endPoint);
+    synchronized (limit) {
+      return limit.get();
+    }
+  }
+
+  /**
+   * Gets the limit of an endpoint, creating it if needed.
+   * 
+   * @param endPoint the endpoint
+   * @return the limit
+   */
+  private Limit getEndPointLimit(String endPoint) {
+    final String key = endPoint != null ? endPoint : "";
+    Limit limit = limits.get(key);
+    if (limit == null) {
+      final Limit newLimit = new Limit();
+      newLimit.limit = initialLimit;
+      limit = limits.putIfAbsent(key, newLimit);
+      if (limit == null)
+        limit = newLimit;
+    }
+    return limit;
+  }
+
+  /**
+   * Gets the max wait.
+   * 
+   * @return the time in milliseconds a call waits for a slot
+   */
+  public long getMaxWait() {
+    return maxWait;
+  }
+
+  /**
+   * Releases a slot after the service shed load (429 or 503 responses, timeouts). The limit is
+   * reduced.
+   * 
+   * @param endPoint the endpoint
+   */
+  public void onDropped(String endPoint) {
+    final Limit limit = getEndPointLimit(endPoint);
+    synchronized (limit) {
+      limit.inFlight--;
+      limit.limit = Math.max(1, limit.limit * BACKOFF_RATIO);
+      limit.notifyAll();
+    }
+  }
+
+  /**
+   * Releases a slot without updating the limit, e.g. when the call failed for a reason unrelated
+   * to the service load.
+   * 
+   * @param endPoint the endpoint
+   */
+  public void onIgnored(String endPoint) {
+    final Limit limit = getEndPointLimit(endPoint);
+    synchronized (limit) {
+      limit.inFlight--;
+      limit.notifyAll();
+    }
+  }
+
+  /**
+   * Releases a slot after a successful call and updates the limit with the round-trip time.
+   * 
+   * @param endPoint the endpoint
+   * @param rtt the round-trip time in nanoseconds
+   */
+  public void onSuccess(String endPoint, long rtt) {
+    final Limit limit = getEndPointLimit(endPoint);
+    synchronized (limit) {
+      final int inFlight = limit.inFlight--;
+      if (++limit.samples > MIN_RTT_WINDOW) {
+        limit.samples = 0;
+        limit.minRtt = Long.MAX_VALUE;
+      }
+      limit.minRtt = Math.min(limit.minRtt, Math.max(1, rtt));
+
+      // the limit is not tested when most of it is unused, don't grow it
+      final double gradient =
+          Math.max(0.5, Math.min(1.0, TOLERANCE * limit.minRtt / Math.max(1, rtt)));
+      if (gradient < 1.0 || inFlight * 2 >= limit.limit) {
+        final double estimate = limit.limit * gradient + Math.sqrt(limit.limit);
+        final double smoothed = limit.limit * (1 - SMOOTHING) + estimate * SMOOTHING;
+        limit.limit = Math.max(1, Math.min(maxLimit, smoothed));
+      }
+      limit.notifyAll();
+    }
+  }
+}
@@ -0,0 +1,343 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of credentials (service instances or Alchemy API keys) used by a {@link WatsonService} to
+ * spread its calls across several quotas. Each credential is either an API key or the value of
+ * {@link com.squareup.okhttp.Credentials#basic(String, String)}, as accepted by
+ * {@link WatsonService#setApiKey(String)}.<br>
+ * <br>
+ * Credentials are selected according to the {@link Strategy}. A credential that is throttled (429)
+ * is benched for the time requested by the <code>Retry-After</code> header or
+ * <code>benchDuration</code>, and one that exceeded its daily transaction limit is benched until
+ * the next day (UTC). Throttled calls are sent again with the next credential so the aggregate
+ * throughput scales with the number of credentials. When every credential is benched the pool
+ * keeps using them rather than failing.<br>
+ * <br>
+ * The same instance can be shared by several services using the same credentials.
+ * 
+ * <pre>
+ * service.setCredentialPool(new CredentialPool(BluemixUtils.getAPIKeys(&quot;alchemy_api&quot;))
+ *     .strategy(Strategy.QUOTA_AWARE).quota(1000));
+ * </pre>
+ */
+public class CredentialPool {
+
+  /**
+   * Strategy used to select the credential of a call.
+   */
+  public enum Strategy {
+    /** Uses the credential with the fewest calls in flight. */
+    LEAST_LOADED,
+    /** Uses the credential with the most transactions left today. */
+    QUOTA_AWARE,
+    /** Uses the credentials one after the other. */
+    ROUND_ROBIN
+  }
+
+  /**
+   * Usage of a single credential.
+   */
+  private static class Usage {
+    private long benchedUntil;
+    private long day;
+    private int inFlight;
+    private long quota;
+    private long transactions;
+  }
+
+  private long benchDuration = TimeUnit.SECONDS.toMillis(60);
+  private int next;
+  private Strategy strategy = Strategy.ROUND_ROBIN;
+  private final Map<String, Usage> usages;
+
+  /**
+   * Instantiates a new credential pool.
+   * 
+   * @param apiKeys the API keys or basic credentials
+   */
+  public CredentialPool(String... apiKeys) {
+    this(apiKeys != null ? Arrays.asList(apiKeys) : null);
+  }
+
+  /**
+   * Instantiates a new credential pool.
+   * 
+   * @param apiKeys the API keys or basic credentials
+   */
+  public CredentialPool(List<String> apiKeys) {
+    if (apiKeys == null || apiKeys.isEmpty())
+      throw new IllegalArgumentException("apiKeys cannot be null or empty");
+
+    usages = new LinkedHashMap<String, Usage>();
+    for (final String apiKey : apiKeys) {
+      if (apiKey == null)
+        throw new IllegalArgumentException("apiKeys cannot contain null");
+      final Usage usage = new Usage();
+      usage.quota = Long.MAX_VALUE;
+      usages.put(apiKey, usage);
+    }
+  }
+
+  /**
+   * Sets the time a throttled credential is benched when the service doesn't send a
+   * <code>Retry-After</code> header. Default is 60 seconds.
+   * 
+   * @param benchDuration the bench duration in milliseconds
+   * @return the credential pool
+   */
+  public CredentialPool benchDuration(long benchDuration) {
+    if (benchDuration < 0)
+      throw new IllegalArgumentException("benchDuration cannot be negative");
+    this.benchDuration = benchDuration;
+    return this;
+  }
+
+  /**
+   * Gets the day of a timestamp, in UTC.
+   * 
+   * @param time the time in milliseconds
+   * @return the number of days since the epoch
+   */
+  private static long getDay(long time) {
+    return TimeUnit.MILLISECONDS.toDays(time);
+  }
+
+  /**
+   * Gets the API keys.
+   * 
+   * @return the API keys or basic credentials
+   */
+  public List<String> getApiKeys() {
+    return Collections.unmodifiableList(new ArrayList<String>(usages.keySet()));
+  }
+
+  /**
+   * Gets the number of calls in flight with a credential.
+   * 
+   * @param apiKey the API key
+   * @return the calls in flight
+   */
+  public synchronized int getInFlight(String apiKey) {
+    return getUsage(apiKey).inFlight;
+  }
+
+  /**
+   * Gets the number of transactions left today with a credential.
+   * 
+   * @param apiKey the API key
+   * @return the transactions left, {@link Long#MAX_VALUE} if the quota is unknown
+   */
+  public synchronized long getRemaining(String apiKey) {
+    return getRemaining(getUsage(apiKey), System.currentTimeMillis());
+  }
+
+  /**
+   * Gets the number of transactions left today.
+   * 
+   * @param usage the credential usage
+   * @param now the current time in milliseconds
+   * @return the transactions left
+   */
+  private long getRemaining(Usage usage, long now) {
+    if (usage.quota == Long.MAX_VALUE)
+      return Long.MAX_VALUE;
+    final long transactions = usage.day == getDay(now) ? usage.transactions : 0;
+    return Math.max(0, usage.quota - transactions);
+  }
+
+  /**
+   * Gets the strategy.
+   * 
+   * @return the strategy
+   */
+  public Strategy getStrategy() {
+    return strategy;
+  }
+
+  /**
+   * Gets the usage of a credential.
+   * 
+   * @param apiKey the API key
+   * @return the usage
+   */
+  private Usage getUsage(String apiKey) {
+    final Usage usage = usages.get(apiKey);
+    if (usage == null)
+      throw new IllegalArgumentException("apiKey is not in the pool");
+    return usage;
+  }
+
+  /**
+   * Checks if a credential is available, i.e. not benched.
+   * 
+   * @param apiKey the API key
+   * @return true if the credential is available
+   */
+  public synchronized boolean isAvailable(String apiKey) {
+    return getUsage(apiKey).benchedUntil <= System.currentTimeMillis();
+  }
+
+  /**
+   * Records the end of a call started with {@link #select(Collection)}.
+   * 
+   * @param apiKey the API key
+   */
+  synchronized void onComplete(String apiKey) {
+    getUsage(apiKey).inFlight--;
+  }
+
+  /**
+   * Records that a credential exceeded its daily transaction limit. The credential is benched until
+   * the next day (UTC).
+   * 
+   * @param apiKey the API key
+   */
+  public synchronized void onQuotaExceeded(String apiKey) {
+    final Calendar tomorrow = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    tomorrow.set(Calendar.HOUR_OF_DAY, 0);
+    tomorrow.set(Calendar.MINUTE, 0);
+    tomorrow.set(Calendar.SECOND, 0);
+    tomorrow.set(Calendar.MILLISECOND, 0);
+    tomorrow.add(Calendar.DAY_OF_MONTH, 1);
+    getUsage(apiKey).benchedUntil = tomorrow.getTimeInMillis();
+  }
+
+  /**
+   * Records that a credential was throttled (429).
+   * 
+   * @param apiKey the API key
+   * @param retryAfter the delay requested by the service in milliseconds, -1 to use the bench
+   *        duration
+   */
+  public synchronized void onThrottled(String apiKey, long retryAfter) {
+    final Usage usage = getUsage(apiKey);
+    final long until = System.currentTimeMillis() + (retryAfter >= 0 ? retryAfter : benchDuration);
+    usage.benchedUntil = Math.max(usage.benchedUntil, until);
+  }
+
+  /**
+   * Sets the daily transaction quota of every credential. The quota is only used by the
+   * {@link Strategy#QUOTA_AWARE} strategy, credentials are not benched until the service reports
+   * the limit was exceeded.
+   * 
+   * @param quota the number of transactions per day
+   * @return the credential pool
+   */
+  public synchronized CredentialPool quota(long quota) {
+    for (final String apiKey : usages.keySet()) {
+      quota(apiKey, quota);
+    }
+    return this;
+  }
+
+  /**
+   * Sets the daily transaction quota of a credential.
+   * 
+   * @param apiKey the API key
+   * @param quota the number of transactions per day
+   * @return the credential pool
+   * @see #quota(long)
+   */
+  public synchronized CredentialPool quota(String apiKey, long quota) {
+    if (quota < 0)
+      throw new IllegalArgumentException("quota cannot be negative");
+    getUsage(apiKey).quota = quota;
+    return this;
+  }
+
+  /**
+   * Selects the credential of the next call, which is counted as in flight and as a transaction
+   * until {@link #onComplete(String)} is called.
+   * 
+   * @param excluded the credentials already tried by the call
+   * @return the API key or null if all the credentials were tried
+   */
+  synchronized String select(Collection<String> excluded) {
+    final long now = System.currentTimeMillis();
+    final List<String> candidates = new ArrayList<String>(usages.size());
+    String firstBack = null;
+    for (final Map.Entry<String, Usage> entry : usages.entrySet()) {
+      if (excluded.contains(entry.getKey()))
+        continue;
+      if (entry.getValue().benchedUntil <= now)
+        candidates.add(entry.getKey());
+      else if (firstBack == null
+          || entry.getValue().benchedUntil < usages.get(firstBack).benchedUntil)
+        firstBack = entry.getKey();
+    }
+
+    final String selected;
+    if (candidates.isEmpty()) {
+      // every credential is benched, use the one that is back first
+      if (firstBack == null)
+        return null;
+      selected = firstBack;
+    } else if (strategy == Strategy.ROUND_ROBIN) {
+      // first candidate after the previous selection, in the order of the pool
+      final List<String> apiKeys = new ArrayList<String>(usages.keySet());
+      int i = next;
+      while (!candidates.contains(apiKeys.get(i % apiKeys.size()))) {
+        i++;
+      }
+      selected = apiKeys.get(i % apiKeys.size());
+      next = (i + 1) % apiKeys.size();
+    } else {
+      String best = candidates.get(0);
+      for (final String apiKey : candidates) {
+        final Usage usage = usages.get(apiKey);
+        final Usage bestUsage = usages.get(best);
+        if (strategy == Strategy.LEAST_LOADED ? usage.inFlight < bestUsage.inFlight
+            : getRemaining(usage, now) > getRemaining(bestUsage, now))
+          best = apiKey;
+      }
+      selected = best;
+    }
+
+    final Usage usage = usages.get(selected);
+    final long day = getDay(now);
+    if (usage.day != day) {
+      usage.day = day;
+      usage.transactions = 0;
+    }
+    usage.transactions++;
+    usage.inFlight++;
+    return selected;
+  }
+
+  /**
+   * Sets the strategy used to select the credentials. Default is {@link Strategy#ROUND_ROBIN}.
+   * 
+   * @param strategy the strategy
+   * @return the credential pool
+   */
+  public CredentialPool strategy(Strategy strategy) {
+    if (strategy == null)
+      throw new IllegalArgumentException("strategy cannot be null");
+    this.strategy = strategy;
+    return this;
+  }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibm.watson.developer_cloud.http.HttpStatus;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor that authenticates each attempt of a {@link WatsonService} with a credential of its
+ * {@link CredentialPool}. When the credential is throttled (429) or exceeded its daily transaction
+ * limit, it is benched and the request is sent again with the next credential. The service did not
+ * process the request so it is safe to send it again whatever the HTTP method is.
+ */
+class CredentialPoolInterceptor implements Interceptor {
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new credential pool interceptor.
+   * 
+   * @param service the service that owns the credential pool
+   */
+  CredentialPoolInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final CredentialPool pool = service.getCredentialPool();
+    final Request request = chain.request();
+    if (pool == null)
+      return chain.proceed(request);
+
+    final boolean replayable = RetryInterceptor.isReplayable(request);
+    final List<String> tried = new ArrayList<String>();
+    String apiKey = pool.select(tried);
+    while (true) {
+      tried.add(apiKey);
+      final Response response;
+      try {
+        response = chain.proceed(service.authenticate(request, apiKey));
+      } finally {
+        pool.onComplete(apiKey);
+      }
+
+      if (service.isQuotaExceeded(response))
+        pool.onQuotaExceeded(apiKey);
+      else if (response.code() == HttpStatus.TOO_MANY_REQUESTS)
+        pool.onThrottled(apiKey, RetryInterceptor.getRetryAfter(response));
+      else
+        return response;
+
+      if (!replayable)
+        return response;
+      final String next = pool.select(tried);
+      if (next == null)
+        return response;
+      response.body().close();
+      apiKey = next;
+    }
+  }
+}
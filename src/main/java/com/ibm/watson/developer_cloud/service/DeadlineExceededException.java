@@ -0,0 +1,38 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.InterruptedIOException;
+
+/**
+ * Thrown when a call of a {@link WatsonService} did not complete before its deadline. The call is
+ * cancelled when the deadline expires.
+ */
+public class DeadlineExceededException extends InterruptedIOException {
+
+  /**
+   * The Constant serialVersionUID.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Instantiates a new Deadline Exceeded Exception.
+   * 
+   * @param deadline the deadline in milliseconds
+   */
+  public DeadlineExceededException(long deadline) {
+    super("Deadline of " + deadline + " ms exceeded");
+  }
+
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+
+/**
+ * Timer that cancels a call when its deadline expires. It also holds the scheduler shared by the
+ * timers and the {@link HedgedCall}s, which are cancelled with the {@link CallContext}.<br>
+ * <br>
+ * Cancelled tasks stay in the queue of the scheduler until their delay elapses, so a stopped timer
+ * drops its references to the call and the queue is purged every {@link #PURGE_INTERVAL}
+ * cancellations.
+ */
+class DeadlineTimer implements Runnable {
+
+  private final class DeadlineResponseBody extends ResponseBody {
+    private final ResponseBody delegate;
+    private BufferedSource source;
+
+    DeadlineResponseBody(ResponseBody delegate) {
+      this.delegate = delegate;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.ResponseBody#contentLength()
+     */
+    @Override
+    public long contentLength() throws IOException {
+      return delegate.contentLength();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.ResponseBody#contentType()
+     */
+    @Override
+    public MediaType contentType() {
+      return delegate.contentType();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.ResponseBody#source()
+     */
+    @Override
+    public BufferedSource source() throws IOException {
+      if (source == null) {
+        source = Okio.buffer(new ForwardingSource(delegate.source()) {
+          @Override
+          public long read(Buffer sink, long byteCount) throws IOException {
+            final long read;
+            try {
+              read = super.read(sink, byteCount);
+            } catch (final IOException e) {
+              stop();
+              throw toException(e);
+            }
+            if (read == -1)
+              stop();
+            return read;
+          }
+
+          @Override
+          public void close() throws IOException {
+            stop();
+            super.close();
+          }
+        });
+      }
+      return source;
+    }
+  }
+
+  /** Number of cancelled tasks between two purges of the scheduler queue. */
+  static final int PURGE_INTERVAL = 100;
+
+  /** Scheduler of the deadlines and hedged requests. */
+  static final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+      new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+          final Thread thread = new Thread(runnable, "watson-scheduler");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+
+  private static final AtomicInteger cancellations = new AtomicInteger();
+
+  private volatile Call call;
+  private volatile CallContext context;
+  private final long deadline;
+  private volatile boolean expired;
+  private long start;
+  private ScheduledFuture<?> task;
+
+  /**
+   * Instantiates a new deadline timer.
+   * 
+   * @param deadline the deadline in milliseconds, 0 for no deadline
+   * @param context the context of the call, can be null
+   * @param call the call to cancel, can be null
+   */
+  DeadlineTimer(long deadline, CallContext context, Call call) {
+    this.deadline = deadline;
+    this.context = context;
+    this.call = call;
+  }
+
+  /**
+   * Cancels a task of the scheduler, purging the cancelled tasks from its queue every
+   * {@link #PURGE_INTERVAL} cancellations.
+   * 
+   * @param task the task, can be null
+   */
+  static void cancel(ScheduledFuture<?> task) {
+    if (task == null || !task.cancel(false))
+      return;
+    if (cancellations.incrementAndGet() % PURGE_INTERVAL == 0)
+      scheduler.purge();
+  }
+
+  /**
+   * Checks if the deadline expired.
+   * 
+   * @return true if the call was cancelled by the timer
+   */
+  boolean isExpired() {
+    return expired;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.lang.Runnable#run()
+   */
+  @Override
+  public void run() {
+    final CallContext context = this.context;
+    final Call call = this.call;
+    expired = true;
+    if (context != null)
+      context.cancel();
+    if (call != null)
+      call.cancel();
+  }
+
+  /**
+   * Starts the timer. Does nothing if there is no deadline.
+   * 
+   * @return the deadline timer
+   */
+  synchronized DeadlineTimer start() {
+    start = System.nanoTime();
+    if (deadline > 0)
+      task = scheduler.schedule(this, deadline, TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  /**
+   * Stops the timer once the call completed, and releases the call and its request.
+   */
+  synchronized void stop() {
+    cancel(task);
+    task = null;
+    call = null;
+    context = null;
+  }
+
+  /**
+   * Keeps the timer running while the body of the response is read, so that a body slower than
+   * the deadline fails with a {@link DeadlineExceededException}. The timer is stopped when the body
+   * is exhausted or closed, or immediately if the response has no body.
+   * 
+   * @param response the response of the call
+   * @return the response whose body stops the timer
+   */
+  Response watch(Response response) {
+    if (response.body() == null) {
+      stop();
+      return response;
+    }
+    return response.newBuilder().body(new DeadlineResponseBody(response.body())).build();
+  }
+
+  /**
+   * Replaces the failure of a call cancelled by the timer, or timed out after the deadline, by a
+   * {@link DeadlineExceededException}.
+   * 
+   * @param e the failure
+   * @return the exception to report
+   */
+  IOException toException(IOException e) {
+    final boolean timedOut =
+        deadline > 0 && e instanceof InterruptedIOException
+            && System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(deadline);
+    if (!expired && !timedOut)
+      return e;
+    final DeadlineExceededException exception = new DeadlineExceededException(deadline);
+    exception.initCause(e);
+    return exception;
+  }
+}
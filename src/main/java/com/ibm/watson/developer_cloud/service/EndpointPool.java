@@ -0,0 +1,315 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.squareup.okhttp.HttpUrl;
+
+/**
+ * Pool of equivalent endpoints of a service (e.g. regional gateways or dedicated instances) used by
+ * a {@link WatsonService} to spread its calls and fail over when an endpoint is slow or down.<br>
+ * <br>
+ * Each call picks two random available endpoints and goes to the one with the best score, the
+ * moving average of its latency weighted by its error rate ("power of two choices"). Endpoints not
+ * measured yet are preferred, and an endpoint that has not been selected for a while is probed so
+ * its latency is measured again. After <code>ejectionThreshold</code> consecutive failures an
+ * endpoint is ejected for <code>ejectionDuration</code> and calls fail over to the other endpoints.
+ * When every endpoint is ejected the pool keeps using them rather than failing.<br>
+ * <br>
+ * The same instance can be shared by several services using the same endpoints.
+ * 
+ * <pre>
+ * service.setEndPointPool(new EndpointPool(
+ *     &quot;https://gateway.watsonplatform.net/service/api&quot;,
+ *     &quot;https://gateway-fra.watsonplatform.net/service/api&quot;));
+ * </pre>
+ */
+public class EndpointPool {
+
+  /**
+   * Statistics of a single endpoint.
+   */
+  private static class Stats {
+    private int consecutiveFailures;
+    private long ejectedUntil;
+    private double errorRate;
+    private long lastSelection;
+    private double latency;
+    private boolean probing;
+    private final HttpUrl url;
+
+    /**
+     * Instantiates new statistics.
+     * 
+     * @param url the endpoint URL
+     */
+    Stats(HttpUrl url) {
+      this.url = url;
+    }
+  }
+
+  /** Weight of the last sample in the moving averages. */
+  private static final double DECAY = 0.2;
+  /** Score penalty of an endpoint that always fails, relative to its latency. */
+  private static final double ERROR_PENALTY = 10;
+  /** Number of selections after which an endpoint that was not selected is probed. */
+  private static final int PROBE_INTERVAL = 10;
+
+  private long ejectionDuration = TimeUnit.SECONDS.toMillis(30);
+  private int ejectionThreshold = 3;
+  private final Random random = new Random();
+  private long selections;
+  private final Map<String, Stats> stats;
+
+  /**
+   * Instantiates a new endpoint pool.
+   * 
+   * @param endPoints the endpoints
+   */
+  public EndpointPool(String... endPoints) {
+    this(endPoints != null ? Arrays.asList(endPoints) : null);
+  }
+
+  /**
+   * Instantiates a new endpoint pool.
+   * 
+   * @param endPoints the endpoints
+   */
+  public EndpointPool(List<String> endPoints) {
+    if (endPoints == null || endPoints.isEmpty())
+      throw new IllegalArgumentException("endPoints cannot be null or empty");
+
+    stats = new LinkedHashMap<String, Stats>();
+    for (final String endPoint : endPoints) {
+      if (endPoint == null)
+        throw new IllegalArgumentException("endPoints cannot contain null");
+      final HttpUrl url = HttpUrl.parse(endPoint);
+      if (url == null)
+        throw new IllegalArgumentException("invalid endpoint: " + endPoint);
+      stats.put(endPoint, new Stats(url));
+    }
+  }
+
+  /**
+   * Sets the time an endpoint stays ejected. Default is 30 seconds.
+   * 
+   * @param ejectionDuration the ejection duration in milliseconds
+   * @return the endpoint pool
+   */
+  public EndpointPool ejectionDuration(long ejectionDuration) {
+    if (ejectionDuration < 0)
+      throw new IllegalArgumentException("ejectionDuration cannot be negative");
+    this.ejectionDuration = ejectionDuration;
+    return this;
+  }
+
+  /**
+   * Sets the number of consecutive failures that ejects an endpoint. Default is 3.
+   * 
+   * @param ejectionThreshold the ejection threshold
+   * @return the endpoint pool
+   */
+  public EndpointPool ejectionThreshold(int ejectionThreshold) {
+    if (ejectionThreshold < 1)
+      throw new IllegalArgumentException("ejectionThreshold needs to be at least 1");
+    this.ejectionThreshold = ejectionThreshold;
+    return this;
+  }
+
+  /**
+   * Gets the endpoint a request was routed to.
+   * 
+   * @param url the URL of the request
+   * @return the endpoint, null if the URL is not under an endpoint of the pool
+   */
+  String getEndPoint(HttpUrl url) {
+    for (final Map.Entry<String, Stats> entry : stats.entrySet()) {
+      final HttpUrl endPointUrl = entry.getValue().url;
+      if (endPointUrl.host().equals(url.host()) && endPointUrl.port() == url.port()
+          && endPointUrl.scheme().equals(url.scheme())
+          && url.encodedPath().startsWith(endPointUrl.encodedPath()))
+        return entry.getKey();
+    }
+    return null;
+  }
+
+  /**
+   * Gets the URL of an endpoint, parsed once when the pool was created.
+   * 
+   * @param endPoint the endpoint
+   * @return the URL
+   */
+  HttpUrl getUrl(String endPoint) {
+    return stats.get(endPoint).url;
+  }
+
+  /**
+   * Gets the endpoints.
+   * 
+   * @return the endpoints
+   */
+  public List<String> getEndPoints() {
+    return Collections.unmodifiableList(new ArrayList<String>(stats.keySet()));
+  }
+
+  /**
+   * Gets the moving average of the error rate of an endpoint.
+   * 
+   * @param endPoint the endpoint
+   * @return the error rate, between 0 and 1
+   */
+  public synchronized double getErrorRate(String endPoint) {
+    return getStats(endPoint).errorRate;
+  }
+
+  /**
+   * Gets the moving average of the latency of an endpoint.
+   * 
+   * @param endPoint the endpoint
+   * @param unit the time unit
+   * @return the latency, 0 if the endpoint was not measured yet
+   */
+  public synchronized long getLatency(String endPoint, TimeUnit unit) {
+    return unit.convert((long) getStats(endPoint).latency, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Gets the score of an endpoint, lower is better.
+   * 
+   * @param stats the endpoint statistics
+   * @return the score
+   */
+  private double getScore(Stats stats) {
+    return stats.latency * (1 + ERROR_PENALTY * stats.errorRate);
+  }
+
+  /**
+   * Gets the statistics of an endpoint.
+   * 
+   * @param endPoint the endpoint
+   * @return the statistics
+   */
+  private Stats getStats(String endPoint) {
+    final Stats endPointStats = stats.get(endPoint);
+    if (endPointStats == null)
+      throw new IllegalArgumentException(endPoint + " is not in the pool");
+    return endPointStats;
+  }
+
+  /**
+   * Checks if an endpoint is available, i.e. not ejected.
+   * 
+   * @param endPoint the endpoint
+   * @return true if the endpoint is available
+   */
+  public synchronized boolean isAvailable(String endPoint) {
+    return getStats(endPoint).ejectedUntil <= System.currentTimeMillis();
+  }
+
+  /**
+   * Records a failed call (connection error or server error). The endpoint is ejected after too
+   * many consecutive failures.
+   * 
+   * @param endPoint the endpoint
+   */
+  public synchronized void onFailure(String endPoint) {
+    final Stats endPointStats = getStats(endPoint);
+    endPointStats.errorRate = endPointStats.errorRate * (1 - DECAY) + DECAY;
+    if (++endPointStats.consecutiveFailures >= ejectionThreshold) {
+      endPointStats.consecutiveFailures = 0;
+      endPointStats.ejectedUntil = System.currentTimeMillis() + ejectionDuration;
+    }
+  }
+
+  /**
+   * Records a successful call.
+   * 
+   * @param endPoint the endpoint
+   * @param latency the latency in nanoseconds
+   */
+  public synchronized void onSuccess(String endPoint, long latency) {
+    final Stats endPointStats = getStats(endPoint);
+    endPointStats.consecutiveFailures = 0;
+    endPointStats.ejectedUntil = 0;
+    endPointStats.errorRate = endPointStats.errorRate * (1 - DECAY);
+    if (endPointStats.latency == 0 || endPointStats.probing)
+      endPointStats.latency = latency;
+    else
+      endPointStats.latency = endPointStats.latency * (1 - DECAY) + latency * DECAY;
+    endPointStats.probing = false;
+  }
+
+  /**
+   * Selects the endpoint of the next call.
+   * 
+   * @param excluded the endpoints already tried by the call
+   * @return the endpoint or null if all the endpoints were tried
+   */
+  public synchronized String select(Collection<String> excluded) {
+    final long now = System.currentTimeMillis();
+    final List<String> candidates = new ArrayList<String>(stats.size());
+    final List<String> ejected = new ArrayList<String>();
+    for (final Map.Entry<String, Stats> entry : stats.entrySet()) {
+      if (excluded.contains(entry.getKey()))
+        continue;
+      if (entry.getValue().ejectedUntil > now)
+        ejected.add(entry.getKey());
+      else
+        candidates.add(entry.getKey());
+    }
+
+    String selected;
+    if (candidates.isEmpty()) {
+      if (ejected.isEmpty())
+        return null;
+      // every endpoint is ejected, use the one that recovers first
+      selected = ejected.get(0);
+      for (final String endPoint : ejected) {
+        if (stats.get(endPoint).ejectedUntil < stats.get(selected).ejectedUntil)
+          selected = endPoint;
+      }
+    } else if (candidates.size() == 1) {
+      selected = candidates.get(0);
+    } else {
+      selected = null;
+      for (final String endPoint : candidates) {
+        final Stats endPointStats = stats.get(endPoint);
+        if (selections - endPointStats.lastSelection > PROBE_INTERVAL) {
+          endPointStats.probing = true;
+          selected = endPoint;
+          break;
+        }
+      }
+      if (selected == null) {
+        final int i = random.nextInt(candidates.size());
+        final int j = (i + 1 + random.nextInt(candidates.size() - 1)) % candidates.size();
+        final String first = candidates.get(i);
+        final String second = candidates.get(j);
+        selected =
+            getScore(stats.get(first)) <= getScore(stats.get(second)) ? first : second;
+      }
+    }
+    stats.get(selected).lastSelection = ++selections;
+    return selected;
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibm.watson.developer_cloud.http.HttpStatus;
+import com.ibm.watson.developer_cloud.util.RequestUtil;
+import com.squareup.okhttp.HttpUrl;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor that routes the requests of a {@link WatsonService} to the endpoints of its
+ * {@link EndpointPool}. The service end point of the request URL is replaced by the selected
+ * endpoint and, when the call fails, the request fails over to the next endpoint if it is safe to
+ * send it again: the connection could not be established, the service was unavailable (503) or the
+ * request is idempotent. Calls cancelled on the client side are neither recorded nor failed over.
+ */
+class EndpointPoolInterceptor implements Interceptor {
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new endpoint pool interceptor.
+   * 
+   * @param service the service that owns the endpoint pool
+   */
+  EndpointPoolInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final EndpointPool pool = service.getEndPointPool();
+    final Request request = chain.request();
+    final String baseUrl = service.getEndPoint();
+    final HttpUrl base = service.getEndPointUrl();
+    if (pool == null || base == null || !request.urlString().startsWith(baseUrl))
+      return chain.proceed(request);
+
+    final String basePath = base.encodedPath();
+    final String path =
+        request.httpUrl().encodedPath()
+            .substring(basePath.endsWith("/") ? basePath.length() - 1 : basePath.length());
+    final String query = request.httpUrl().encodedQuery();
+    final boolean replayable = RetryInterceptor.isReplayable(request);
+    final boolean idempotent = RetryInterceptor.isIdempotent(request);
+    final List<String> tried = new ArrayList<String>();
+    String endPoint = pool.select(tried);
+    while (true) {
+      tried.add(endPoint);
+      final long start = System.nanoTime();
+      final Response response;
+      try {
+        final HttpUrl url = RequestUtil.resolve(pool.getUrl(endPoint), path, query);
+        response = chain.proceed(request.newBuilder().url(url).build());
+      } catch (final IOException e) {
+        // a cancelled call fails on every endpoint, they are not to blame
+        if (CallContext.isCanceled(request, e))
+          throw e;
+        pool.onFailure(endPoint);
+        final String next = pool.select(tried);
+        if (next == null || !replayable || !(idempotent || e instanceof ConnectException))
+          throw e;
+        endPoint = next;
+        continue;
+      }
+
+      if (response.code() < HttpStatus.INTERNAL_SERVER_ERROR) {
+        pool.onSuccess(endPoint, System.nanoTime() - start);
+        return response;
+      }
+
+      pool.onFailure(endPoint);
+      final String next = pool.select(tried);
+      if (next == null || !replayable
+          || !(idempotent || response.code() == HttpStatus.SERVICE_UNAVAILABLE))
+        return response;
+      response.body().close();
+      endPoint = next;
+    }
+  }
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.Callback;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+/**
+ * A call hedged according to {@link HedgingOptions}. The request is sent and, if no response was
+ * received after the hedging delay, sent again. The first response wins and the other
+ * {@link Call} is cancelled. It is run by the {@link HedgingInterceptor} with a client without
+ * interceptors, and cancelled with its {@link CallContext}. The latency of every request is
+ * recorded, the winner's and the losers', so that the hedging delay does not drift down to the
+ * latency of the fastest requests.
+ */
+class HedgedCall {
+
+  private Callback callback;
+  private boolean canceled;
+  private final List<Call> calls = new ArrayList<Call>(2);
+  private final OkHttpClient client;
+  private final List<CallContext> contexts = new ArrayList<CallContext>(2);
+  private boolean done;
+  private ScheduledFuture<?> hedge;
+  private final HedgingOptions options;
+  private final String pathTemplate;
+  private int pending;
+  private final Request request;
+  private final List<Long> sendTimes = new ArrayList<Long>(2);
+
+  /**
+   * Instantiates a new hedged call.
+   * 
+   * @param client the HTTP client
+   * @param request the request
+   * @param options the hedging options
+   * @param pathTemplate the path template of the request
+   */
+  HedgedCall(OkHttpClient client, Request request, HedgingOptions options, String pathTemplate) {
+    this.client = client;
+    this.request = request;
+    this.options = options;
+    this.pathTemplate = pathTemplate;
+  }
+
+  /**
+   * Cancels the call.
+   */
+  void cancel() {
+    final List<Call> toCancel;
+    synchronized (this) {
+      canceled = true;
+      DeadlineTimer.cancel(hedge);
+      toCancel = new ArrayList<Call>(calls);
+      for (final CallContext context : contexts)
+        context.cancel();
+    }
+    for (final Call call : toCancel)
+      call.cancel();
+  }
+
+  /**
+   * Sends the request on the calling thread and waits for the first response. Only the hedged
+   * request goes through the dispatcher of the client.
+   * 
+   * @return the response
+   * @throws IOException if all the requests failed
+   */
+  Response execute() throws IOException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final Response[] response = new Response[1];
+    final IOException[] error = new IOException[1];
+    final Call primary;
+    synchronized (this) {
+      callback = new Callback() {
+        @Override
+        public void onFailure(Request failedRequest, IOException e) {
+          error[0] = e;
+          latch.countDown();
+        }
+
+        @Override
+        public void onResponse(Response r) {
+          response[0] = r;
+          latch.countDown();
+        }
+      };
+      options.onCall();
+      primary = newCall();
+      if (canceled)
+        primary.cancel();
+      else
+        scheduleHedge();
+    }
+    Response primaryResponse = null;
+    try {
+      primaryResponse = primary.execute();
+    } catch (final IOException e) {
+      onFailure(e);
+    }
+    if (primaryResponse != null) {
+      try {
+        onResponse(primary, primaryResponse);
+      } catch (final IOException e) {
+        // the body of a response that lost the race could not be closed
+      }
+    }
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      cancel();
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the response");
+    }
+    if (error[0] != null)
+      throw error[0];
+    return response[0];
+  }
+
+  /**
+   * Schedules the hedged request. Must be called while holding the lock.
+   */
+  private void scheduleHedge() {
+    hedge = DeadlineTimer.scheduler.schedule(new Runnable() {
+      @Override
+      public void run() {
+        synchronized (HedgedCall.this) {
+          if (done || canceled || !options.tryHedge())
+            return;
+          send();
+        }
+      }
+    }, options.getDelay(pathTemplate), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Called when one of the requests failed. The failure is reported if no other request is in
+   * flight or scheduled.
+   * 
+   * @param e the exception
+   */
+  private void onFailure(IOException e) {
+    synchronized (this) {
+      pending--;
+      if (done || pending > 0)
+        return;
+      done = true;
+      DeadlineTimer.cancel(hedge);
+    }
+    callback.onFailure(request, e);
+  }
+
+  /**
+   * Called when one of the requests got a response. The first response is reported and the other
+   * requests are cancelled. The latency of a cancelled request is recorded as the time it had been
+   * in flight, a lower bound of the latency it would have had.
+   * 
+   * @param winner the call that got the response
+   * @param response the response
+   * @throws IOException if the response body cannot be closed
+   */
+  private void onResponse(Call winner, Response response) throws IOException {
+    final List<Call> losers;
+    final long[] latencies;
+    synchronized (this) {
+      pending--;
+      if (done) {
+        response.body().close();
+        return;
+      }
+      done = true;
+      DeadlineTimer.cancel(hedge);
+      losers = new ArrayList<Call>(calls);
+      latencies = new long[calls.size()];
+      final long now = System.nanoTime();
+      for (int i = 0; i < calls.size(); i++) {
+        latencies[i] = TimeUnit.NANOSECONDS.toMillis(now - sendTimes.get(i));
+        if (calls.get(i) != winner)
+          contexts.get(i).cancel();
+      }
+    }
+    for (final long latency : latencies)
+      options.recordLatency(pathTemplate, latency);
+    for (final Call loser : losers) {
+      if (loser != winner)
+        loser.cancel();
+    }
+    callback.onResponse(response);
+  }
+
+  /**
+   * Creates a call for a copy of the request. Must be called while holding the lock.
+   * 
+   * @return the call
+   */
+  private Call newCall() {
+    final CallContext parent = CallContext.of(request);
+    final CallContext context =
+        parent != null ? parent.fork() : new CallContext(0, true, pathTemplate);
+    final Call call = client.newCall(request.newBuilder().tag(context).build());
+    calls.add(call);
+    contexts.add(context);
+    sendTimes.add(System.nanoTime());
+    pending++;
+    return call;
+  }
+
+  /**
+   * Sends a copy of the request through the dispatcher. Must be called while holding the lock.
+   */
+  private void send() {
+    final Call call = newCall();
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Request failedRequest, IOException e) {
+        HedgedCall.this.onFailure(e);
+      }
+
+      @Override
+      public void onResponse(Response response) throws IOException {
+        HedgedCall.this.onResponse(call, response);
+      }
+    });
+  }
+}
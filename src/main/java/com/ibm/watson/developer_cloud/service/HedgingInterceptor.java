@@ -0,0 +1,66 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor that hedges the calls selected by the {@link HedgingOptions} of a
+ * {@link WatsonService}. It is the last interceptor of the service, so the metrics, rate limit,
+ * credential pool and retries see one call however many requests are sent; the requests are sent
+ * with a client without interceptors. Requests whose body can only be written once are never
+ * hedged, the copy would be sent with an exhausted body.
+ */
+class HedgingInterceptor implements Interceptor {
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new hedging interceptor.
+   * 
+   * @param service the service that owns the hedging options
+   */
+  HedgingInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final Request request = chain.request();
+    final HedgingOptions options = service.getHedgingOptions();
+    final CallContext context = CallContext.of(request);
+    if (options == null || context == null || !context.isReplayable()
+        || !options.isHedged(context.getPathTemplate()))
+      return chain.proceed(request);
+
+    final HedgedCall hedgedCall =
+        new HedgedCall(service.getHedgingClient(context.getDeadline()), request, options,
+            context.getPathTemplate());
+    context.setHedgedCall(hedgedCall);
+    try {
+      return hedgedCall.execute();
+    } finally {
+      context.setHedgedCall(null);
+    }
+  }
+}
@@ -0,0 +1,263 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.watson.developer_cloud.util.LatencyHistogram;
+
+/**
+ * Hedging policy used by a {@link WatsonService} to cut the tail latency of read-only calls. When a
+ * call has not completed after the latency percentile observed for its path, a duplicate request is
+ * sent, the first response wins and the other call is cancelled.<br>
+ * <br>
+ * Only the paths registered with {@link #path(String)} are hedged, so calls that modify data are
+ * never sent twice. The extra requests are bounded by {@link #getBudget()}, a fraction of the
+ * hedged calls. The latencies are kept per path over a sliding window, so the hedging delay
+ * follows the current latency of the service. The latency statistics and the budget are kept by
+ * the options, so options shared by several services share them too. All the durations are in
+ * milliseconds.
+ * 
+ * <pre>
+ * service.setHedgingOptions(new HedgingOptions().path(&quot;/v1/classifiers/{id}/classify&quot;)
+ *     .percentile(95).budget(0.05));
+ * </pre>
+ */
+public class HedgingOptions {
+
+  /** Number of latency samples needed before the percentile is used as the hedging delay. */
+  static final int MIN_SAMPLES = 20;
+
+  /**
+   * Latencies of a path recorded in two histograms: the current one, and the previous one that is
+   * used until the current one has enough samples. The histograms are swapped at the end of each
+   * window, so a latency is forgotten after two windows at most.
+   */
+  private static class Window {
+    private volatile LatencyHistogram current = new LatencyHistogram();
+    private volatile LatencyHistogram previous = new LatencyHistogram();
+    private final AtomicLong start = new AtomicLong(System.nanoTime());
+
+    /**
+     * Starts a new window if the current one is over. Values recorded concurrently may be lost.
+     * 
+     * @param length the window length in nanoseconds
+     */
+    void rotate(long length) {
+      final long now = System.nanoTime();
+      final long windowStart = start.get();
+      if (now - windowStart < length || !start.compareAndSet(windowStart, now))
+        return;
+      final LatencyHistogram recycled = previous;
+      recycled.reset();
+      if (now - windowStart >= 2 * length)
+        current.reset();
+      previous = current;
+      current = recycled;
+    }
+  }
+
+  private double budget = 0.05;
+  private final AtomicLong calls = new AtomicLong();
+  private final AtomicLong hedges = new AtomicLong();
+  private long initialDelay = 1000;
+  private final ConcurrentMap<String, Window> latencies = new ConcurrentHashMap<String, Window>();
+  private final Set<String> paths = Collections.synchronizedSet(new HashSet<String>());
+  private double percentile = 95;
+  private long window = TimeUnit.MINUTES.toMillis(1);
+
+  /**
+   * Sets the maximum number of extra requests, as a fraction of the hedged calls. Default is 0.05,
+   * at most 5% extra requests.
+   * 
+   * @param budget the budget, between 0 and 1
+   * @return the hedging options
+   */
+  public HedgingOptions budget(double budget) {
+    if (budget < 0 || budget > 1)
+      throw new IllegalArgumentException("budget must be between 0 and 1");
+    this.budget = budget;
+    return this;
+  }
+
+  /**
+   * Gets the budget.
+   * 
+   * @return the maximum fraction of extra requests
+   */
+  public double getBudget() {
+    return budget;
+  }
+
+  /**
+   * Gets the delay after which a call to a path is hedged. It is the configured percentile of the
+   * latencies observed for the path in the current window, or in the previous one until the current
+   * window has enough samples. The initial delay is used until enough calls have been observed.
+   * 
+   * @param pathTemplate the path template
+   * @return the delay in milliseconds
+   */
+  public long getDelay(String pathTemplate) {
+    final Window latencyWindow = latencies.get(pathTemplate);
+    if (latencyWindow == null)
+      return initialDelay;
+    latencyWindow.rotate(TimeUnit.MILLISECONDS.toNanos(window));
+    LatencyHistogram histogram = latencyWindow.current;
+    if (histogram.getCount() < MIN_SAMPLES)
+      histogram = latencyWindow.previous;
+    if (histogram.getCount() < MIN_SAMPLES)
+      return initialDelay;
+    return histogram.getValueAtPercentile(percentile);
+  }
+
+  /**
+   * Gets the initial delay.
+   * 
+   * @return the initial delay in milliseconds
+   */
+  public long getInitialDelay() {
+    return initialDelay;
+  }
+
+  /**
+   * Gets the latency percentile used as hedging delay.
+   * 
+   * @return the percentile
+   */
+  public double getPercentile() {
+    return percentile;
+  }
+
+  /**
+   * Gets the length of the latency window.
+   * 
+   * @return the window in milliseconds
+   */
+  public long getWindow() {
+    return window;
+  }
+
+  /**
+   * Sets the hedging delay used until enough calls have been observed to compute the latency
+   * percentile of a path. Default is 1 second.
+   * 
+   * @param initialDelay the initial delay in milliseconds
+   * @return the hedging options
+   */
+  public HedgingOptions initialDelay(long initialDelay) {
+    if (initialDelay < 0)
+      throw new IllegalArgumentException("initialDelay cannot be negative");
+    this.initialDelay = initialDelay;
+    return this;
+  }
+
+  /**
+   * Checks if the calls to a path are hedged.
+   * 
+   * @param pathTemplate the path template
+   * @return true if the calls are hedged
+   */
+  public boolean isHedged(String pathTemplate) {
+    return paths.contains(pathTemplate);
+  }
+
+  /**
+   * Adds a path whose calls are hedged. Only read-only operations should be added since the
+   * request may be sent twice.
+   * 
+   * @param pathTemplate the path template, relative to the service end point, where identifiers
+   *        are replaced by <code>{id}</code> (e.g. <code>/v1/classifiers/{id}/classify</code>)
+   * @return the hedging options
+   */
+  public HedgingOptions path(String pathTemplate) {
+    if (pathTemplate == null)
+      throw new IllegalArgumentException("pathTemplate cannot be null");
+    paths.add(pathTemplate);
+    return this;
+  }
+
+  /**
+   * Sets the latency percentile after which a call is hedged. Default is 95.
+   * 
+   * @param percentile the percentile, between 0 and 100
+   * @return the hedging options
+   */
+  public HedgingOptions percentile(double percentile) {
+    if (percentile <= 0 || percentile > 100)
+      throw new IllegalArgumentException("percentile must be between 0 and 100");
+    this.percentile = percentile;
+    return this;
+  }
+
+  /**
+   * Records the latency of a completed call.
+   * 
+   * @param pathTemplate the path template
+   * @param latency the latency in milliseconds
+   */
+  void recordLatency(String pathTemplate, long latency) {
+    Window latencyWindow = latencies.get(pathTemplate);
+    if (latencyWindow == null) {
+      final Window created = new Window();
+      latencyWindow = latencies.putIfAbsent(pathTemplate, created);
+      if (latencyWindow == null)
+        latencyWindow = created;
+    }
+    latencyWindow.rotate(TimeUnit.MILLISECONDS.toNanos(window));
+    latencyWindow.current.recordValue(latency);
+  }
+
+  /**
+   * Sets the length of the window over which the latencies of a path are kept. The hedging delay
+   * is computed from the latencies of the last one or two windows, so it adapts when the latency
+   * of the service changes. Default is 1 minute.
+   * 
+   * @param window the window in milliseconds
+   * @return the hedging options
+   */
+  public HedgingOptions window(long window) {
+    if (window <= 0)
+      throw new IllegalArgumentException("window must be positive");
+    this.window = window;
+    return this;
+  }
+
+  /**
+   * Counts a hedged call.
+   */
+  void onCall() {
+    calls.incrementAndGet();
+  }
+
+  /**
+   * Reserves an extra request if the budget allows it.
+   * 
+   * @return true if the extra request can be sent
+   */
+  boolean tryHedge() {
+    while (true) {
+      final long current = hedges.get();
+      if (current + 1 > budget * calls.get())
+        return false;
+      if (hedges.compareAndSet(current, current + 1))
+        return true;
+    }
+  }
+}
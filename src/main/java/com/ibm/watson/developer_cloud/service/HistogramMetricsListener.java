@@ -0,0 +1,114 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.watson.developer_cloud.util.LatencyHistogram;
+
+/**
+ * {@link MetricsListener} that records the call durations, in microseconds, in one
+ * {@link LatencyHistogram} per operation. Operations are identified by the service name, the HTTP
+ * method and the path template (e.g. <code>natural_language_classifier POST
+ * /v1/classifiers/{id}/classify</code>). The same listener can be shared by several services and
+ * scraped at any time with {@link #getHistograms()}.
+ */
+public class HistogramMetricsListener implements MetricsListener {
+
+  private final ConcurrentMap<String, LatencyHistogram> histograms =
+      new ConcurrentHashMap<String, LatencyHistogram>();
+  private final ConcurrentMap<String, LatencyHistogram> errors =
+      new ConcurrentHashMap<String, LatencyHistogram>();
+
+  /**
+   * Gets the histogram of an operation, creating it if needed.
+   * 
+   * @param map the histograms
+   * @param operation the operation
+   * @return the histogram
+   */
+  private static LatencyHistogram getOrCreate(ConcurrentMap<String, LatencyHistogram> map,
+      String operation) {
+    LatencyHistogram histogram = map.get(operation);
+    if (histogram == null) {
+      final LatencyHistogram created = new LatencyHistogram();
+      histogram = map.putIfAbsent(operation, created);
+      if (histogram == null)
+        histogram = created;
+    }
+    return histogram;
+  }
+
+  /**
+   * Gets the histograms of the failed calls, calls that did not get a response or got a status
+   * code greater or equal to 400, keyed by operation.
+   * 
+   * @return the sorted histograms of the failed calls
+   */
+  public Map<String, LatencyHistogram> getErrorHistograms() {
+    return Collections.unmodifiableMap(new TreeMap<String, LatencyHistogram>(errors));
+  }
+
+  /**
+   * Gets the histograms of all the calls keyed by operation.
+   * 
+   * @return the sorted histograms
+   */
+  public Map<String, LatencyHistogram> getHistograms() {
+    return Collections.unmodifiableMap(new TreeMap<String, LatencyHistogram>(histograms));
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see
+   * com.ibm.watson.developer_cloud.service.MetricsListener#onCall(com.ibm.watson.developer_cloud
+   * .service.CallMetrics)
+   */
+  @Override
+  public void onCall(CallMetrics metrics) {
+    final String operation =
+        metrics.getServiceName() + " " + metrics.getMethod() + " " + metrics.getPathTemplate();
+    final long duration = metrics.getDuration(TimeUnit.MICROSECONDS);
+    getOrCreate(histograms, operation).recordValue(duration);
+    if (metrics.getStatusCode() == CallMetrics.NO_RESPONSE || metrics.getStatusCode() >= 400)
+      getOrCreate(errors, operation).recordValue(duration);
+  }
+
+  /**
+   * Clears all the histograms.
+   */
+  public void reset() {
+    histograms.clear();
+    errors.clear();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    for (final Map.Entry<String, LatencyHistogram> entry : getHistograms().entrySet())
+      builder.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+    return builder.toString();
+  }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.squareup.okhttp.Connection;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor that runs the global interceptors and the interceptors of a {@link WatsonService},
+ * in that order, before the retry and rate limit interceptors. The interceptors are looked up on
+ * every call, so they can be added or removed without rebuilding the HTTP client.
+ */
+class InterceptorChain implements Interceptor {
+
+  /**
+   * Chain that calls the next interceptor, or the rest of the HTTP client chain once all the
+   * interceptors have been called.
+   */
+  private static final class RealChain implements Chain {
+    private final Chain chain;
+    private final int index;
+    private final List<Interceptor> interceptors;
+    private final Request request;
+
+    /**
+     * Instantiates a new chain.
+     * 
+     * @param interceptors the interceptors
+     * @param index the index of the next interceptor
+     * @param request the request
+     * @param chain the HTTP client chain
+     */
+    RealChain(List<Interceptor> interceptors, int index, Request request, Chain chain) {
+      this.interceptors = interceptors;
+      this.index = index;
+      this.request = request;
+      this.chain = chain;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.Interceptor.Chain#connection()
+     */
+    @Override
+    public Connection connection() {
+      return chain.connection();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.Interceptor.Chain#proceed(com.squareup.okhttp.Request)
+     */
+    @Override
+    public Response proceed(Request request) throws IOException {
+      if (index == interceptors.size())
+        return chain.proceed(request);
+
+      final Interceptor interceptor = interceptors.get(index);
+      final Response response =
+          interceptor.intercept(new RealChain(interceptors, index + 1, request, chain));
+      if (response == null)
+        throw new NullPointerException("interceptor " + interceptor + " returned null");
+      return response;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.Interceptor.Chain#request()
+     */
+    @Override
+    public Request request() {
+      return request;
+    }
+  }
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new interceptor chain.
+   * 
+   * @param service the service that owns the interceptors
+   */
+  InterceptorChain(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final List<Interceptor> global = WatsonService.getGlobalInterceptors();
+    final List<Interceptor> local = service.getInterceptors();
+    if (global.isEmpty() && local.isEmpty())
+      return chain.proceed(chain.request());
+
+    final List<Interceptor> interceptors = new ArrayList<Interceptor>(global.size() + local.size());
+    interceptors.addAll(global);
+    interceptors.addAll(local);
+    return new RealChain(interceptors, 0, chain.request(), chain).proceed(chain.request());
+  }
+}
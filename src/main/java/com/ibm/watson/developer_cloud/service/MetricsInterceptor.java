@@ -0,0 +1,208 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+
+/**
+ * Interceptor that reports the {@link CallMetrics} of every call to the {@link MetricsListener} of
+ * a {@link WatsonService}. It wraps the response body so the metrics are reported once the body
+ * has been consumed or closed.
+ */
+class MetricsInterceptor implements Interceptor {
+
+  /**
+   * Response body that counts the bytes read and reports the metrics when it is exhausted or
+   * closed.
+   */
+  private final class MetricsResponseBody extends ResponseBody {
+    private final ResponseBody delegate;
+    private final Call call;
+    private BufferedSource source;
+
+    /**
+     * Instantiates a new metrics response body.
+     * 
+     * @param delegate the response body
+     * @param call the call being measured
+     */
+    MetricsResponseBody(ResponseBody delegate, Call call) {
+      this.delegate = delegate;
+      this.call = call;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.ResponseBody#contentLength()
+     */
+    @Override
+    public long contentLength() throws IOException {
+      return delegate.contentLength();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.ResponseBody#contentType()
+     */
+    @Override
+    public MediaType contentType() {
+      return delegate.contentType();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.squareup.okhttp.ResponseBody#source()
+     */
+    @Override
+    public BufferedSource source() throws IOException {
+      if (source == null) {
+        source = Okio.buffer(new ForwardingSource(delegate.source()) {
+          @Override
+          public long read(Buffer sink, long byteCount) throws IOException {
+            final long read = super.read(sink, byteCount);
+            if (read == -1)
+              call.complete();
+            else
+              call.bytesReceived += read;
+            return read;
+          }
+
+          @Override
+          public void close() throws IOException {
+            call.complete();
+            super.close();
+          }
+        });
+      }
+      return source;
+    }
+  }
+
+  /**
+   * The state of a measured call.
+   */
+  private final class Call {
+    private final MetricsListener listener;
+    private final Request request;
+    private Request sentRequest;
+    private final long start;
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile long bytesReceived;
+    private int statusCode = CallMetrics.NO_RESPONSE;
+    private long timeToFirstByte;
+
+    /**
+     * Instantiates a new call.
+     * 
+     * @param listener the listener
+     * @param request the request
+     */
+    Call(MetricsListener listener, Request request) {
+      this.listener = listener;
+      this.request = request;
+      this.start = System.nanoTime();
+    }
+
+    /**
+     * Reports the metrics of the call, only the first time it is called.
+     */
+    void complete() {
+      if (!completed.compareAndSet(false, true))
+        return;
+
+      final long duration = System.nanoTime() - start;
+      long bytesSent = -1;
+      try {
+        // the request sent may have a compressed body
+        final Request sent = sentRequest != null ? sentRequest : request;
+        bytesSent = sent.body() != null ? sent.body().contentLength() : 0;
+      } catch (final IOException e) {
+        // unknown length
+      }
+      final String pathTemplate = CallContext.getPathTemplate(request);
+      final long ttfb = statusCode == CallMetrics.NO_RESPONSE ? duration : timeToFirstByte;
+      final CallMetrics metrics =
+          new CallMetrics(service.getName(), request.method(), pathTemplate, statusCode,
+              bytesSent, bytesReceived, ttfb, duration);
+      try {
+        listener.onCall(metrics);
+      } catch (final RuntimeException e) {
+        log.log(Level.WARNING, "Metrics listener failed", e);
+      }
+    }
+  }
+
+  private static final Logger log = Logger.getLogger(MetricsInterceptor.class.getName());
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new metrics interceptor.
+   * 
+   * @param service the service that owns the metrics listener
+   */
+  MetricsInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final MetricsListener listener = service.getMetricsListener();
+    if (listener == null)
+      return chain.proceed(chain.request());
+
+    final Call call = new Call(listener, chain.request());
+    final Response response;
+    try {
+      response = chain.proceed(chain.request());
+    } catch (final IOException e) {
+      call.complete();
+      throw e;
+    } catch (final RuntimeException e) {
+      call.complete();
+      throw e;
+    }
+    call.statusCode = response.code();
+    call.sentRequest = response.request();
+    call.timeToFirstByte = System.nanoTime() - call.start;
+
+    if (response.body() == null) {
+      call.complete();
+      return response;
+    }
+    return response.newBuilder().body(new MetricsResponseBody(response.body(), call)).build();
+  }
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+/**
+ * Receives the metrics of every call made by a {@link WatsonService}. Listeners are called once per
+ * call (retries included) after the response body has been consumed or the call has failed, on the
+ * thread that consumed the response. Implementations must be thread-safe and should return quickly.
+ * 
+ * @see HistogramMetricsListener
+ */
+public interface MetricsListener {
+
+  /**
+   * Called when a call completes.
+   * 
+   * @param metrics the call metrics
+   */
+  void onCall(CallMetrics metrics);
+}
@@ -0,0 +1,268 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Future;
+
+/**
+ * {@link Publisher} of the items of a paged endpoint. Pages are fetched with the asynchronous
+ * methods of the service only when the subscriber has demand, and the next page is fetched while
+ * the items of the current one are being processed. At most one page is buffered ahead, so large
+ * result sets are never held in memory.
+ * 
+ * <pre>
+ * service.getConversationDataPublisher(params).subscribe(new Subscriber&lt;ConversationData&gt;() {
+ *   private Subscription subscription;
+ * 
+ *   public void onSubscribe(Subscription s) {
+ *     subscription = s;
+ *     s.request(10);
+ *   }
+ * 
+ *   public void onNext(ConversationData data) {
+ *     process(data);
+ *     subscription.request(1);
+ *   }
+ *   ...
+ * });
+ * </pre>
+ * 
+ * @param <P> the type of the pages
+ * @param <T> the type of the items
+ */
+public abstract class PagedPublisher<P, T> implements Publisher<T> {
+
+  /**
+   * Subscription that fetches the pages of one subscriber.
+   */
+  private final class PageSubscription implements Subscription {
+
+    private boolean cancelled;
+    private boolean emitting;
+    private Exception failure;
+    private boolean fetching;
+    private Future<P> future;
+    private boolean hasMore = true;
+    private final Queue<T> items = new LinkedList<T>();
+    private P lastPage;
+    private int lastPageSize = -1;
+    private boolean missed;
+    private int offset;
+    private long requested;
+    private final Subscriber<? super T> subscriber;
+
+    /**
+     * Instantiates a new page subscription.
+     * 
+     * @param subscriber the subscriber
+     */
+    private PageSubscription(Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.ibm.watson.developer_cloud.service.Subscription#cancel()
+     */
+    @Override
+    public void cancel() {
+      final Future<P> current;
+      synchronized (this) {
+        if (cancelled)
+          return;
+        cancelled = true;
+        items.clear();
+        current = future;
+      }
+      if (current != null)
+        current.cancel(true);
+    }
+
+    /**
+     * Emits the buffered items while there is demand, fetches the next page when the buffer runs
+     * low and signals the end of the items. Only one thread emits at a time, the others record that
+     * the state changed and leave.
+     */
+    private void drain() {
+      synchronized (this) {
+        if (emitting) {
+          missed = true;
+          return;
+        }
+        emitting = true;
+      }
+      while (true) {
+        boolean fetch = false;
+        T item = null;
+        Exception error = null;
+        boolean complete = false;
+        synchronized (this) {
+          if (cancelled) {
+            emitting = false;
+            return;
+          }
+          if (requested > 0 && !items.isEmpty()) {
+            item = items.poll();
+            if (requested != Long.MAX_VALUE)
+              requested--;
+          }
+          // the first page waits for demand, the next one is fetched as soon as the items of the
+          // last page start being emitted
+          if (!fetching && hasMore && failure == null
+              && ((requested > 0 && items.isEmpty()) || items.size() < lastPageSize)) {
+            fetching = true;
+            fetch = true;
+          }
+          if (item == null) {
+            if (items.isEmpty() && failure != null) {
+              error = failure;
+              cancelled = true;
+            } else if (items.isEmpty() && !hasMore && !fetching) {
+              complete = true;
+              cancelled = true;
+            } else if (!fetch) {
+              if (!missed) {
+                emitting = false;
+                return;
+              }
+              missed = false;
+            }
+          }
+        }
+        if (fetch)
+          fetchNext();
+        if (item != null) {
+          subscriber.onNext(item);
+        } else if (error != null) {
+          subscriber.onError(error);
+          return;
+        } else if (complete) {
+          subscriber.onComplete();
+          return;
+        }
+      }
+    }
+
+    /**
+     * Fetches the page after the last one received.
+     */
+    private void fetchNext() {
+      final P previous;
+      final int received;
+      synchronized (this) {
+        previous = lastPage;
+        received = offset;
+      }
+      try {
+        final Future<P> next = fetch(previous, received, new ServiceCallback<P>() {
+          @Override
+          public void onFailure(Exception e) {
+            synchronized (PageSubscription.this) {
+              fetching = false;
+              failure = e;
+            }
+            drain();
+          }
+
+          @Override
+          public void onResponse(P page) {
+            final List<T> pageItems = page != null ? getItems(page) : null;
+            final int size = pageItems != null ? pageItems.size() : 0;
+            synchronized (PageSubscription.this) {
+              fetching = false;
+              lastPage = page;
+              lastPageSize = size;
+              offset += size;
+              hasMore = page != null && hasNext(page, offset);
+              if (!cancelled && pageItems != null)
+                items.addAll(pageItems);
+            }
+            drain();
+          }
+        });
+        synchronized (this) {
+          future = next;
+        }
+      } catch (final RuntimeException e) {
+        synchronized (this) {
+          fetching = false;
+          failure = e;
+        }
+        drain();
+      }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.ibm.watson.developer_cloud.service.Subscription#request(long)
+     */
+    @Override
+    public void request(long n) {
+      synchronized (this) {
+        if (n <= 0) {
+          items.clear();
+          failure = new IllegalArgumentException("the number of items requested must be positive");
+        } else {
+          requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+        }
+      }
+      drain();
+    }
+  }
+
+  /**
+   * Fetches a page without blocking the calling thread.
+   * 
+   * @param previous the previous page, null for the first one
+   * @param offset the number of items received in the previous pages
+   * @param callback the callback to notify when the page is received
+   * @return a {@link Future} with the page
+   */
+  protected abstract Future<P> fetch(P previous, int offset, ServiceCallback<P> callback);
+
+  /**
+   * Gets the items of a page.
+   * 
+   * @param page the page
+   * @return the items, can be null
+   */
+  protected abstract List<T> getItems(P page);
+
+  /**
+   * Checks whether there are more pages after the given one.
+   * 
+   * @param page the page
+   * @param offset the number of items received, including the ones of the page
+   * @return true, if there are more pages
+   */
+  protected abstract boolean hasNext(P page, int offset);
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.ibm.watson.developer_cloud.service.Publisher#subscribe(com.ibm.watson.developer_cloud
+   * .service.Subscriber)
+   */
+  @Override
+  public void subscribe(Subscriber<? super T> subscriber) {
+    if (subscriber == null)
+      throw new NullPointerException("subscriber cannot be null");
+    subscriber.onSubscribe(new PageSubscription(subscriber));
+  }
+}
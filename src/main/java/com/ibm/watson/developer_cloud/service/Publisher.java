@@ -0,0 +1,32 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+/**
+ * Publisher of a potentially unbounded number of items, emitted to a {@link Subscriber} as it
+ * signals demand through its {@link Subscription}. It follows the contract of the Reactive Streams
+ * <code>Publisher</code>, so it can be adapted to any Reactive Streams library.
+ * 
+ * @param <T> the type of the items
+ */
+public interface Publisher<T> {
+
+  /**
+   * Starts emitting items to the subscriber. Nothing is requested from the service until the
+   * subscriber asks for items with {@link Subscription#request(long)}.
+   * 
+   * @param subscriber the subscriber
+   */
+  void subscribe(Subscriber<? super T> subscriber);
+}
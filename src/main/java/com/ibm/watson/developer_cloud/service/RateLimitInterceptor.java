@@ -0,0 +1,66 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor that waits for the {@link RateLimiter} of a {@link WatsonService} before sending
+ * each request. It runs after the {@link CredentialPoolInterceptor} and requests are keyed by the
+ * credential they are sent with. A call with a deadline does not wait past it: it fails right away
+ * with a {@link DeadlineExceededException} instead.
+ */
+class RateLimitInterceptor implements Interceptor {
+
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new rate limit interceptor.
+   * 
+   * @param service the service that owns the rate limiter
+   */
+  RateLimitInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final RateLimiter rateLimiter = service.getRateLimiter();
+    if (rateLimiter != null) {
+      final String credential = service.getCredential(chain.request());
+      final String key = credential != null ? credential : service.getName();
+      final CallContext context = CallContext.of(chain.request());
+      try {
+        if (context == null || context.getDeadline() <= 0)
+          rateLimiter.acquire(key);
+        else if (!rateLimiter.tryAcquire(key, context.getRemaining(), TimeUnit.MILLISECONDS))
+          throw new DeadlineExceededException(context.getDeadline());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the rate limiter");
+      }
+    }
+    return chain.proceed(chain.request());
+  }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of the requests sent by a {@link WatsonService}. Callers are blocked until the
+ * request can be sent, so the service is not called over its plan limits.
+ * 
+ * @see TokenBucketRateLimiter
+ */
+public interface RateLimiter {
+
+  /**
+   * Blocks until a request can be sent with the given credentials.
+   * 
+   * @param key the key identifying the credentials (e.g. the API key)
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  void acquire(String key) throws InterruptedException;
+
+  /**
+   * Blocks until a request can be sent with the given credentials, unless it would take longer
+   * than the timeout. A request that cannot be sent in time does not use the budget.
+   * 
+   * @param key the key identifying the credentials (e.g. the API key)
+   * @param timeout the maximum time to wait
+   * @param unit the unit of the timeout
+   * @return true if the request can be sent, false if it could not be sent within the timeout
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  boolean tryAcquire(String key, long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,420 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import okio.ByteString;
+
+import com.ibm.watson.developer_cloud.http.HttpHeaders;
+import com.squareup.okhttp.Headers;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+
+/**
+ * Bounded cache of the successful responses to GET requests, used by {@link WatsonService}s to
+ * avoid calling metadata endpoints (models, voices, classifiers, graphs...) for every request.
+ * Responses are cached for the time to live configured for their path template (e.g.
+ * <code>/v1/models</code> or <code>/v1/classifiers/{id}</code>), and paths without a time to live
+ * are not cached. Once expired, responses with an <code>ETag</code> or a
+ * <code>Last-Modified</code> header are revalidated with a conditional request.<br>
+ * Entries are kept in memory in LRU order and, if a directory is set, also written to disk so they
+ * survive restarts. The same cache can be shared by several services since entries are keyed by
+ * URL and credentials, or by URL and API keys of the {@link CredentialPool} of the service.
+ * 
+ * <pre>
+ * ResponseCache cache = new ResponseCache(100).ttl(&quot;/v1/models&quot;, 3600000);
+ * service.setResponseCache(cache);
+ * </pre>
+ */
+public class ResponseCache {
+
+  /**
+   * A cached response.
+   */
+  static final class Entry {
+    private final byte[] body;
+    private final int code;
+    private final Headers headers;
+    private final String message;
+    private final Protocol protocol;
+    private final long storedAt;
+
+    /**
+     * Instantiates a new entry.
+     * 
+     * @param protocol the protocol
+     * @param code the status code
+     * @param message the status message
+     * @param headers the response headers
+     * @param body the response body
+     * @param storedAt the time the response was received or revalidated, in milliseconds
+     */
+    Entry(Protocol protocol, int code, String message, Headers headers, byte[] body,
+        long storedAt) {
+      this.protocol = protocol;
+      this.code = code;
+      this.message = message;
+      this.headers = headers;
+      this.body = body;
+      this.storedAt = storedAt;
+    }
+
+    /**
+     * Gets the entity tag of the response.
+     * 
+     * @return the ETag header or null
+     */
+    String getETag() {
+      return headers.get(HttpHeaders.ETAG);
+    }
+
+    /**
+     * Gets the last modification date of the response.
+     * 
+     * @return the Last-Modified header or null
+     */
+    String getLastModified() {
+      return headers.get(HttpHeaders.LAST_MODIFIED);
+    }
+
+    /**
+     * Gets the time the response was received or revalidated.
+     * 
+     * @return the time in milliseconds
+     */
+    long getStoredAt() {
+      return storedAt;
+    }
+
+    /**
+     * Builds the cached response for the given request.
+     * 
+     * @param request the request
+     * @return the response
+     */
+    Response newResponse(Request request) {
+      final String contentType = headers.get(HttpHeaders.CONTENT_TYPE);
+      final MediaType mediaType = contentType != null ? MediaType.parse(contentType) : null;
+      return new Response.Builder().request(request).protocol(protocol).code(code)
+          .message(message).headers(headers).body(ResponseBody.create(mediaType, body)).build();
+    }
+
+    /**
+     * Copies the entry with a new storage time.
+     * 
+     * @param storedAt the time the response was revalidated, in milliseconds
+     * @return the entry
+     */
+    Entry revalidated(long storedAt) {
+      return new Entry(protocol, code, message, headers, body, storedAt);
+    }
+  }
+
+  private static final int DISK_FORMAT_VERSION = 1;
+  private static final FileFilter ENTRY_FILES = new FileFilter() {
+    @Override
+    public boolean accept(File file) {
+      return file.isFile() && file.getName().matches("[0-9a-f]{64}");
+    }
+  };
+  private static final Logger log = Logger.getLogger(ResponseCache.class.getName());
+
+  /**
+   * Gets the key of a request. The credentials of a service with a {@link CredentialPool} are only
+   * set once the request leaves the cache, so the API keys of the pool are used instead.
+   * 
+   * @param request the request
+   * @param credentialPool the credential pool of the service, can be null
+   * @return the SHA-256 of the URL and credentials
+   */
+  static String key(Request request, CredentialPool credentialPool) {
+    final String credentials =
+        credentialPool != null ? credentialPool.getApiKeys().toString() : request
+            .header(HttpHeaders.AUTHORIZATION);
+    return ByteString.encodeUtf8(request.urlString() + " " + credentials).sha256().hex();
+  }
+
+  private long defaultTtl;
+  private File directory;
+  private final Map<String, Entry> entries;
+  private long maxDiskSize;
+  private final Map<String, Long> ttls = new ConcurrentHashMap<String, Long>();
+
+  /**
+   * Instantiates a new response cache.
+   * 
+   * @param maxEntries the maximum number of responses kept in memory
+   */
+  public ResponseCache(final int maxEntries) {
+    if (maxEntries < 1)
+      throw new IllegalArgumentException("maxEntries must be greater than 0");
+
+    entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Removes all the cached responses, in memory and on disk. Only the cache files are removed from
+   * the directory.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+    if (directory != null) {
+      final File[] files = directory.listFiles(ENTRY_FILES);
+      if (files != null) {
+        for (final File file : files)
+          file.delete();
+      }
+    }
+  }
+
+  /**
+   * Sets the time to live of the responses to the paths that have no specific time to live.
+   * Defaults to 0, meaning that only the paths configured with {@link #ttl(String, long)} are
+   * cached.
+   * 
+   * @param ttl the time to live in milliseconds
+   * @return the response cache
+   */
+  public ResponseCache defaultTtl(long ttl) {
+    if (ttl < 0)
+      throw new IllegalArgumentException("ttl cannot be negative");
+    defaultTtl = ttl;
+    return this;
+  }
+
+  /**
+   * Sets the directory where the responses are also stored. Files are evicted, oldest first, when
+   * the directory grows over the maximum size.
+   * 
+   * @param directory the directory, created if needed
+   * @param maxSize the maximum size of the directory in bytes
+   * @return the response cache
+   */
+  public ResponseCache directory(File directory, long maxSize) {
+    if (directory == null)
+      throw new IllegalArgumentException("directory cannot be null");
+    if (maxSize < 1)
+      throw new IllegalArgumentException("maxSize must be greater than 0");
+    if (!directory.isDirectory() && !directory.mkdirs())
+      throw new IllegalArgumentException("Cannot create the directory " + directory);
+
+    this.directory = directory;
+    this.maxDiskSize = maxSize;
+    return this;
+  }
+
+  /**
+   * Gets the cached response of a request.
+   * 
+   * @param key the request key
+   * @return the entry or null
+   */
+  Entry get(String key) {
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+    }
+    if (entry == null && directory != null) {
+      entry = readEntry(key);
+      if (entry != null) {
+        synchronized (entries) {
+          entries.put(key, entry);
+        }
+      }
+    }
+    return entry;
+  }
+
+  /**
+   * Gets the time to live of the responses to a path.
+   * 
+   * @param pathTemplate the path template
+   * @return the time to live in milliseconds, 0 if the responses are not cached
+   */
+  public long getTtl(String pathTemplate) {
+    final Long ttl = ttls.get(pathTemplate);
+    return ttl != null ? ttl : defaultTtl;
+  }
+
+  /**
+   * Caches a response.
+   * 
+   * @param key the request key
+   * @param entry the entry
+   */
+  void put(String key, Entry entry) {
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+    if (directory != null)
+      writeEntry(key, entry);
+  }
+
+  /**
+   * Reads an entry from disk.
+   * 
+   * @param key the request key
+   * @return the entry or null if the entry is missing or cannot be read
+   */
+  private Entry readEntry(String key) {
+    final File file = new File(directory, key);
+    if (!file.isFile())
+      return null;
+
+    DataInputStream in = null;
+    try {
+      in = new DataInputStream(new FileInputStream(file));
+      if (in.readInt() != DISK_FORMAT_VERSION)
+        return null;
+      final Protocol protocol = Protocol.get(in.readUTF());
+      final int code = in.readInt();
+      final String message = in.readUTF();
+      final long storedAt = in.readLong();
+      final Headers.Builder headers = new Headers.Builder();
+      for (int i = in.readInt(); i > 0; i--)
+        headers.add(in.readUTF(), in.readUTF());
+      final byte[] body = new byte[in.readInt()];
+      in.readFully(body);
+      return new Entry(protocol, code, message, headers.build(), body, storedAt);
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Cannot read the cached response " + file, e);
+      return null;
+    } finally {
+      if (in != null) {
+        try {
+          in.close();
+        } catch (final IOException e) {
+          // ignore
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest files until the directory is under its maximum size.
+   */
+  private void trimDirectory() {
+    final File[] files = directory.listFiles(ENTRY_FILES);
+    if (files == null)
+      return;
+
+    long size = 0;
+    for (final File file : files)
+      size += file.length();
+    if (size <= maxDiskSize)
+      return;
+
+    Arrays.sort(files, new Comparator<File>() {
+      @Override
+      public int compare(File f1, File f2) {
+        return f1.lastModified() < f2.lastModified() ? -1 : f1.lastModified() == f2
+            .lastModified() ? 0 : 1;
+      }
+    });
+    for (int i = 0; i < files.length && size > maxDiskSize; i++) {
+      size -= files[i].length();
+      files[i].delete();
+    }
+  }
+
+  /**
+   * Sets the time to live of the responses to a path.
+   * 
+   * @param pathTemplate the path template, relative to the service end point, where identifiers
+   *        are replaced by <code>{id}</code> (e.g. <code>/v1/classifiers/{id}</code>)
+   * @param ttl the time to live in milliseconds, 0 to not cache the responses
+   * @return the response cache
+   */
+  public ResponseCache ttl(String pathTemplate, long ttl) {
+    if (pathTemplate == null)
+      throw new IllegalArgumentException("pathTemplate cannot be null");
+    if (ttl < 0)
+      throw new IllegalArgumentException("ttl cannot be negative");
+    ttls.put(pathTemplate, ttl);
+    return this;
+  }
+
+  /**
+   * Writes an entry to disk. The entry is written to a temporary file that is then renamed, so
+   * readers never see a partial entry.
+   * 
+   * @param key the request key
+   * @param entry the entry
+   */
+  private void writeEntry(String key, Entry entry) {
+    final File file = new File(directory, key);
+    final File tmp = new File(directory, key + "." + Thread.currentThread().getId() + ".tmp");
+    DataOutputStream out = null;
+    try {
+      out = new DataOutputStream(new FileOutputStream(tmp));
+      out.writeInt(DISK_FORMAT_VERSION);
+      out.writeUTF(entry.protocol.toString());
+      out.writeInt(entry.code);
+      out.writeUTF(entry.message != null ? entry.message : "");
+      out.writeLong(entry.storedAt);
+      out.writeInt(entry.headers.size());
+      for (int i = 0; i < entry.headers.size(); i++) {
+        out.writeUTF(entry.headers.name(i));
+        out.writeUTF(entry.headers.value(i));
+      }
+      out.writeInt(entry.body.length);
+      out.write(entry.body);
+      out.close();
+      out = null;
+      if (!tmp.renameTo(file)) {
+        file.delete();
+        if (!tmp.renameTo(file))
+          throw new IOException("Cannot rename " + tmp + " to " + file);
+      }
+      trimDirectory();
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Cannot write the cached response " + file, e);
+      tmp.delete();
+    } finally {
+      if (out != null) {
+        try {
+          out.close();
+        } catch (final IOException e) {
+          // ignore
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Date;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.watson.developer_cloud.http.HttpStatus;
+import com.ibm.watson.developer_cloud.http.InputStreamRequestBody;
+import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.http.RequestTag;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.internal.http.HttpDate;
+
+/**
+ * Interceptor that retries the requests of a {@link WatsonService} using its {@link RetryOptions}.
+ * Calls cancelled or rejected on the client side are not retried, and neither are calls whose
+ * deadline would expire before the next attempt.
+ */
+class RetryInterceptor implements Interceptor {
+
+  private static final Logger log = Logger.getLogger(RetryInterceptor.class.getName());
+  private static final String RETRY_AFTER = "Retry-After";
+
+  private final Random random = new Random();
+  private final WatsonService service;
+
+  /**
+   * Instantiates a new retry interceptor.
+   * 
+   * @param service the service that owns the retry options
+   */
+  RetryInterceptor(WatsonService service) {
+    this.service = service;
+  }
+
+  /**
+   * Gets the exponential backoff delay, with full jitter, before the given attempt.
+   * 
+   * @param options the retry options
+   * @param attempt the attempt that failed, starting at 1
+   * @return the delay in milliseconds
+   */
+  private long getBackoffDelay(RetryOptions options, int attempt) {
+    final double exponential = options.getInitialDelay() * Math.pow(2, attempt - 1);
+    final long cap = (long) Math.min(options.getMaxDelay(), exponential);
+    synchronized (random) {
+      return (long) (random.nextDouble() * (cap + 1));
+    }
+  }
+
+  /**
+   * Gets the delay requested by the <code>Retry-After</code> header, either in seconds or as an
+   * HTTP date.
+   * 
+   * @param response the HTTP response
+   * @return the delay in milliseconds or -1 if the header is missing or invalid
+   */
+  static long getRetryAfter(Response response) {
+    final String value = response.header(RETRY_AFTER);
+    if (value == null)
+      return -1;
+
+    try {
+      return Math.max(0, Long.parseLong(value.trim()) * 1000);
+    } catch (final NumberFormatException e) {
+      final Date date = HttpDate.parse(value);
+      if (date == null)
+        return -1;
+      return Math.max(0, date.getTime() - System.currentTimeMillis());
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final RetryOptions options = service.getRetryOptions();
+    final Request request = chain.request();
+    if (options == null || options.getMaxAttempts() <= 1 || !isReplayable(request))
+      return chain.proceed(request);
+
+    final boolean retryFailures = options.isRetryNonIdempotent() || isIdempotent(request);
+    for (int attempt = 1;; attempt++) {
+      final boolean lastAttempt = attempt >= options.getMaxAttempts();
+      Response response;
+      try {
+        response = chain.proceed(request);
+      } catch (final IOException e) {
+        // cancelled, interrupted or rejected locally: sending it again cannot help
+        if (lastAttempt || !retryFailures || CallContext.isCanceled(request, e))
+          throw e;
+        final long delay = getBackoffDelay(options, attempt);
+        if (delay >= CallContext.getRemaining(request))
+          throw e;
+        log.log(Level.FINE, "Retrying " + request.urlString() + " after " + e.getMessage());
+        sleep(delay);
+        continue;
+      }
+
+      final int status = response.code();
+      final boolean retryable =
+          status == HttpStatus.TOO_MANY_REQUESTS
+              || (status == HttpStatus.SERVICE_UNAVAILABLE && retryFailures);
+      if (lastAttempt || !retryable)
+        return response;
+
+      long delay = getRetryAfter(response);
+      if (delay > options.getMaxDelay())
+        return response;
+      if (delay < 0)
+        delay = getBackoffDelay(options, attempt);
+      if (delay >= CallContext.getRemaining(request))
+        return response;
+
+      log.log(Level.FINE, "Retrying " + request.urlString() + " in " + delay + "ms after a "
+          + status + " response");
+      response.body().close();
+      sleep(delay);
+    }
+  }
+
+  /**
+   * Checks if the request method is idempotent.
+   * 
+   * @param request the request
+   * @return true, if the request is idempotent
+   */
+  static boolean isIdempotent(Request request) {
+    final String method = request.method();
+    return "GET".equals(method) || "HEAD".equals(method) || "PUT".equals(method)
+        || "DELETE".equals(method) || "OPTIONS".equals(method);
+  }
+
+  /**
+   * Checks if the request body can be sent more than once. Bodies backed by an
+   * {@link java.io.InputStream} are consumed by the first attempt, including when they are a part
+   * of a multipart body (see {@link RequestBuilder#withOneShotBody()}).
+   * 
+   * @param request the request
+   * @return true, if the request can be replayed
+   */
+  static boolean isReplayable(Request request) {
+    final CallContext context = CallContext.of(request);
+    if (context != null)
+      return context.isReplayable();
+    if (request.body() instanceof InputStreamRequestBody)
+      return false;
+    return !(request.tag() instanceof RequestTag) || !((RequestTag) request.tag()).isOneShotBody();
+  }
+
+  /**
+   * Waits before the next attempt.
+   * 
+   * @param delay the delay in milliseconds
+   * @throws InterruptedIOException if the thread is interrupted
+   */
+  private void sleep(long delay) throws InterruptedIOException {
+    try {
+      Thread.sleep(delay);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to retry");
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retry policy used by a {@link WatsonService} when a request is throttled (429), the service is
+ * unavailable (503) or the connection fails. Delays grow exponentially from
+ * {@link #getInitialDelay()} up to {@link #getMaxDelay()} and a random jitter is applied so that
+ * concurrent clients don't retry in lockstep. When the service returns a <code>Retry-After</code>
+ * header its value is used instead.<br>
+ * <br>
+ * Throttled requests (429) are retried whatever the HTTP method is because the service did not
+ * process them. Other failures are only retried for idempotent methods (GET, HEAD, PUT, DELETE,
+ * OPTIONS) unless {@link #retryNonIdempotent(boolean)} is enabled. All the durations are in
+ * milliseconds.
+ * 
+ * <pre>
+ * service.setRetryOptions(new RetryOptions().maxAttempts(5).initialDelay(200));
+ * </pre>
+ */
+public class RetryOptions {
+
+  private long initialDelay = 500;
+  private int maxAttempts = 3;
+  private long maxDelay = TimeUnit.SECONDS.toMillis(30);
+  private boolean retryNonIdempotent = false;
+
+  /**
+   * Gets the initial delay.
+   * 
+   * @return the initial delay in milliseconds
+   */
+  public long getInitialDelay() {
+    return initialDelay;
+  }
+
+  /**
+   * Gets the max attempts.
+   * 
+   * @return the max attempts
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Gets the max delay.
+   * 
+   * @return the max delay in milliseconds
+   */
+  public long getMaxDelay() {
+    return maxDelay;
+  }
+
+  /**
+   * Sets the delay before the first retry. Default is 500 milliseconds.
+   * 
+   * @param initialDelay the initial delay in milliseconds
+   * @return the retry options
+   */
+  public RetryOptions initialDelay(long initialDelay) {
+    if (initialDelay < 0)
+      throw new IllegalArgumentException("initialDelay cannot be negative");
+    this.initialDelay = initialDelay;
+    return this;
+  }
+
+  /**
+   * Checks if non idempotent requests (e.g. POST) are retried when the service is unavailable or
+   * the connection fails.
+   * 
+   * @return true, if non idempotent requests are retried
+   */
+  public boolean isRetryNonIdempotent() {
+    return retryNonIdempotent;
+  }
+
+  /**
+   * Sets the maximum number of attempts, including the first one. Default is 3.
+   * 
+   * @param maxAttempts the max attempts
+   * @return the retry options
+   */
+  public RetryOptions maxAttempts(int maxAttempts) {
+    if (maxAttempts < 1)
+      throw new IllegalArgumentException("maxAttempts needs to be at least 1");
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * Sets the maximum delay between two attempts. Requests with a <code>Retry-After</code> longer
+   * than this are not retried. Default is 30 seconds.
+   * 
+   * @param maxDelay the max delay in milliseconds
+   * @return the retry options
+   */
+  public RetryOptions maxDelay(long maxDelay) {
+    if (maxDelay < 0)
+      throw new IllegalArgumentException("maxDelay cannot be negative");
+    this.maxDelay = maxDelay;
+    return this;
+  }
+
+  /**
+   * Sets whether non idempotent requests (e.g. POST) are retried when the service is unavailable
+   * or the connection fails. Default is false.
+   * 
+   * @param retryNonIdempotent true, to retry non idempotent requests
+   * @return the retry options
+   */
+  public RetryOptions retryNonIdempotent(boolean retryNonIdempotent) {
+    this.retryNonIdempotent = retryNonIdempotent;
+    return this;
+  }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.squareup.okhttp.Call;
+
+/**
+ * {@link Future} returned by the asynchronous methods of {@link WatsonService}. It is completed by
+ * the OkHttp dispatcher thread and optionally notifies a {@link ServiceCallback}. Cancelling the
+ * future cancels the underlying HTTP call.
+ * 
+ * @param <T> the type of the response
+ */
+class ServiceFuture<T> implements Future<T> {
+
+  private final ServiceCallback<T> callback;
+  private volatile Call call;
+  private volatile boolean cancelled;
+  private volatile CallContext context;
+  private Exception exception;
+  private final CountDownLatch latch = new CountDownLatch(1);
+  private T result;
+
+  /**
+   * Instantiates a new service future.
+   * 
+   * @param callback the callback to notify, can be null
+   */
+  ServiceFuture(ServiceCallback<T> callback) {
+    this.callback = callback;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.Future#cancel(boolean)
+   */
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    final CancellationException e = new CancellationException();
+    synchronized (this) {
+      if (isDone())
+        return false;
+      cancelled = true;
+      exception = e;
+      latch.countDown();
+    }
+    final CallContext currentContext = context;
+    if (currentContext != null)
+      currentContext.cancel();
+    final Call current = call;
+    if (current != null)
+      current.cancel();
+    if (callback != null)
+      callback.onFailure(e);
+    return true;
+  }
+
+  /**
+   * Completes the future with an error.
+   * 
+   * @param e the exception
+   */
+  void fail(Exception e) {
+    synchronized (this) {
+      if (isDone())
+        return;
+      exception = e;
+      latch.countDown();
+    }
+    if (callback != null)
+      callback.onFailure(e);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.Future#get()
+   */
+  @Override
+  public T get() throws InterruptedException, ExecutionException {
+    latch.await();
+    return getResult();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.Future#get(long, java.util.concurrent.TimeUnit)
+   */
+  @Override
+  public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+      TimeoutException {
+    if (!latch.await(timeout, unit))
+      throw new TimeoutException();
+    return getResult();
+  }
+
+  /**
+   * Returns the result or throws the exception the future was completed with.
+   * 
+   * @return the result
+   * @throws ExecutionException if the call failed
+   */
+  private synchronized T getResult() throws ExecutionException {
+    if (cancelled)
+      throw new CancellationException();
+    if (exception != null)
+      throw new ExecutionException(exception);
+    return result;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.Future#isCancelled()
+   */
+  @Override
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.Future#isDone()
+   */
+  @Override
+  public boolean isDone() {
+    return latch.getCount() == 0;
+  }
+
+  /**
+   * Sets the HTTP call backing this future.
+   * 
+   * @param call the call
+   */
+  void setCall(Call call) {
+    this.call = call;
+    if (cancelled)
+      call.cancel();
+  }
+
+  /**
+   * Sets the context of the call backing this future.
+   * 
+   * @param context the context, can be null
+   */
+  void setContext(CallContext context) {
+    this.context = context;
+    if (cancelled && context != null)
+      context.cancel();
+  }
+
+  /**
+   * Completes the future with a result.
+   * 
+   * @param value the result
+   */
+  void succeed(T value) {
+    synchronized (this) {
+      if (isDone())
+        return;
+      result = value;
+      latch.countDown();
+    }
+    if (callback != null)
+      callback.onResponse(value);
+  }
+}
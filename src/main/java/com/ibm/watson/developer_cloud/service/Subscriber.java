@@ -0,0 +1,51 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+/**
+ * Receives the items of a {@link Publisher}. The methods are called one at a time, but not always
+ * from the same thread, so they should not block.
+ * 
+ * @param <T> the type of the items
+ */
+public interface Subscriber<T> {
+
+  /**
+   * Called once with the subscription used to request items or cancel.
+   * 
+   * @param subscription the subscription
+   */
+  void onSubscribe(Subscription subscription);
+
+  /**
+   * Called with the next item. It is never called more times than the number of items requested.
+   * 
+   * @param item the item
+   */
+  void onNext(T item);
+
+  /**
+   * Called when the items could not be retrieved. No other method is called afterwards. Service
+   * errors are reported using the same {@link ServiceResponseException} subclasses thrown by the
+   * synchronous methods.
+   * 
+   * @param t the error
+   */
+  void onError(Throwable t);
+
+  /**
+   * Called after the last item. No other method is called afterwards.
+   */
+  void onComplete();
+}
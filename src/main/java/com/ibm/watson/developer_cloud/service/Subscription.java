@@ -0,0 +1,32 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+/**
+ * Link between a {@link Publisher} and a {@link Subscriber}, used to signal demand and to cancel.
+ */
+public interface Subscription {
+
+  /**
+   * Requests more items. Demand is cumulative, {@link Long#MAX_VALUE} requests all the items.
+   * 
+   * @param n the number of items, must be positive
+   */
+  void request(long n);
+
+  /**
+   * Stops the delivery of items and cancels the pending service call, if any.
+   */
+  void cancel();
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket {@link RateLimiter}. Each credential gets its own bucket that is refilled at
+ * <code>requestsPerSecond</code> and holds up to <code>burst</code> tokens, so short bursts are
+ * sent right away while the sustained rate stays within the budget. Waiting callers are served in
+ * order of arrival.<br>
+ * <br>
+ * The same instance can be shared by several services to enforce a budget per credential across
+ * all of them.
+ * 
+ * <pre>
+ * service.setRateLimiter(new TokenBucketRateLimiter(10));
+ * </pre>
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+  /**
+   * Token bucket of a single credential.
+   */
+  private static class Bucket {
+    private final double intervalNanos;
+    private final double maxTokens;
+    private long nextFreeNanos = System.nanoTime();
+    private double storedTokens;
+
+    /**
+     * Instantiates a new bucket, initially full.
+     * 
+     * @param requestsPerSecond the requests per second
+     * @param burst the max tokens
+     */
+    Bucket(double requestsPerSecond, int burst) {
+      intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+      maxTokens = burst;
+      storedTokens = burst;
+    }
+
+    /**
+     * Takes a token, borrowing it from the future if the bucket is empty.
+     * 
+     * @param maxWaitNanos the maximum nanoseconds the caller is willing to wait
+     * @return the nanoseconds to wait before the token can be used, or -1 if that is longer than
+     *         the max wait, in which case no token is taken
+     */
+    synchronized long reserve(long maxWaitNanos) {
+      final long now = System.nanoTime();
+      if (now > nextFreeNanos) {
+        storedTokens = Math.min(maxTokens, storedTokens + (now - nextFreeNanos) / intervalNanos);
+        nextFreeNanos = now;
+      }
+      final long wait = nextFreeNanos - now;
+      if (wait > maxWaitNanos)
+        return -1;
+      if (storedTokens >= 1) {
+        storedTokens -= 1;
+      } else {
+        nextFreeNanos += (long) intervalNanos;
+      }
+      return wait;
+    }
+  }
+
+  private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<String, Bucket>();
+  private final int burst;
+  private final double requestsPerSecond;
+
+  /**
+   * Instantiates a new token bucket rate limiter that allows bursts of one request.
+   * 
+   * @param requestsPerSecond the requests per second allowed for each credential
+   */
+  public TokenBucketRateLimiter(double requestsPerSecond) {
+    this(requestsPerSecond, 1);
+  }
+
+  /**
+   * Instantiates a new token bucket rate limiter.
+   * 
+   * @param requestsPerSecond the requests per second allowed for each credential
+   * @param burst the number of requests that can be sent at once after a period of inactivity
+   */
+  public TokenBucketRateLimiter(double requestsPerSecond, int burst) {
+    if (requestsPerSecond <= 0)
+      throw new IllegalArgumentException("requestsPerSecond needs to be greater than 0");
+    if (burst < 1)
+      throw new IllegalArgumentException("burst needs to be at least 1");
+
+    this.requestsPerSecond = requestsPerSecond;
+    this.burst = burst;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.ibm.watson.developer_cloud.service.RateLimiter#acquire(java.lang.String)
+   */
+  @Override
+  public void acquire(String key) throws InterruptedException {
+    final long wait = getBucket(key).reserve(Long.MAX_VALUE);
+    if (wait > 0)
+      TimeUnit.NANOSECONDS.sleep(wait);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.ibm.watson.developer_cloud.service.RateLimiter#tryAcquire(java.lang.String, long,
+   * java.util.concurrent.TimeUnit)
+   */
+  @Override
+  public boolean tryAcquire(String key, long timeout, TimeUnit unit) throws InterruptedException {
+    final long wait = getBucket(key).reserve(unit.toNanos(timeout));
+    if (wait < 0)
+      return false;
+    if (wait > 0)
+      TimeUnit.NANOSECONDS.sleep(wait);
+    return true;
+  }
+
+  /**
+   * Gets the bucket of a credential, creating it if needed.
+   * 
+   * @param key the credential key
+   * @return the bucket
+   */
+  private Bucket getBucket(String key) {
+    Bucket bucket = buckets.get(key);
+    if (bucket == null) {
+      final Bucket newBucket = new Bucket(requestsPerSecond, burst);
+      bucket = buckets.putIfAbsent(key, newBucket);
+      if (bucket == null)
+        bucket = newBucket;
+    }
+    return bucket;
+  }
+
+  /**
+   * Gets the burst.
+   * 
+   * @return the burst
+   */
+  public int getBurst() {
+    return burst;
+  }
+
+  /**
+   * Gets the requests per second.
+   * 
+   * @return the requests per second
+   */
+  public double getRequestsPerSecond() {
+    return requestsPerSecond;
+  }
+}
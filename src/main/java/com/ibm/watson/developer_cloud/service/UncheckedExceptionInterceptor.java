@@ -0,0 +1,79 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Response;
+
+/**
+ * Interceptor installed first in the chain of the HTTP client, that turns the unchecked exceptions
+ * thrown further down the chain (e.g. by an interceptor added to the service) into an
+ * {@link UncheckedCallException}. OkHttp only reports {@link IOException}s to the callback of an
+ * asynchronous call, so the call would otherwise never complete.
+ */
+class UncheckedExceptionInterceptor implements Interceptor {
+
+  /**
+   * {@link IOException} that carries an unchecked exception thrown while executing a call.
+   */
+  static class UncheckedCallException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Instantiates a new unchecked call exception.
+     * 
+     * @param cause the unchecked exception
+     */
+    UncheckedCallException(RuntimeException cause) {
+      super(cause.toString(), cause);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Throwable#getCause()
+     */
+    @Override
+    public synchronized RuntimeException getCause() {
+      return (RuntimeException) super.getCause();
+    }
+  }
+
+  /**
+   * Gets the unchecked exception carried by an exception.
+   * 
+   * @param e the exception
+   * @return the unchecked exception or null if the exception is not an
+   *         {@link UncheckedCallException}
+   */
+  static RuntimeException getUnchecked(IOException e) {
+    return e instanceof UncheckedCallException ? ((UncheckedCallException) e).getCause() : null;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.squareup.okhttp.Interceptor#intercept(com.squareup.okhttp.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    try {
+      return chain.proceed(chain.request());
+    } catch (final RuntimeException e) {
+      throw new UncheckedCallException(e);
+    }
+  }
+}
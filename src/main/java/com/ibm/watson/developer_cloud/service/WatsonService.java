@@ -16,7 +16,13 @@ package com.ibm.watson.developer_cloud.service;
 import java.io.IOException;
 import java.net.CookieManager;
 import java.net.CookiePolicy;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -25,13 +31,21 @@ import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.ibm.watson.developer_cloud.http.HttpHeaders;
+import com.ibm.watson.developer_cloud.http.HttpTransport;
+import com.ibm.watson.developer_cloud.http.HttpTransportOptions;
 import com.ibm.watson.developer_cloud.http.HttpStatus;
+import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.http.RequestTag;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 import com.ibm.watson.developer_cloud.util.BluemixUtils;
 import com.ibm.watson.developer_cloud.util.RequestUtil;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.Callback;
 import com.squareup.okhttp.Credentials;
 import com.squareup.okhttp.Headers;
+import com.squareup.okhttp.HttpUrl;
+import com.squareup.okhttp.Interceptor;
 import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Request;
 import com.squareup.okhttp.Request.Builder;
@@ -47,15 +61,71 @@ import com.squareup.okhttp.Response;
 public abstract class WatsonService {
 
   private static final String BASIC = "Basic ";
+  private static final List<Interceptor> globalInterceptors =
+      new CopyOnWriteArrayList<Interceptor>();
   private static final Logger log = Logger.getLogger(WatsonService.class.getName());
   private String apiKey;
-  private final OkHttpClient client;
+  // Authorization header value of the api key, built once instead of on every request
+  private String authorization;
+  private volatile OkHttpClient client;
   private String endPoint;
+  private volatile HttpUrl endPointUrl;
+  private EndpointPool endPointPool;
+  private CircuitBreaker circuitBreaker;
+  private CompressionOptions compressionOptions;
+  private ConcurrencyLimiter concurrencyLimiter;
+  private CredentialPool credentialPool;
+  private long deadline;
+  private final ConcurrentMap<Long, OkHttpClient> deadlineClients =
+      new ConcurrentHashMap<Long, OkHttpClient>();
+  private final ConcurrentMap<String, Long> deadlines = new ConcurrentHashMap<String, Long>();
+  private final ConcurrentMap<Long, OkHttpClient> hedgingClients =
+      new ConcurrentHashMap<Long, OkHttpClient>();
+  private HedgingOptions hedgingOptions;
+  private HttpTransport httpTransport;
+  private final List<Interceptor> interceptors = new CopyOnWriteArrayList<Interceptor>();
+  private MetricsListener metricsListener;
+  private RateLimiter rateLimiter;
+  private boolean requestCoalescing;
+  private ResponseCache responseCache;
+  private RetryOptions retryOptions;
   private final String name;
   private Headers defaultHeaders = null;
 
   protected static final String VERSION = "version";
 
+  /**
+   * Adds an interceptor called on the requests of every service. Global interceptors are called
+   * before the interceptors of each service, in the order they were added.
+   * 
+   * @param interceptor the interceptor
+   * @see #addInterceptor(Interceptor)
+   */
+  public static void addGlobalInterceptor(Interceptor interceptor) {
+    if (interceptor == null)
+      throw new IllegalArgumentException("interceptor cannot be null");
+    globalInterceptors.add(interceptor);
+  }
+
+  /**
+   * Gets the interceptors called on the requests of every service.
+   * 
+   * @return the global interceptors
+   */
+  public static List<Interceptor> getGlobalInterceptors() {
+    return Collections.unmodifiableList(globalInterceptors);
+  }
+
+  /**
+   * Removes an interceptor added with {@link #addGlobalInterceptor(Interceptor)}.
+   * 
+   * @param interceptor the interceptor
+   * @return true if the interceptor was removed
+   */
+  public static boolean removeGlobalInterceptor(Interceptor interceptor) {
+    return globalInterceptors.remove(interceptor);
+  }
+
   /**
    * Instantiates a new Watson service.
    * 
@@ -63,25 +133,34 @@ public abstract class WatsonService {
    */
   public WatsonService(String name) {
     this.name = name;
-    this.apiKey = BluemixUtils.getAPIKey(name);
-    this.client = configureHttpClient();
+    setApiKey(BluemixUtils.getAPIKey(name));
+    this.httpTransport = HttpTransport.getDefault();
   }
 
 
   /**
-   * Configure HTTP client.
+   * Configure HTTP client. The client shares the connection pool and dispatcher of the
+   * {@link HttpTransport} used by this service.
    * 
    * @return the okhttp client
    */
   protected OkHttpClient configureHttpClient() {
-    final OkHttpClient client = new OkHttpClient();
+    final OkHttpClient client = httpTransport.newClient();
     final CookieManager cookieManager = new CookieManager();
     cookieManager.setCookiePolicy(CookiePolicy.ACCEPT_ALL);
     client.setCookieHandler(cookieManager);
-
-    client.setConnectTimeout(60, TimeUnit.SECONDS);
-    client.setWriteTimeout(60, TimeUnit.SECONDS);
-    client.setReadTimeout(90, TimeUnit.SECONDS);
+    client.interceptors().add(new UncheckedExceptionInterceptor());
+    client.interceptors().add(new MetricsInterceptor(this));
+    client.interceptors().add(new InterceptorChain(this));
+    client.interceptors().add(new CacheInterceptor(this));
+    client.interceptors().add(new CoalescingInterceptor(this));
+    client.interceptors().add(new CompressionInterceptor(this));
+    client.interceptors().add(new RetryInterceptor(this));
+    client.interceptors().add(new CredentialPoolInterceptor(this));
+    client.interceptors().add(new RateLimitInterceptor(this));
+    client.interceptors().add(new EndpointPoolInterceptor(this));
+    client.interceptors().add(new ConcurrencyLimitInterceptor(this));
+    client.interceptors().add(new HedgingInterceptor(this));
     return client;
   }
 
@@ -94,11 +173,270 @@ public abstract class WatsonService {
    * @return the HTTP response
    */
   protected Response execute(Request request) {
+    final Request newRequest = prepareRequest(request);
+    final CircuitBreaker breaker = circuitBreaker;
+    final String circuit = getEndPoint();
+    final long ticket = breaker != null ? breaker.tryAcquire(circuit) : 0;
+    if (ticket == CircuitBreaker.REJECTED) {
+      throw new CircuitBreakerOpenException(circuit);
+    }
+
+    Response response = null;
+    log.log(Level.FINEST, "Request to: " + newRequest.urlString());
+    final long deadline = CallContext.of(newRequest).getDeadline();
+    final Call call = getClient(deadline).newCall(newRequest);
+    final DeadlineTimer timer =
+        new DeadlineTimer(deadline, CallContext.of(newRequest), call).start();
+    try {
+      response = call.execute();
+    } catch (final IOException e) {
+      recordOutcome(breaker, circuit, ticket, newRequest, null, e);
+      final RuntimeException unchecked = UncheckedExceptionInterceptor.getUnchecked(e);
+      if (unchecked != null)
+        throw unchecked;
+      log.log(Level.SEVERE, "IOException", e);
+      throw new RuntimeException(timer.toException(e));
+    } finally {
+      if (response == null)
+        timer.stop();
+    }
+    recordOutcome(breaker, circuit, ticket, newRequest, response, null);
+    return processResponse(timer.watch(response));
+  }
+
+  /**
+   * Execute the HTTP request asynchronously. The request is enqueued in the OkHttp dispatcher and
+   * the calling thread returns immediately. The response is validated in the same way as
+   * {@link #execute(Request)} and converted using the given {@link ResponseConverter}.<br>
+   * The dispatcher is shared by every service using the same {@link HttpTransport}, and runs at
+   * most {@link HttpTransportOptions#getMaxRequestsPerHost()} asynchronous requests per host (64
+   * by default); further requests wait in its queue before being sent.
+   * 
+   * @param <T> the type of the converted response
+   * @param request the HTTP request
+   * @param converter the converter used to transform the successful HTTP response
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} that completes with the converted response
+   */
+  protected <T> Future<T> executeAsync(Request request, final ResponseConverter<T> converter,
+      ServiceCallback<T> callback) {
+    final ServiceFuture<T> future = new ServiceFuture<T>(callback);
+    final Request newRequest;
+    try {
+      newRequest = prepareRequest(request);
+    } catch (final RuntimeException e) {
+      future.fail(e);
+      return future;
+    }
+
+    final CircuitBreaker breaker = circuitBreaker;
+    final String circuit = getEndPoint();
+    final long ticket = breaker != null ? breaker.tryAcquire(circuit) : 0;
+    if (ticket == CircuitBreaker.REJECTED) {
+      future.fail(new CircuitBreakerOpenException(circuit));
+      return future;
+    }
+
+    log.log(Level.FINEST, "Async request to: " + newRequest.urlString());
+    final long deadline = CallContext.of(newRequest).getDeadline();
+    final Call call = getClient(deadline).newCall(newRequest);
+    final DeadlineTimer timer = new DeadlineTimer(deadline, CallContext.of(newRequest), call);
+    final Callback responseCallback = new Callback() {
+      @Override
+      public void onFailure(Request failedRequest, IOException cause) {
+        timer.stop();
+        recordOutcome(breaker, circuit, ticket, newRequest, null, cause);
+        final RuntimeException unchecked = UncheckedExceptionInterceptor.getUnchecked(cause);
+        if (unchecked != null) {
+          future.fail(unchecked);
+          return;
+        }
+        final IOException e = timer.toException(cause);
+        log.log(Level.SEVERE, "IOException", e);
+        future.fail(e);
+      }
+
+      @Override
+      public void onResponse(Response response) {
+        recordOutcome(breaker, circuit, ticket, newRequest, response, null);
+        try {
+          future.succeed(converter.convert(processResponse(timer.watch(response))));
+        } catch (final RuntimeException e) {
+          future.fail(e);
+        }
+      }
+    };
+
+    timer.start();
+    future.setContext(CallContext.of(newRequest));
+    future.setCall(call);
+    call.enqueue(responseCallback);
+    return future;
+  }
+
+  /**
+   * Executes the HTTP Request asynchronously, reads and parses the HTTP Response.
+   * 
+   * @param <T> the POJO class that represents the response
+   * @param request the request
+   * @param returnType the return type
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} that completes with the POJO object
+   */
+  protected <T extends GenericModel> Future<T> executeRequestAsync(Request request,
+      final Class<T> returnType, ServiceCallback<T> callback) {
+    return executeAsync(request, new ResponseConverter<T>() {
+      @Override
+      public T convert(Response response) {
+        return ResponseUtil.getObject(response, returnType);
+      }
+    }, callback);
+  }
+
+  /**
+   * Sets the credential of a request selected from the {@link CredentialPool} of this service.
+   * 
+   * @param request the HTTP request
+   * @param apiKey the API key or basic credentials
+   * @return the request authenticated with the credential
+   */
+  Request authenticate(Request request, String apiKey) {
+    return request.newBuilder().header(HttpHeaders.AUTHORIZATION, toAuthorization(apiKey)).build();
+  }
+
+  /**
+   * Gets the credential a request is authenticated with, so limits are enforced per credential
+   * when the {@link CredentialPool} rotates them.
+   * 
+   * @param request the HTTP request
+   * @return the credential or null if the request is not authenticated
+   */
+  String getCredential(Request request) {
+    return request.header(HttpHeaders.AUTHORIZATION);
+  }
+
+  /**
+   * Gets the Authorization header value of an API key or basic credentials.
+   * 
+   * @param apiKey the API key or basic credentials
+   * @return the header value
+   */
+  private static String toAuthorization(String apiKey) {
+    return apiKey.startsWith(BASIC) ? apiKey : BASIC + apiKey;
+  }
+
+  /**
+   * Gets the HTTP client of the service. It is configured on first use, so creating a service that
+   * is never called is cheap.
+   * 
+   * @return the HTTP client
+   */
+  private OkHttpClient getClient() {
+    OkHttpClient result = client;
+    if (result == null) {
+      synchronized (this) {
+        result = client;
+        if (result == null)
+          client = result = configureHttpClient();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets the HTTP client used for the calls with the given deadline. The client shares the
+   * connection pool, dispatcher and interceptors of the service client; its timeouts are set to the
+   * deadline so that slow reads and writes fail on time and long uploads are not cut by the default
+   * timeouts. One client is created per deadline value and reused.
+   * 
+   * @param deadline the deadline in milliseconds, 0 for no deadline
+   * @return the HTTP client
+   */
+  private OkHttpClient getClient(long deadline) {
+    final OkHttpClient client = getClient();
+    if (deadline <= 0)
+      return client;
+
+    OkHttpClient deadlineClient = deadlineClients.get(deadline);
+    if (deadlineClient == null) {
+      final OkHttpClient newClient = client.clone();
+      newClient.setConnectTimeout(Math.min(deadline, client.getConnectTimeout()),
+          TimeUnit.MILLISECONDS);
+      newClient.setReadTimeout(deadline, TimeUnit.MILLISECONDS);
+      newClient.setWriteTimeout(deadline, TimeUnit.MILLISECONDS);
+      deadlineClient = deadlineClients.putIfAbsent(deadline, newClient);
+      if (deadlineClient == null)
+        deadlineClient = newClient;
+    }
+    return deadlineClient;
+  }
+
+  /**
+   * Gets the path template of a request: the template given to the {@link RequestBuilder} if any,
+   * derived from the path relative to the end point otherwise.
+   * 
+   * @param request the request, before the end point is set
+   * @return the path template
+   */
+  private String getPathTemplate(Request request) {
+    if (request.tag() instanceof RequestTag) {
+      final String pathTemplate = ((RequestTag) request.tag()).getPathTemplate();
+      if (pathTemplate != null)
+        return pathTemplate;
+    }
+    if (RequestUtil.isRelative(request))
+      return RequestUtil.toPathTemplate(request.httpUrl().encodedPath());
+    return RequestUtil.getPathTemplate(request, endPointUrl);
+  }
+
+  /**
+   * Checks if a response reports that the credential exceeded its daily transaction limit. Such
+   * credentials are benched by the {@link CredentialPool} until the next day.
+   * 
+   * @param response the HTTP response
+   * @return true if the daily transaction limit was exceeded
+   */
+  boolean isQuotaExceeded(Response response) {
+    return false;
+  }
+
+  /**
+   * Gets the HTTP client used to send the requests of a {@link HedgedCall}. It is the client used
+   * for the calls with the given deadline, without the interceptors: the requests are sent by the
+   * last interceptor, so the call goes through the others (metrics, rate limit, credential pool,
+   * retries...) once.
+   * 
+   * @param deadline the deadline in milliseconds, 0 for no deadline
+   * @return the HTTP client
+   */
+  OkHttpClient getHedgingClient(long deadline) {
+    OkHttpClient hedgingClient = hedgingClients.get(deadline);
+    if (hedgingClient == null) {
+      final OkHttpClient newClient = getClient(deadline).clone();
+      newClient.interceptors().clear();
+      hedgingClient = hedgingClients.putIfAbsent(deadline, newClient);
+      if (hedgingClient == null)
+        hedgingClient = newClient;
+    }
+    return hedgingClient;
+  }
+
+  /**
+   * Adds the endpoint, default headers, User-Agent and authentication to the request.
+   * 
+   * @param request the HTTP request
+   * @return the request to send
+   */
+  private Request prepareRequest(Request request) {
     final Builder builder = request.newBuilder();
 
     // Set service endpoint for relative paths
     if (RequestUtil.isRelative(request)) {
-      builder.url(RequestUtil.replaceEndPoint(request.urlString(), getEndPoint()));
+      final HttpUrl url = request.httpUrl();
+      if (endPointUrl != null)
+        builder.url(RequestUtil.resolve(endPointUrl, url.encodedPath(), url.encodedQuery()));
+      else
+        builder.url(RequestUtil.replaceEndPoint(request.urlString(), getEndPoint()));
     }
 
     // Set default headers
@@ -112,16 +450,46 @@ public abstract class WatsonService {
     // Set Authentication
     setAuthentication(builder);
 
-    final Request newRequest = builder.build();
-    Response response;
-    log.log(Level.FINEST, "Request to: " + newRequest.urlString());
-    try {
-      response = client.newCall(newRequest).execute();
-    } catch (final IOException e) {
-      log.log(Level.SEVERE, "IOException", e);
-      throw new RuntimeException(e);
+    final String pathTemplate = getPathTemplate(request);
+    builder.tag(new CallContext(getDeadline(pathTemplate), RetryInterceptor.isReplayable(request),
+        pathTemplate));
+    return builder.build();
+  }
+
+  /**
+   * Records the outcome of a request in the circuit breaker. Connection failures and server errors
+   * (5xx) count as failures. Calls cancelled, past their deadline or rejected on the client side
+   * say nothing about the endpoint and are recorded as cancelled.
+   * 
+   * @param breaker the circuit breaker, can be null
+   * @param circuit the circuit of the request
+   * @param ticket the ticket of the request
+   * @param request the HTTP request
+   * @param response the HTTP response, null if the request failed
+   * @param e the failure, null if the request got a response
+   */
+  private void recordOutcome(CircuitBreaker breaker, String circuit, long ticket,
+      Request request, Response response, IOException e) {
+    if (breaker == null)
+      return;
+
+    if (e != null && CallContext.isCanceled(request, e)) {
+      breaker.onCancel(circuit, ticket);
+    } else if (response == null || response.code() >= HttpStatus.INTERNAL_SERVER_ERROR) {
+      breaker.onFailure(circuit, ticket);
+    } else {
+      breaker.onSuccess(circuit, ticket);
     }
+  }
 
+  /**
+   * Process the HTTP response. Successful responses are returned, client (4xx) and server (5xx)
+   * errors are mapped to the corresponding {@link ServiceResponseException}.
+   * 
+   * @param response the HTTP response
+   * @return the HTTP response
+   */
+  protected Response processResponse(Response response) {
     if (response.isSuccessful()) {
       return response;
     }
@@ -131,7 +499,8 @@ public abstract class WatsonService {
     // There was a Client Error 4xx or a Server Error 5xx
     // Get the error message and create the exception
     final String error = getErrorMessage(response);
-    log.log(Level.SEVERE, newRequest.urlString() + ", status: " + status + ", error: " + error);
+    log.log(Level.SEVERE, response.request().urlString() + ", status: " + status + ", error: "
+        + error);
 
     switch (status) {
       case HttpStatus.BAD_REQUEST: // HTTP 400
@@ -250,6 +619,116 @@ public abstract class WatsonService {
     return error;
   }
 
+  /**
+   * Gets the circuit breaker.
+   * 
+   * @return the circuit breaker or null if no circuit breaker is used
+   */
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /**
+   * Gets the compression options.
+   * 
+   * @return the compression options or null if the request bodies are not compressed
+   */
+  public CompressionOptions getCompressionOptions() {
+    return compressionOptions;
+  }
+
+  /**
+   * Gets the concurrency limiter.
+   * 
+   * @return the concurrency limiter or null if the calls in flight are not limited
+   */
+  public ConcurrencyLimiter getConcurrencyLimiter() {
+    return concurrencyLimiter;
+  }
+
+  /**
+   * Gets the credential pool.
+   * 
+   * @return the credential pool or null if the service uses a single credential
+   */
+  public CredentialPool getCredentialPool() {
+    return credentialPool;
+  }
+
+  /**
+   * Gets the deadline of the calls.
+   * 
+   * @return the deadline in milliseconds, 0 if calls have no deadline
+   */
+  public long getDeadline() {
+    return deadline;
+  }
+
+  /**
+   * Gets the deadline of the calls to a path.
+   * 
+   * @param pathTemplate the path template
+   * @return the deadline in milliseconds, 0 if calls have no deadline
+   */
+  public long getDeadline(String pathTemplate) {
+    final Long pathDeadline = deadlines.get(pathTemplate);
+    return pathDeadline != null ? pathDeadline : deadline;
+  }
+
+  /**
+   * Gets the end point parsed once when it is set.
+   * 
+   * @return the end point or null if it is not set or is not a valid URL
+   */
+  HttpUrl getEndPointUrl() {
+    return endPointUrl;
+  }
+
+  /**
+   * Gets the endpoint pool.
+   * 
+   * @return the endpoint pool or null if calls are sent to the end point
+   */
+  public EndpointPool getEndPointPool() {
+    return endPointPool;
+  }
+
+  /**
+   * Gets the hedging options.
+   * 
+   * @return the hedging options or null if calls are not hedged
+   */
+  public HedgingOptions getHedgingOptions() {
+    return hedgingOptions;
+  }
+
+  /**
+   * Gets the HTTP transport used by this service.
+   * 
+   * @return the HTTP transport
+   */
+  public HttpTransport getHttpTransport() {
+    return httpTransport;
+  }
+
+  /**
+   * Gets the interceptors of this service.
+   * 
+   * @return the interceptors
+   */
+  public List<Interceptor> getInterceptors() {
+    return Collections.unmodifiableList(interceptors);
+  }
+
+  /**
+   * Gets the metrics listener.
+   * 
+   * @return the metrics listener or null if no metrics are reported
+   */
+  public MetricsListener getMetricsListener() {
+    return metricsListener;
+  }
+
   /**
    * Gets the name.
    * 
@@ -260,6 +739,33 @@ public abstract class WatsonService {
   }
 
 
+  /**
+   * Gets the rate limiter.
+   * 
+   * @return the rate limiter or null if requests are not rate limited
+   */
+  public RateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+
+  /**
+   * Gets the response cache.
+   * 
+   * @return the response cache or null if responses are not cached
+   */
+  public ResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  /**
+   * Gets the retry options.
+   * 
+   * @return the retry options or null if requests are not retried
+   */
+  public RetryOptions getRetryOptions() {
+    return retryOptions;
+  }
+
   /**
    * Gets the user agent.
    * 
@@ -270,6 +776,15 @@ public abstract class WatsonService {
     return "watson-developer-cloud-java-sdk-2.5.0";
   }
 
+  /**
+   * Checks if concurrent identical GET and HEAD requests share a single call.
+   * 
+   * @return true if request coalescing is enabled
+   */
+  public boolean isRequestCoalescing() {
+    return requestCoalescing;
+  }
+
   /**
    * Sets the API key.
    * 
@@ -277,6 +792,7 @@ public abstract class WatsonService {
    */
   public void setApiKey(String apiKey) {
     this.apiKey = apiKey;
+    authorization = apiKey != null ? toAuthorization(apiKey) : null;
   }
 
   /**
@@ -286,10 +802,91 @@ public abstract class WatsonService {
    */
   protected void setAuthentication(Builder builder) {
     if (getApiKey() == null) {
+      if (credentialPool != null)
+        return;
       throw new IllegalArgumentException("apiKey or username and password were not specified");
     }
-    builder
-        .addHeader(HttpHeaders.AUTHORIZATION, apiKey.startsWith(BASIC) ? apiKey : BASIC + apiKey);
+    builder.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+  }
+
+  /**
+   * Sets the circuit breaker used to fail fast while the service endpoint is unhealthy. Requests
+   * rejected by an open circuit throw a {@link CircuitBreakerOpenException}. The circuit guards the
+   * end point of the service as a whole; with an {@link EndpointPool}, it opens once the calls fail
+   * on every endpoint, while the pool ejects the failing endpoints. No circuit breaker is used by
+   * default.
+   * 
+   * @param circuitBreaker the circuit breaker, null to disable it
+   */
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  /**
+   * Sets the compression options used to gzip large request bodies, for the endpoints of the
+   * service that accept compressed bodies. Request bodies are not compressed by default.
+   * 
+   * @param compressionOptions the compression options, null to disable compression
+   */
+  public void setCompressionOptions(CompressionOptions compressionOptions) {
+    this.compressionOptions = compressionOptions;
+  }
+
+  /**
+   * Sets the concurrency limiter that adapts the number of calls in flight to the endpoint
+   * capacity. Every attempt, including retries, holds a slot until its response headers are
+   * received. With an {@link EndpointPool}, each endpoint of the pool has its own limit. Calls in
+   * flight are not limited by default.
+   * 
+   * @param concurrencyLimiter the concurrency limiter, null to disable it
+   */
+  public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  /**
+   * Sets the pool of credentials used to spread the calls across several service instances or API
+   * keys. Each attempt uses a credential of the pool, which replaces the API key of the service,
+   * and throttled attempts are sent again with another credential. No pool is used by default.
+   * 
+   * @param credentialPool the credential pool, null to use the API key of the service
+   */
+  public void setCredentialPool(CredentialPool credentialPool) {
+    this.credentialPool = credentialPool;
+  }
+
+  /**
+   * Sets the deadline of the calls of this service. A call that has not received and read its
+   * response when the deadline expires is cancelled and fails with a
+   * {@link DeadlineExceededException}; the read and write timeouts of the call are also set to the
+   * deadline. The deadline covers the response body until it is read or closed, including the
+   * streams returned by the service (e.g. synthesized audio). Calls have no deadline by default
+   * and use the timeouts of the {@link HttpTransport}.
+   * 
+   * @param deadline the deadline in milliseconds, 0 for no deadline
+   */
+  public void setDeadline(long deadline) {
+    if (deadline < 0)
+      throw new IllegalArgumentException("deadline cannot be negative");
+    this.deadline = deadline;
+  }
+
+  /**
+   * Sets the deadline of the calls to a path, overriding the deadline of the service (e.g. a
+   * couple of seconds for <code>/v1/classifiers/{id}/classify</code> and several minutes for
+   * uploads).
+   * 
+   * @param pathTemplate the path template, relative to the service end point, where identifiers
+   *        are replaced by <code>{id}</code>
+   * @param deadline the deadline in milliseconds, 0 for no deadline
+   * @see #setDeadline(long)
+   */
+  public void setDeadline(String pathTemplate, long deadline) {
+    if (pathTemplate == null)
+      throw new IllegalArgumentException("pathTemplate cannot be null");
+    if (deadline < 0)
+      throw new IllegalArgumentException("deadline cannot be negative");
+    deadlines.put(pathTemplate, deadline);
   }
 
   /**
@@ -299,6 +896,101 @@ public abstract class WatsonService {
    */
   public void setEndPoint(String endPoint) {
     this.endPoint = endPoint;
+    endPointUrl = endPoint != null ? HttpUrl.parse(endPoint) : null;
+  }
+
+  /**
+   * Sets the pool of endpoints the calls are routed to. The end point of the service is replaced by
+   * the endpoint selected by the pool, based on the latency and error rate of each endpoint, and
+   * failed calls fail over to the other endpoints when it is safe to send them again. Calls are
+   * sent to the end point by default.
+   * 
+   * @param endPointPool the endpoint pool, null to send the calls to the end point
+   */
+  public void setEndPointPool(EndpointPool endPointPool) {
+    this.endPointPool = endPointPool;
+  }
+
+  /**
+   * Sets the hedging options used to send a duplicate request when a call to a read-only path takes
+   * longer than usual. The first response wins and the other call is cancelled. Calls are not
+   * hedged by default.
+   * 
+   * @param hedgingOptions the hedging options, null to disable hedging
+   */
+  public void setHedgingOptions(HedgingOptions hedgingOptions) {
+    this.hedgingOptions = hedgingOptions;
+  }
+
+  /**
+   * Sets the HTTP transport used by this service. Services sharing the same transport share its
+   * connection pool and dispatcher.
+   * 
+   * @param httpTransport the new HTTP transport
+   */
+  public void setHttpTransport(HttpTransport httpTransport) {
+    if (httpTransport == null)
+      throw new IllegalArgumentException("httpTransport cannot be null");
+
+    this.httpTransport = httpTransport;
+    this.client = null;
+    deadlineClients.clear();
+    hedgingClients.clear();
+  }
+
+  /**
+   * Sets the metrics listener notified of the {@link CallMetrics} of every call made by this
+   * service. No metrics are reported by default.
+   * 
+   * @param metricsListener the metrics listener, null to disable metrics
+   */
+  public void setMetricsListener(MetricsListener metricsListener) {
+    this.metricsListener = metricsListener;
+  }
+
+  /**
+   * Sets the rate limiter used to smooth the requests sent with the credentials of this service.
+   * Every attempt, including retries, waits for the rate limiter once its credential is selected,
+   * so each credential of the {@link CredentialPool} has its own budget. Requests are not rate
+   * limited by default.
+   * 
+   * @param rateLimiter the rate limiter, null to disable rate limiting
+   */
+  public void setRateLimiter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * Enables or disables request coalescing. When enabled, concurrent GET and HEAD requests of this
+   * service with the same URL, credentials and <code>Accept</code> headers share a single call: the
+   * response of the first request is buffered and returned to every caller that sent an identical
+   * request while it was in flight. Only JSON and small responses are shared. Request coalescing is
+   * disabled by default.
+   * 
+   * @param requestCoalescing true to enable request coalescing
+   */
+  public void setRequestCoalescing(boolean requestCoalescing) {
+    this.requestCoalescing = requestCoalescing;
+  }
+
+  /**
+   * Sets the response cache used to serve the GET requests to the paths it has a time to live for.
+   * Responses are not cached by default.
+   * 
+   * @param responseCache the response cache, null to disable caching
+   */
+  public void setResponseCache(ResponseCache responseCache) {
+    this.responseCache = responseCache;
+  }
+
+  /**
+   * Sets the retry options used when a request is throttled (429), the service is unavailable (503)
+   * or the connection fails. Requests are not retried by default.
+   * 
+   * @param retryOptions the retry options, null to disable retries
+   */
+  public void setRetryOptions(RetryOptions retryOptions) {
+    this.retryOptions = retryOptions;
   }
 
   /**
@@ -308,7 +1000,32 @@ public abstract class WatsonService {
    * @param password the password
    */
   public void setUsernameAndPassword(String username, String password) {
-    apiKey = Credentials.basic(username, password);
+    setApiKey(Credentials.basic(username, password));
+  }
+
+  /**
+   * Adds an interceptor called on every request of this service, after the global interceptors and
+   * before the request is retried, rate limited and sent. Interceptors can modify the request,
+   * short-circuit the call by returning their own response (e.g. from a cache) or call
+   * {@link Interceptor.Chain#proceed(Request)} several times. Since asynchronous calls only report
+   * {@link IOException}s, interceptors should not throw unchecked exceptions.
+   * 
+   * @param interceptor the interceptor
+   */
+  public void addInterceptor(Interceptor interceptor) {
+    if (interceptor == null)
+      throw new IllegalArgumentException("interceptor cannot be null");
+    interceptors.add(interceptor);
+  }
+
+  /**
+   * Removes an interceptor added with {@link #addInterceptor(Interceptor)}.
+   * 
+   * @param interceptor the interceptor
+   * @return true if the interceptor was removed
+   */
+  public boolean removeInterceptor(Interceptor interceptor) {
+    return interceptors.remove(interceptor);
   }
 
   /**
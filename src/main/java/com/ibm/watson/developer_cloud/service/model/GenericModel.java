@@ -13,13 +13,119 @@
  */
 package com.ibm.watson.developer_cloud.service.model;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 
 /**
- * Abstract model class to provide a default toString() method in model classes.
+ * Abstract model class to provide a default toString() method in model classes. The equals() and
+ * hashCode() methods compare the fields serialized to JSON (non static and non transient), which
+ * are discovered once per model class.
  */
 public abstract class GenericModel {
 
+  /** The fields of each model class, including the inherited ones. */
+  private static final ConcurrentMap<Class<?>, Field[]> FIELDS =
+      new ConcurrentHashMap<Class<?>, Field[]>();
+
+  /**
+   * Gets the fields compared by equals() and hashCode().
+   * 
+   * @param type the model class
+   * @return the fields
+   */
+  private static Field[] getFields(Class<?> type) {
+    Field[] fields = FIELDS.get(type);
+    if (fields == null) {
+      final List<Field> list = new ArrayList<Field>();
+      for (Class<?> c = type; c != null && c != GenericModel.class; c = c.getSuperclass()) {
+        for (final Field field : c.getDeclaredFields()) {
+          final int modifiers = field.getModifiers();
+          if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+              || field.isSynthetic())
+            continue;
+          field.setAccessible(true);
+          list.add(field);
+        }
+      }
+      fields = list.toArray(new Field[list.size()]);
+      FIELDS.putIfAbsent(type, fields);
+    }
+    return fields;
+  }
+
+  /**
+   * Compares the value of a field in two models.
+   * 
+   * @param field the field
+   * @param a the first model
+   * @param b the second model
+   * @return true, if the values are equal
+   * @throws IllegalAccessException if the field is not accessible
+   */
+  private static boolean fieldEquals(Field field, Object a, Object b)
+      throws IllegalAccessException {
+    final Class<?> type = field.getType();
+    if (type.isPrimitive()) {
+      if (type == boolean.class)
+        return field.getBoolean(a) == field.getBoolean(b);
+      if (type == double.class)
+        return Double.doubleToLongBits(field.getDouble(a)) == Double.doubleToLongBits(field
+            .getDouble(b));
+      if (type == float.class)
+        return Float.floatToIntBits(field.getFloat(a)) == Float.floatToIntBits(field.getFloat(b));
+      return field.getLong(a) == field.getLong(b);
+    }
+
+    final Object valueA = field.get(a);
+    final Object valueB = field.get(b);
+    if (valueA == valueB)
+      return true;
+    if (valueA == null || valueB == null)
+      return false;
+    if (valueA.getClass().isArray())
+      return Arrays.deepEquals(new Object[] {valueA}, new Object[] {valueB});
+    return valueA.equals(valueB);
+  }
+
+  /**
+   * Gets the hash code of a field value.
+   * 
+   * @param field the field
+   * @param model the model
+   * @return the hash code
+   * @throws IllegalAccessException if the field is not accessible
+   */
+  private static int fieldHashCode(Field field, Object model) throws IllegalAccessException {
+    final Class<?> type = field.getType();
+    if (type.isPrimitive()) {
+      if (type == boolean.class)
+        return field.getBoolean(model) ? 1231 : 1237;
+      final long bits;
+      if (type == double.class) {
+        bits = Double.doubleToLongBits(field.getDouble(model));
+      } else if (type == float.class) {
+        bits = Float.floatToIntBits(field.getFloat(model));
+      } else {
+        bits = field.getLong(model);
+      }
+      return (int) (bits ^ (bits >>> 32));
+    }
+
+    final Object value = field.get(model);
+    if (value == null)
+      return 0;
+    if (value.getClass().isArray())
+      return Arrays.deepHashCode(new Object[] {value});
+    return value.hashCode();
+  }
+
   /*
    * (non-Javadoc)
    * 
@@ -32,9 +138,15 @@ public abstract class GenericModel {
     if (o == null || getClass() != o.getClass())
       return false;
 
-    final GenericModel other = (GenericModel) o;
-
-    return this.toString().equals(other.toString());
+    try {
+      for (final Field field : getFields(getClass())) {
+        if (!fieldEquals(field, this, o))
+          return false;
+      }
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+    return true;
   }
 
   /*
@@ -44,7 +156,15 @@ public abstract class GenericModel {
    */
   @Override
   public int hashCode() {
-    return this.toString().hashCode();
+    int result = 1;
+    try {
+      for (final Field field : getFields(getClass())) {
+        result = 31 * result + fieldHashCode(field, this);
+      }
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+    return result;
   }
 
   /*
@@ -14,11 +14,16 @@
 package com.ibm.watson.developer_cloud.speech_to_text.v1;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.http.HttpStatus;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.PagedPublisher;
+import com.ibm.watson.developer_cloud.service.Publisher;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SessionStatus;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechModel;
@@ -155,7 +160,7 @@ public class SpeechToText extends WatsonService {
       throw new IllegalArgumentException("session was not specified");
 
     final Request request =
-        RequestBuilder.delete(String.format(PATH_SESSION, session.getSessionId())).build();
+        RequestBuilder.delete(PATH_SESSION, session.getSessionId()).build();
     final Response response = execute(request);
 
     ResponseUtil.getString(response);
@@ -173,7 +178,7 @@ public class SpeechToText extends WatsonService {
     if (name == null)
       throw new IllegalArgumentException("name was not specified");
 
-    final Request request = RequestBuilder.get(String.format(PATH_MODEL, name)).build();
+    final Request request = RequestBuilder.get(PATH_MODEL, name).build();
     return executeRequest(request, SpeechModel.class);
   }
 
@@ -201,10 +206,11 @@ public class SpeechToText extends WatsonService {
       throw new IllegalArgumentException("session was not specified");
 
     final Request request =
-        RequestBuilder.get(String.format(PATH_SESSION_RECOGNIZE, session.getSessionId())).build();
+        RequestBuilder.get(PATH_SESSION_RECOGNIZE, session.getSessionId()).build();
     final Response response = execute(request);
     final JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-    return GsonSingleton.getGson().fromJson(jsonObject.get(SESSION), SessionStatus.class);
+    return GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(jsonObject.get(SESSION),
+        SessionStatus.class);
   }
 
   /**
@@ -242,6 +248,71 @@ public class SpeechToText extends WatsonService {
    * @return the {@link SpeechResults}
    */
   public SpeechResults recognize(File audio, String contentType, RecognizeOptions options) {
+    return executeRequest(createRecognizeRequest(audio, contentType, options),
+        SpeechResults.class);
+  }
+
+  /**
+   * Recognizes an audio file without blocking the calling thread.
+   * 
+   * @param audio the audio file
+   * @param contentType the media type of the audio. If you use the audio/l16 MIME type, specify the
+   *        rate and channels.
+   * @param options the {@link RecognizeOptions}
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link SpeechResults}
+   * @see #recognize(File, String, RecognizeOptions)
+   */
+  public Future<SpeechResults> recognizeAsync(File audio, String contentType,
+      RecognizeOptions options, ServiceCallback<SpeechResults> callback) {
+    return executeRequestAsync(createRecognizeRequest(audio, contentType, options),
+        SpeechResults.class, callback);
+  }
+
+  /**
+   * Recognizes audio files one after the other and publishes their {@link SpeechResults} in the
+   * same order. An audio file is sent when the subscriber requests its results, and the next one is
+   * recognized while the results of the current one are being processed.
+   * 
+   * @param audio the audio files
+   * @param contentType the media type of the audio. If you use the audio/l16 MIME type, specify the
+   *        rate and channels.
+   * @param options the {@link RecognizeOptions}
+   * @return a {@link Publisher} of the {@link SpeechResults} of each audio file
+   * @see #recognize(File, String, RecognizeOptions)
+   */
+  public Publisher<SpeechResults> recognizePublisher(final List<File> audio,
+      final String contentType, final RecognizeOptions options) {
+    Validate.notEmpty(audio, "audio files cannot be null or empty");
+
+    return new PagedPublisher<SpeechResults, SpeechResults>() {
+      @Override
+      protected Future<SpeechResults> fetch(SpeechResults previous, int offset,
+          ServiceCallback<SpeechResults> callback) {
+        return recognizeAsync(audio.get(offset), contentType, options, callback);
+      }
+
+      @Override
+      protected List<SpeechResults> getItems(SpeechResults page) {
+        return Collections.singletonList(page);
+      }
+
+      @Override
+      protected boolean hasNext(SpeechResults page, int offset) {
+        return offset < audio.size();
+      }
+    };
+  }
+
+  /**
+   * Creates the recognize request.
+   * 
+   * @param audio the audio file
+   * @param contentType the media type of the audio
+   * @param options the {@link RecognizeOptions}
+   * @return the request
+   */
+  private Request createRecognizeRequest(File audio, String contentType, RecognizeOptions options) {
     Validate.isTrue(audio != null && audio.exists(), "audio file is null or does not exist");
     Validate.isTrue(audio != null && audio.exists(), "audio file is null or does not exist");
 
@@ -251,15 +322,15 @@ public class SpeechToText extends WatsonService {
     Validate.isTrue(MediaType.parse(contentType) != null,
         "contentType is not a valid mime audio format. Valid formats start with 'audio/'");
 
-    String path = PATH_RECOGNIZE;
+    final RequestBuilder requestBuilder;
     if (options != null && (options.getSessionId() != null && !options.getSessionId().isEmpty()))
-      path = String.format(PATH_SESSION_RECOGNIZE, options.getSessionId());
-
-    final RequestBuilder requestBuilder = RequestBuilder.post(path);
+      requestBuilder = RequestBuilder.post(PATH_SESSION_RECOGNIZE, options.getSessionId());
+    else
+      requestBuilder = RequestBuilder.post(PATH_RECOGNIZE);
 
     buildRecognizeRequest(requestBuilder, options);
 
     requestBuilder.withBody(RequestBody.create(MediaType.parse(contentType), audio));
-    return executeRequest(requestBuilder.build(), SpeechResults.class);
+    return requestBuilder.build();
   }
 }
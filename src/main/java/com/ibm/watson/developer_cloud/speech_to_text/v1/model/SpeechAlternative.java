@@ -16,12 +16,15 @@ package com.ibm.watson.developer_cloud.speech_to_text.v1.model;
 
 import java.util.List;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.util.SpeechAlternativeTypeAdapter;
 
 /**
  * The Class SpeechAlternative.
  */
+@JsonAdapter(SpeechAlternativeTypeAdapter.class)
 public class SpeechAlternative extends GenericModel {
 
   /** The transcript. */
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechAlternative;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechTimestamp;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechWordConfidence;
+
+/**
+ * The Class SpeechAlternativeTypeAdapter. Parses the {@link SpeechAlternative}s of a recognition
+ * result without reflection.
+ */
+public class SpeechAlternativeTypeAdapter extends TypeAdapter<SpeechAlternative> {
+
+  private final SpeechTimestampTypeAdapter timestampAdapter = new SpeechTimestampTypeAdapter();
+  private final SpeechWordConfidenceTypeAdapter wordConfidenceAdapter =
+      new SpeechWordConfidenceTypeAdapter();
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public SpeechAlternative read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+
+    final SpeechAlternative speechAlternative = new SpeechAlternative();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+
+      if (name.equals("confidence")) {
+        speechAlternative.setConfidence(reader.nextDouble());
+      } else if (name.equals("timestamps")) {
+        final List<SpeechTimestamp> timestamps = new ArrayList<SpeechTimestamp>();
+        reader.beginArray();
+        while (reader.hasNext())
+          timestamps.add(timestampAdapter.read(reader));
+        reader.endArray();
+        speechAlternative.setTimestamps(timestamps);
+      } else if (name.equals("transcript")) {
+        speechAlternative.setTranscript(reader.nextString());
+      } else if (name.equals("word_confidence")) {
+        final List<SpeechWordConfidence> wordConfidences = new ArrayList<SpeechWordConfidence>();
+        reader.beginArray();
+        while (reader.hasNext())
+          wordConfidences.add(wordConfidenceAdapter.read(reader));
+        reader.endArray();
+        speechAlternative.setWordConfidences(wordConfidences);
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return speechAlternative;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter writer, SpeechAlternative value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+      return;
+    }
+
+    writer.beginObject();
+
+    if (value.getConfidence() != null)
+      writer.name("confidence").value(value.getConfidence());
+    if (value.getTimestamps() != null) {
+      writer.name("timestamps").beginArray();
+      for (final SpeechTimestamp speechTimestamp : value.getTimestamps())
+        timestampAdapter.write(writer, speechTimestamp);
+      writer.endArray();
+    }
+    if (value.getTranscript() != null)
+      writer.name("transcript").value(value.getTranscript());
+    if (value.getWordConfidences() != null) {
+      writer.name("word_confidence").beginArray();
+      for (final SpeechWordConfidence speechWordConfidence : value.getWordConfidences())
+        wordConfidenceAdapter.write(writer, speechWordConfidence);
+      writer.endArray();
+    }
+
+    writer.endObject();
+  }
+
+}
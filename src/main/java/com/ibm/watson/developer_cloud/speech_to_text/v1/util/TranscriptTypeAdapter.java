@@ -0,0 +1,100 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechAlternative;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+
+/**
+ * The Class TranscriptTypeAdapter. Parses the {@link Transcript}s of a recognition result without
+ * reflection.
+ */
+public class TranscriptTypeAdapter extends TypeAdapter<Transcript> {
+
+  private final SpeechAlternativeTypeAdapter alternativeAdapter =
+      new SpeechAlternativeTypeAdapter();
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public Transcript read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+
+    final Transcript transcript = new Transcript();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+
+      if (name.equals("alternatives")) {
+        final List<SpeechAlternative> alternatives = new ArrayList<SpeechAlternative>();
+        reader.beginArray();
+        while (reader.hasNext())
+          alternatives.add(alternativeAdapter.read(reader));
+        reader.endArray();
+        transcript.setAlternatives(alternatives);
+      } else if (name.equals("final")) {
+        transcript.setFinal(reader.nextBoolean());
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return transcript;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter writer, Transcript value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+      return;
+    }
+
+    writer.beginObject();
+
+    if (value.getAlternatives() != null) {
+      writer.name("alternatives").beginArray();
+      for (final SpeechAlternative speechAlternative : value.getAlternatives())
+        alternativeAdapter.write(writer, speechAlternative);
+      writer.endArray();
+    }
+    writer.name("final").value(value.isFinal());
+
+    writer.endObject();
+  }
+
+}
@@ -16,11 +16,14 @@ package com.ibm.watson.developer_cloud.text_to_speech.v1;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.ResponseConverter;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.text_to_speech.v1.model.Voice;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
@@ -66,7 +69,8 @@ public class TextToSpeech extends WatsonService {
     final Response response = execute(request);
     final JsonObject jsonObject = ResponseUtil.getJsonObject(response);
     final List<Voice> voices =
-        GsonSingleton.getGson().fromJson(jsonObject.get("voices"), listVoiceType);
+        GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(jsonObject.get("voices"),
+            listVoiceType);
     return voices;
   }
 
@@ -102,6 +106,43 @@ public class TextToSpeech extends WatsonService {
    * @return the input stream
    */
   public InputStream synthesize(final String text, final Voice voice, final String outputFormat) {
+    final Response response = execute(buildSynthesizeRequest(text, voice, outputFormat));
+    return ResponseUtil.getInputStream(response);
+  }
+
+  /**
+   * Synthesize text using a voice and format without blocking the calling thread. The future
+   * completes as soon as the response headers are received, the audio is streamed while reading
+   * the input stream.
+   * 
+   * @param text the text
+   * @param voice the voice
+   * @param outputFormat the output format. e.g: audio/wav or audio/ogg; codecs=opus
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the input stream
+   * @see #synthesize(String, Voice, String)
+   */
+  public Future<InputStream> synthesizeAsync(final String text, final Voice voice,
+      final String outputFormat, final ServiceCallback<InputStream> callback) {
+    return executeAsync(buildSynthesizeRequest(text, voice, outputFormat),
+        new ResponseConverter<InputStream>() {
+          @Override
+          public InputStream convert(Response response) {
+            return ResponseUtil.getInputStream(response);
+          }
+        }, callback);
+  }
+
+  /**
+   * Builds the synthesize request.
+   * 
+   * @param text the text
+   * @param voice the voice
+   * @param outputFormat the output format. e.g: audio/wav or audio/ogg; codecs=opus
+   * @return the request
+   */
+  private Request buildSynthesizeRequest(final String text, final Voice voice,
+      final String outputFormat) {
     Validate.isTrue(text != null && !text.isEmpty(), "text cannot be null or empty");
     Validate.isTrue(voice != null, "voice cannot be null or empty");
 
@@ -115,7 +156,6 @@ public class TextToSpeech extends WatsonService {
 
     request.withQuery(ACCEPT, outputFormat != null ? outputFormat : HttpMediaType.AUDIO_WAV);
 
-    final Response response = execute(request.build());
-    return ResponseUtil.getInputStream(response);
+    return request.build();
   }
 }
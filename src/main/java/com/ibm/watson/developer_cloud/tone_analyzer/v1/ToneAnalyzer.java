@@ -15,11 +15,13 @@ package com.ibm.watson.developer_cloud.tone_analyzer.v1;
 
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.tone_analyzer.v1.model.Scorecard;
 import com.ibm.watson.developer_cloud.tone_analyzer.v1.model.SynonymOptions;
@@ -79,13 +81,11 @@ public class ToneAnalyzer extends WatsonService {
     final Request request =
         RequestBuilder
             .post(PATH_SYNONYM)
-            .withBodyContent(GsonSingleton.getGson().toJson(options),
+            .withBodyContent(GsonSingleton.getGsonWithoutPrettyPrinting().toJson(options),
                 HttpMediaType.APPLICATION_JSON).build();
 
     final Response response = execute(request);
-    final String synonymResultJson = ResponseUtil.getString(response);
-    final List<SynonymResult> synonyms =
-        GsonSingleton.getGson().fromJson(synonymResultJson, synonymListType);
+    final List<SynonymResult> synonyms = ResponseUtil.getObject(response, synonymListType);
     return synonyms;
   }
 
@@ -114,7 +114,31 @@ public class ToneAnalyzer extends WatsonService {
    * 
    */
   public Tone getTone(final String text, final Scorecard scorecard) {
+    return executeRequest(buildToneRequest(text, scorecard), Tone.class);
+  }
+
+  /**
+   * Analyzes the "tone" of a piece of text without blocking the calling thread.
+   * 
+   * @param text The text to analyze
+   * @param scorecard Name of the scorecard used to compute the tone. (business messages by default)
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link Tone}
+   * @see #getTone(String, Scorecard)
+   */
+  public Future<Tone> getToneAsync(final String text, final Scorecard scorecard,
+      final ServiceCallback<Tone> callback) {
+    return executeRequestAsync(buildToneRequest(text, scorecard), Tone.class, callback);
+  }
 
+  /**
+   * Builds the tone request.
+   * 
+   * @param text The text to analyze
+   * @param scorecard Name of the scorecard used to compute the tone
+   * @return the request
+   */
+  private Request buildToneRequest(final String text, final Scorecard scorecard) {
     if (text == null || text.isEmpty())
       throw new IllegalArgumentException("text cannot be null or empty");
 
@@ -124,8 +148,7 @@ public class ToneAnalyzer extends WatsonService {
     if (scorecard != null)
       contentJson.addProperty(SCORECARD, scorecard.getId());
 
-    final Request request = RequestBuilder.post(PATH_TONE).withBodyJson(contentJson).build();
-    return executeRequest(request, Tone.class);
+    return RequestBuilder.post(PATH_TONE).withBodyJson(contentJson).build();
   }
 
   /**
@@ -137,7 +160,8 @@ public class ToneAnalyzer extends WatsonService {
     final Response response = execute(RequestBuilder.get(PATH_SCORECARD).build());
     final JsonObject jsonObject = ResponseUtil.getJsonObject(response);
     final List<Scorecard> scorecards =
-        GsonSingleton.getGson().fromJson(jsonObject.get(SCORECARDS), scorecardListType);
+        GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(jsonObject.get(SCORECARDS),
+            scorecardListType);
 
     return scorecards;
   }
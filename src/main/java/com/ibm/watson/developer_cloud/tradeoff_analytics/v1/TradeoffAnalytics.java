@@ -13,15 +13,19 @@
  */
 package com.ibm.watson.developer_cloud.tradeoff_analytics.v1;
 
+import java.util.concurrent.Future;
+
 import org.apache.commons.lang3.Validate;
 
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.Dilemma;
 import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.Problem;
 import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.Resolution;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
+import com.squareup.okhttp.Request;
 
 /**
  * The Class TradeoffAnalytics.
@@ -82,9 +86,36 @@ public class TradeoffAnalytics extends WatsonService {
    * @return the decision problem
    */
   public Dilemma dilemmas(final Problem problem, final Boolean generateVisualization) {
+    return executeRequest(buildDilemmasRequest(problem, generateVisualization), Dilemma.class);
+  }
+
+  /**
+   * Returns a dilemma that contains the {@link Problem} and a {@link Resolution} without blocking
+   * the calling thread.
+   * 
+   * @param problem the decision problem
+   * @param generateVisualization if true the Dilemma contains information to generate visualization
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the dilemma
+   * @see #dilemmas(Problem, Boolean)
+   */
+  public Future<Dilemma> dilemmasAsync(final Problem problem, final Boolean generateVisualization,
+      final ServiceCallback<Dilemma> callback) {
+    return executeRequestAsync(buildDilemmasRequest(problem, generateVisualization),
+        Dilemma.class, callback);
+  }
+
+  /**
+   * Builds the dilemmas request.
+   * 
+   * @param problem the decision problem
+   * @param generateVisualization if true the Dilemma contains information to generate visualization
+   * @return the request
+   */
+  private Request buildDilemmasRequest(final Problem problem, final Boolean generateVisualization) {
     Validate.notNull(problem, "problem was not specified");
 
-    final String contentJson = GsonSingleton.getGson().toJson(problem);
+    final String contentJson = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(problem);
 
     final RequestBuilder requestBuilder =
         RequestBuilder.post(PATH_DILEMMAS).withBodyContent(contentJson,
@@ -93,6 +124,6 @@ public class TradeoffAnalytics extends WatsonService {
     if (generateVisualization != null)
       requestBuilder.withQuery(GENERATE_VISUALIZATION, generateVisualization);
 
-    return executeRequest(requestBuilder.build(), Dilemma.class);
+    return requestBuilder.build();
   }
 }
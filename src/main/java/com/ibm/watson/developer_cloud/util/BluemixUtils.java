@@ -13,15 +13,18 @@
  */
 package com.ibm.watson.developer_cloud.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
 import com.squareup.okhttp.Credentials;
 
 /**
@@ -29,6 +32,30 @@ import com.squareup.okhttp.Credentials;
  */
 public class BluemixUtils {
 
+  /**
+   * A service instance of the VCAP_SERVICES.
+   */
+  private static final class Instance {
+    private final String apiKey;
+    private final String basicCredentials;
+    private final String plan;
+
+    /**
+     * Instantiates a new service instance.
+     * 
+     * @param plan the service plan
+     * @param apiKey the API key, null if the instance uses a username and password
+     * @param username the username
+     * @param password the password
+     */
+    private Instance(String plan, String apiKey, String username, String password) {
+      this.plan = plan;
+      this.apiKey = apiKey;
+      this.basicCredentials =
+          username != null && password != null ? Credentials.basic(username, password) : null;
+    }
+  }
+
   /** The Constant ALCHEMY_API. */
   private static final String ALCHEMY_API = "alchemy_api";
 
@@ -59,6 +86,12 @@ public class BluemixUtils {
   /** The services. */
   private static String services;
 
+  /** The service instances of the VCAP_SERVICES, indexed by service key. */
+  private static Map<String, List<Instance>> table;
+
+  /** The VCAP_SERVICES the table was parsed from. */
+  private static String tableSource;
+
   /** The Constant USERNAME. */
   private static final String USERNAME = "username";
 
@@ -81,55 +114,108 @@ public class BluemixUtils {
    * @return the API key
    */
   public static String getAPIKey(String serviceName, String plan) {
+    final List<String> apiKeys = getAPIKeys(serviceName, plan);
+    return apiKeys.isEmpty() ? null : apiKeys.get(0);
+  }
+
+  /**
+   * Returns the apiKeys of all the instances of a service from the VCAP_SERVICES, e.g. to create a
+   * {@link com.ibm.watson.developer_cloud.service.CredentialPool}.
+   * 
+   * @param serviceName the service name
+   * @return the API keys, empty if the service cannot be found
+   */
+  public static List<String> getAPIKeys(String serviceName) {
+    return getAPIKeys(serviceName, null);
+  }
+
+  /**
+   * Returns the apiKeys of all the instances of a service from the VCAP_SERVICES. If plan is
+   * specified, then only credentials for the given plan will be returned.
+   * 
+   * @param serviceName the service name
+   * @param plan the service plan: standard, free or experimental
+   * @return the API keys, empty if the service cannot be found
+   */
+  public static List<String> getAPIKeys(String serviceName, String plan) {
+    final List<String> apiKeys = new ArrayList<String>();
     if (serviceName == null || serviceName.isEmpty())
-      return null;
-
-    final JsonObject services = getVCAPServices();
-    if (services == null)
-      return null;
-
-    for (final Entry<String, JsonElement> entry : services.entrySet()) {
-      final String key = entry.getKey();
-      if (key.startsWith(serviceName)) {
-        final JsonArray servInstances = services.getAsJsonArray(key);
-        for (final JsonElement instance : servInstances) {
-          final JsonObject service = instance.getAsJsonObject();
-          final String instancePlan = service.get(PLAN).getAsString();
-          if (plan == null || plan.equalsIgnoreCase(instancePlan)) {
-            final JsonObject credentials = instance.getAsJsonObject().getAsJsonObject(CREDENTIALS);
-            if (serviceName.equalsIgnoreCase(ALCHEMY_API)) {
-              return credentials.get(APIKEY).getAsString();
-            } else {
-              final String username = credentials.get(USERNAME).getAsString();
-              final String password = credentials.get(PASSWORD).getAsString();
-              return Credentials.basic(username, password);
-            }
+      return apiKeys;
+
+    final boolean alchemy = serviceName.equalsIgnoreCase(ALCHEMY_API);
+    for (final Entry<String, List<Instance>> entry : getCredentialTable().entrySet()) {
+      if (entry.getKey().startsWith(serviceName)) {
+        for (final Instance instance : entry.getValue()) {
+          if (plan == null || plan.equalsIgnoreCase(instance.plan)) {
+            final String apiKey = alchemy ? instance.apiKey : instance.basicCredentials;
+            if (apiKey != null)
+              apiKeys.add(apiKey);
           }
         }
       }
     }
-    return null;
+    return apiKeys;
   }
 
   /**
-   * Gets the <b>VCAP_SERVICES</b> environment variable and return it as a {@link JsonObject}.
+   * Gets the credential table of the <b>VCAP_SERVICES</b> environment variable. The variable is
+   * parsed the first time and again only when it changes, so creating services is cheap.
    * 
-   * @return the VCAP_SERVICES as a {@link JsonObject}.
+   * @return the service instances indexed by service key, empty if VCAP_SERVICES is not set
    */
-  private static JsonObject getVCAPServices() {
+  private static synchronized Map<String, List<Instance>> getCredentialTable() {
     final String envServices = services != null ? services : System.getenv("VCAP_SERVICES");
     if (envServices == null)
-      return null;
+      return Collections.emptyMap();
 
-    JsonObject vcapServices = null;
+    if (!envServices.equals(tableSource)) {
+      table = parseCredentialTable(envServices);
+      tableSource = envServices;
+    }
+    return table;
+  }
 
+  /**
+   * Parses the <b>VCAP_SERVICES</b> into an immutable credential table.
+   * 
+   * @param vcapServices the VCAP_SERVICES
+   * @return the service instances indexed by service key
+   */
+  private static Map<String, List<Instance>> parseCredentialTable(String vcapServices) {
+    final Map<String, List<Instance>> instances = new LinkedHashMap<String, List<Instance>>();
     try {
-      final JsonParser parser = new JsonParser();
-      vcapServices = (JsonObject) parser.parse(envServices);
-    } catch (final JsonSyntaxException e) {
+      final JsonObject json = (JsonObject) new JsonParser().parse(vcapServices);
+      for (final Entry<String, JsonElement> entry : json.entrySet()) {
+        if (!entry.getValue().isJsonArray())
+          continue;
+
+        final List<Instance> serviceInstances = new ArrayList<Instance>();
+        for (final JsonElement element : entry.getValue().getAsJsonArray()) {
+          final JsonObject service = element.getAsJsonObject();
+          final JsonObject credentials = service.getAsJsonObject(CREDENTIALS);
+          if (credentials != null)
+            serviceInstances.add(new Instance(getString(service, PLAN), getString(credentials,
+                APIKEY), getString(credentials, USERNAME), getString(credentials, PASSWORD)));
+        }
+        instances.put(entry.getKey(), Collections.unmodifiableList(serviceInstances));
+      }
+    } catch (final RuntimeException e) {
+      // malformed JSON or unexpected elements
       log.log(Level.INFO, "Error parsing VCAP_SERVICES", e);
     }
-    return vcapServices;
+    return Collections.unmodifiableMap(instances);
+  }
+
+  /**
+   * Gets a string property of a JSON object.
+   * 
+   * @param object the JSON object
+   * @param name the property name
+   * @return the value or null if the property is missing
+   */
+  private static String getString(JsonObject object, String name) {
+    final JsonElement element = object.get(name);
+    return element != null && !element.isJsonNull() ? element.getAsString() : null;
   }
 
   /**
@@ -18,32 +18,58 @@ import com.google.gson.GsonBuilder;
 
 /**
  * Gson singleton to be use when transforming from JSON to Java Objects and vise versa. It handles
- * date formatting and pretty print the result
+ * date formatting and pretty print the result. Use {@link #getGsonWithoutPrettyPrinting()} to send
+ * and receive JSON over the wire.
  */
 public class GsonSingleton {
 
+  /**
+   * Lazily creates the pretty printing Gson on first use. The JVM class initialization guarantees
+   * it is created only once, without locking.
+   */
+  private static class PrettyHolder {
+    private static final Gson GSON = createGson(true);
+  }
+
+  /**
+   * Lazily creates the compact Gson on first use.
+   */
+  private static class CompactHolder {
+    private static final Gson GSON = createGson(false);
+  }
+
   private static final String DATE_FORMAT_UTC = "yyyy-MM-dd'T'HH:mm:ss.SSS";
-  private static Gson gson;
 
   /**
    * Creates a {@link com.google.gson.Gson} object that can be use to serialize and deserialize Java
    * objects}
    * 
+   * @param prettyPrint if true the JSON will be pretty printed
    * @return the Gson
    */
-  private static Gson createGson() {
-    return new GsonBuilder().setPrettyPrinting().setDateFormat(DATE_FORMAT_UTC).create();
+  private static Gson createGson(boolean prettyPrint) {
+    final GsonBuilder builder = new GsonBuilder().setDateFormat(DATE_FORMAT_UTC);
+    if (prettyPrint) {
+      builder.setPrettyPrinting();
+    }
+    return builder.create();
   }
 
   /**
-   * Gets the Gson instance
+   * Gets the Gson instance that pretty prints the JSON.
    * 
    * @return the Gson
    */
   public static Gson getGson() {
-    if (gson == null) {
-      gson = createGson();
-    }
-    return gson;
+    return PrettyHolder.GSON;
+  }
+
+  /**
+   * Gets the Gson instance that writes compact JSON. Use it to serialize request bodies.
+   * 
+   * @return the Gson
+   */
+  public static Gson getGsonWithoutPrettyPrinting() {
+    return CompactHolder.GSON;
   }
 }
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non-negative long values with a bounded relative error, in the spirit of
+ * HdrHistogram. Values are counted in log-linear buckets: each power of two is split in 128 linear
+ * sub-buckets, so a recorded value is reported with a relative error lower than 1%. Recording is a
+ * single atomic increment and never allocates, so it can be called from any thread on the request
+ * path.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (65 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  /**
+   * Gets the index of the bucket of a value.
+   * 
+   * @param value the value
+   * @return the bucket index
+   */
+  static int indexOf(long value) {
+    if (value < SUB_BUCKET_COUNT)
+      return (int) value;
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    final int shift = exponent - SUB_BUCKET_BITS;
+    final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * Gets the highest value counted in a bucket.
+   * 
+   * @param index the bucket index
+   * @return the highest value of the bucket
+   */
+  static long highestValueOf(int index) {
+    if (index < SUB_BUCKET_COUNT)
+      return index;
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    final long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong max = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong totalCount = new AtomicLong();
+
+  /**
+   * Gets the number of recorded values.
+   * 
+   * @return the count
+   */
+  public long getCount() {
+    return totalCount.get();
+  }
+
+  /**
+   * Gets the highest recorded value.
+   * 
+   * @return the max value, 0 if no value was recorded
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Gets the mean of the recorded values.
+   * 
+   * @return the mean, 0 if no value was recorded
+   */
+  public double getMean() {
+    final long count = totalCount.get();
+    return count == 0 ? 0 : (double) sum.get() / count;
+  }
+
+  /**
+   * Gets the value at the given percentile. The value is the upper bound of the bucket that
+   * contains the percentile, capped by the max value.
+   * 
+   * @param percentile the percentile, between 0 and 100
+   * @return the value at the percentile, 0 if no value was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    Validate.isTrue(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+
+    final long count = totalCount.get();
+    if (count == 0)
+      return 0;
+
+    final long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts.get(i);
+      if (seen >= target)
+        return Math.min(highestValueOf(i), max.get());
+    }
+    return max.get();
+  }
+
+  /**
+   * Records a value.
+   * 
+   * @param value the value, negative values are recorded as 0
+   */
+  public void recordValue(long value) {
+    final long v = Math.max(0, value);
+    counts.incrementAndGet(indexOf(v));
+    sum.addAndGet(v);
+    totalCount.incrementAndGet();
+
+    long current = max.get();
+    while (v > current && !max.compareAndSet(current, v))
+      current = max.get();
+  }
+
+  /**
+   * Clears the recorded values. Values recorded concurrently may be partially cleared.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++)
+      counts.set(i, 0);
+    max.set(0);
+    sum.set(0);
+    totalCount.set(0);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return "count=" + getCount() + " mean=" + Math.round(getMean()) + " p50="
+        + getValueAtPercentile(50) + " p90=" + getValueAtPercentile(90) + " p99="
+        + getValueAtPercentile(99) + " max=" + getMax();
+  }
+}
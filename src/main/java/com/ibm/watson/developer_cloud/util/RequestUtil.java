@@ -21,6 +21,7 @@ import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 
 import com.ibm.watson.developer_cloud.service.WatsonService;
+import com.squareup.okhttp.HttpUrl;
 import com.squareup.okhttp.Request;
 
 /**
@@ -44,6 +45,8 @@ public class RequestUtil {
    * @return the string
    */
   public static String encode(String content) {
+    if (isUnreserved(content))
+      return content;
     try {
       return URLEncoder.encode(content, "UTF-8");
     } catch (final UnsupportedEncodingException e) {
@@ -51,6 +54,96 @@ public class RequestUtil {
     }
   }
 
+  /**
+   * Gets the path template of a request. The path is made relative to the service end point and
+   * the segments that look like identifiers (those that contain a digit, other than the API
+   * version) are replaced by <code>{id}</code>, so requests to the same operation share the same
+   * template (e.g. <code>/v1/classifiers/{id}/classify</code>). Identifiers without digits are
+   * only replaced when the request was given a template, see
+   * {@link com.ibm.watson.developer_cloud.http.RequestBuilder#withPathTemplate(String)}.
+   * 
+   * @param request the request
+   * @param endPoint the service end point, can be null
+   * @return the path template
+   */
+  public static String getPathTemplate(Request request, String endPoint) {
+    return getPathTemplate(request, endPoint != null ? HttpUrl.parse(endPoint) : null);
+  }
+
+  /**
+   * Gets the path template of a request, see {@link #getPathTemplate(Request, String)}.
+   * 
+   * @param request the request
+   * @param baseUrl the service end point, can be null
+   * @return the path template
+   */
+  public static String getPathTemplate(Request request, HttpUrl baseUrl) {
+    String path = request.httpUrl().encodedPath();
+    if (baseUrl != null) {
+      final String basePath = baseUrl.encodedPath();
+      if (basePath.length() > 1 && path.startsWith(basePath))
+        path = path.substring(basePath.length());
+    }
+    return toPathTemplate(path);
+  }
+
+  /**
+   * Replaces the path segments that look like identifiers by <code>{id}</code>.
+   * 
+   * @param path the path
+   * @return the path template
+   */
+  public static String toPathTemplate(String path) {
+    final StringBuilder template = new StringBuilder(path.length());
+    for (final String segment : path.split("/")) {
+      if (segment.isEmpty())
+        continue;
+      template.append('/');
+      if (isIdentifier(segment))
+        template.append("{id}");
+      else
+        template.append(segment);
+    }
+    return template.length() == 0 ? "/" : template.toString();
+  }
+
+  /**
+   * Checks if a path segment looks like an identifier: it contains a digit and is not an API
+   * version like <code>v1</code>.
+   * 
+   * @param segment the path segment
+   * @return true if the segment looks like an identifier
+   */
+  private static boolean isIdentifier(String segment) {
+    boolean digits = true;
+    boolean digit = false;
+    for (int i = 0; i < segment.length(); i++) {
+      final boolean isDigit = Character.isDigit(segment.charAt(i));
+      digit |= isDigit;
+      if (i > 0)
+        digits &= isDigit;
+    }
+    final boolean version = segment.length() > 1 && segment.charAt(0) == 'v' && digits;
+    return digit && !version;
+  }
+
+  /**
+   * Checks if a string is left unchanged by {@link URLEncoder}, so most names and values are not
+   * copied when they are encoded.
+   * 
+   * @param content the content
+   * @return true if no character needs to be encoded
+   */
+  private static boolean isUnreserved(String content) {
+    for (int i = 0; i < content.length(); i++) {
+      final char c = content.charAt(i);
+      if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+          || c == '-' || c == '_' || c == '.' || c == '*'))
+        return false;
+    }
+    return true;
+  }
+
   /**
    * Checks if is relative.
    * 
@@ -108,6 +201,23 @@ public class RequestUtil {
     return ret;
   }
 
+  /**
+   * Resolves a path and a query against an end point. The URL is built from the parsed end point,
+   * without going through a string that would have to be parsed again.
+   * 
+   * @param endPoint the end point
+   * @param encodedPath the path relative to the end point, starting with a slash
+   * @param encodedQuery the query, can be null
+   * @return the URL
+   */
+  public static HttpUrl resolve(HttpUrl endPoint, String encodedPath, String encodedQuery) {
+    final String basePath = endPoint.encodedPath();
+    final String path =
+        basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) + encodedPath
+            : basePath + encodedPath;
+    return endPoint.newBuilder().encodedPath(path).encodedQuery(encodedQuery).build();
+  }
+
   /**
    * Replace the url endpoint (schema + host + port) with the given end point.
    * 
@@ -116,6 +226,8 @@ public class RequestUtil {
    * @return the new url
    */
   public static String replaceEndPoint(String url, String endPoint) {
-    return endPoint + url.replaceFirst(DEFAULT_ENDPOINT, "");
+    if (url.startsWith(DEFAULT_ENDPOINT))
+      return endPoint + url.substring(DEFAULT_ENDPOINT.length());
+    return endPoint + url;
   }
 }
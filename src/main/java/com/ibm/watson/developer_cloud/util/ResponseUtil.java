@@ -15,14 +15,17 @@ package com.ibm.watson.developer_cloud.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
 
 /**
  * Utility class to manage service responses.
@@ -103,7 +106,8 @@ public class ResponseUtil {
   }
 
   /**
-   * Parses the response into the POJO representation
+   * Parses the response into the POJO representation. The body is parsed as it is read, without
+   * buffering it as a {@link String}.
    * 
    * @param <T> the generic type to use when parsing the response
    * @param response the HTTP response
@@ -111,9 +115,33 @@ public class ResponseUtil {
    * @return the POJO
    */
   public static <T extends GenericModel> T getObject(Response response, Class<T> type) {
-    final String jsonString = getString(response);
-    final T model = GsonSingleton.getGson().fromJson(jsonString, type);
-    return model;
+    return getObject(response, (Type) type);
+  }
+
+  /**
+   * Parses the response into the given type, e.g. a list of models. The body is parsed as it is
+   * read, without buffering it as a {@link String}.
+   * 
+   * @param <T> the generic type to use when parsing the response
+   * @param response the HTTP response
+   * @param type the type of the response
+   * @return the parsed response
+   */
+  public static <T> T getObject(Response response, Type type) {
+    final ResponseBody body = response.body();
+    try {
+      final JsonReader reader = new JsonReader(body.charStream());
+      return GsonSingleton.getGsonWithoutPrettyPrinting().<T>fromJson(reader, type);
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, ERROR_MESSAGE, e);
+      throw new RuntimeException(ERROR_MESSAGE, e);
+    } finally {
+      try {
+        body.close();
+      } catch (final IOException e) {
+        log.log(Level.WARNING, ERROR_MESSAGE, e);
+      }
+    }
   }
 
   /**
@@ -14,14 +14,17 @@
 package com.ibm.watson.developer_cloud.visual_insights.v1;
 
 import java.io.File;
+import java.util.concurrent.Future;
 
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.visual_insights.v1.model.Classifiers;
 import com.ibm.watson.developer_cloud.visual_insights.v1.model.Summary;
 import com.squareup.okhttp.MediaType;
 import com.squareup.okhttp.MultipartBuilder;
+import com.squareup.okhttp.Request;
 import com.squareup.okhttp.RequestBody;
 
 /**
@@ -112,6 +115,30 @@ public class VisualInsights extends WatsonService {
    * @return the {@link Summary} of the collection's visual attributes
    */
   public Summary getSummary(final File imagesFile) {
+    return executeRequest(buildSummaryRequest(imagesFile), Summary.class);
+  }
+
+  /**
+   * Upload a set of images as a ZIP file for visual insight extraction without blocking the calling
+   * thread.
+   * 
+   * @param imagesFile the images File
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the {@link Summary} of the collection's visual attributes
+   * @see #getSummary(File)
+   */
+  public Future<Summary> getSummaryAsync(final File imagesFile,
+      final ServiceCallback<Summary> callback) {
+    return executeRequestAsync(buildSummaryRequest(imagesFile), Summary.class, callback);
+  }
+
+  /**
+   * Builds the summary request.
+   * 
+   * @param imagesFile the images File
+   * @return the request
+   */
+  private Request buildSummaryRequest(final File imagesFile) {
     if (imagesFile == null || !imagesFile.exists())
       throw new IllegalArgumentException("imagesFile cannot be null or empty");
 
@@ -124,8 +151,7 @@ public class VisualInsights extends WatsonService {
 
     final RequestBuilder requestBuilder = RequestBuilder.post(SUMMARY_PATH).withBody(body);
 
-    return executeRequest(requestBuilder.build(), Summary.class);
-
+    return requestBuilder.build();
   }
 
 }
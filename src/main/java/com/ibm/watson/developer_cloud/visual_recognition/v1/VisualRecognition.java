@@ -14,19 +14,22 @@
 package com.ibm.watson.developer_cloud.visual_recognition.v1;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.util.concurrent.Future;
 
+import com.ibm.watson.developer_cloud.http.FileRequestBody;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.InputStreamRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.Validate;
 import com.ibm.watson.developer_cloud.visual_recognition.v1.model.LabelSet;
 import com.ibm.watson.developer_cloud.visual_recognition.v1.model.VisualRecognitionImages;
 import com.squareup.okhttp.MultipartBuilder;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.RequestBody;
 
 /**
  * The Visual Recognition service analyzes images, enabling you to understand their content without
@@ -88,30 +91,74 @@ public class VisualRecognition extends WatsonService {
    */
   public VisualRecognitionImages recognize(final File image, final LabelSet labelSet) {
     Validate.isTrue(image != null && image.exists(), "image cannot be null or not be found");
-    InputStream stream = null;
-    try {
-      stream = new FileInputStream(image);
-    } catch (FileNotFoundException e) {
-    }
-    return recognize(image.getName(), stream, labelSet);
+    return executeRequest(
+        buildRecognizeRequest(image.getName(),
+            FileRequestBody.create(HttpMediaType.BINARY_FILE, image), labelSet),
+        VisualRecognitionImages.class);
   }
 
   public VisualRecognitionImages recognize(final String imageName, final InputStream image,
       final LabelSet labelSet) {
+    return executeRequest(buildRecognizeRequest(imageName, image, labelSet),
+        VisualRecognitionImages.class);
+  }
+
+  /**
+   * Classifies the images against the label groups and labels without blocking the calling thread.
+   * 
+   * @param imageName the image name
+   * @param image the image input stream
+   * @param labelSet the labels to classify against
+   * @param callback the callback to notify when the call completes, can be null
+   * @return a {@link Future} with the visual recognition images
+   * @see #recognize(String, InputStream, LabelSet)
+   */
+  public Future<VisualRecognitionImages> recognizeAsync(final String imageName,
+      final InputStream image, final LabelSet labelSet,
+      final ServiceCallback<VisualRecognitionImages> callback) {
+    return executeRequestAsync(buildRecognizeRequest(imageName, image, labelSet),
+        VisualRecognitionImages.class, callback);
+  }
+
+  /**
+   * Builds the recognize request.
+   * 
+   * @param imageName the image name
+   * @param image the image input stream
+   * @param labelSet the labels to classify against
+   * @return the request
+   */
+  private Request buildRecognizeRequest(final String imageName, final InputStream image,
+      final LabelSet labelSet) {
     if (image == null)
       throw new IllegalArgumentException("image cannot be null");
+    return buildRecognizeRequest(imageName,
+        InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, image), labelSet);
+  }
 
+  /**
+   * Builds the recognize request.
+   * 
+   * @param imageName the image name
+   * @param image the image request body
+   * @param labelSet the labels to classify against
+   * @return the request
+   */
+  private Request buildRecognizeRequest(final String imageName, final RequestBody image,
+      final LabelSet labelSet) {
     final RequestBuilder requestBuilder = RequestBuilder.post("/v1/tag/recognize");
 
     final MultipartBuilder bodyBuilder = new MultipartBuilder().type(MultipartBuilder.FORM);
-    bodyBuilder.addFormDataPart(IMG_FILE, imageName,
-        InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, image));
+    bodyBuilder.addFormDataPart(IMG_FILE, imageName, image);
 
     if (labelSet != null)
-      bodyBuilder.addFormDataPart(LABELS_TO_CHECK, GsonSingleton.getGson().toJson(labelSet));
+      bodyBuilder.addFormDataPart(LABELS_TO_CHECK,
+          GsonSingleton.getGsonWithoutPrettyPrinting().toJson(labelSet));
 
     requestBuilder.withBody(bodyBuilder.build());
+    if (image instanceof InputStreamRequestBody)
+      requestBuilder.withOneShotBody();
 
-    return executeRequest(requestBuilder.build(), VisualRecognitionImages.class);
+    return requestBuilder.build();
   }
 }
@@ -14,18 +14,19 @@
 package com.ibm.watson.developer_cloud.visual_recognition.v2;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.ibm.watson.developer_cloud.http.FileRequestBody;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.InputStreamRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classification;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.Validate;
 import com.ibm.watson.developer_cloud.visual_recognition.v2.model.VisualClassification;
@@ -129,12 +130,10 @@ public class VisualRecognition extends WatsonService {
     Validate.isTrue(imagesFile != null && imagesFile.exists(),
         "image cannot be null or not be found");
 
-    InputStream stream = null;
-    try {
-      stream = new FileInputStream(imagesFile);
-    } catch (FileNotFoundException e) {
-    }
-    return classify(imagesFile.getName(), stream, classifiers);
+    return executeRequest(
+        buildClassifyRequest(imagesFile.getName(),
+            FileRequestBody.create(HttpMediaType.BINARY_FILE, imagesFile), classifiers),
+        VisualClassification.class);
   }
 
   /**
@@ -164,12 +163,56 @@ public class VisualRecognition extends WatsonService {
    */
   public VisualClassification classify(final String filename, final InputStream imagesInputStream,
       final VisualClassifier... classifiers) {
+    return executeRequest(buildClassifyRequest(filename, imagesInputStream, classifiers),
+        VisualClassification.class);
+  }
+
+  /**
+   * Classifies the image/s against the Classifiers without blocking the calling thread.
+   * 
+   * @param filename The file name
+   * @param imagesInputStream the image/s input stream to classify
+   * @param callback the callback to notify when the call completes, can be null
+   * @param classifiers the classifiers
+   * @return a {@link Future} with the {@link VisualClassification}
+   * @see #classify(String, InputStream, VisualClassifier...)
+   */
+  public Future<VisualClassification> classifyAsync(final String filename,
+      final InputStream imagesInputStream, final ServiceCallback<VisualClassification> callback,
+      final VisualClassifier... classifiers) {
+    return executeRequestAsync(buildClassifyRequest(filename, imagesInputStream, classifiers),
+        VisualClassification.class, callback);
+  }
+
+  /**
+   * Builds the classify request.
+   * 
+   * @param filename The file name
+   * @param imagesInputStream the image/s input stream to classify
+   * @param classifiers the classifiers
+   * @return the request
+   */
+  private Request buildClassifyRequest(final String filename, final InputStream imagesInputStream,
+      final VisualClassifier... classifiers) {
     Validate.notNull(imagesInputStream, "image cannot be null");
+    return buildClassifyRequest(filename,
+        InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, imagesInputStream), classifiers);
+  }
+
+  /**
+   * Builds the classify request.
+   * 
+   * @param filename The file name
+   * @param images the image/s request body
+   * @param classifiers the classifiers
+   * @return the request
+   */
+  private Request buildClassifyRequest(final String filename, final RequestBody images,
+      final VisualClassifier... classifiers) {
     Validate.notNull(filename, "filename cannot be null");
 
     MultipartBuilder bodyBuilder = new MultipartBuilder().type(MultipartBuilder.FORM);
-    bodyBuilder.addFormDataPart(IMAGES_FILE, filename,
-        InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, imagesInputStream));
+    bodyBuilder.addFormDataPart(IMAGES_FILE, filename, images);
 
     if (classifiers != null && classifiers.length > 0 && classifiers[0] != null) {
       JsonObject classifierIds = getClassifierIdsAsJson(classifiers);
@@ -179,8 +222,10 @@ public class VisualRecognition extends WatsonService {
     RequestBuilder requestBuilder =
         RequestBuilder.post(PATH_CLASSIFY).withQuery(VERSION, versionDate)
             .withBody(bodyBuilder.build());
+    if (images instanceof InputStreamRequestBody)
+      requestBuilder.withOneShotBody();
 
-    return executeRequest(requestBuilder.build(), VisualClassification.class);
+    return requestBuilder.build();
   }
 
   /**
@@ -265,7 +310,7 @@ public class VisualRecognition extends WatsonService {
         "classifierId cannot be null or empty");
 
     Request request =
-        RequestBuilder.delete(String.format(PATH_CLASSIFIER, classifierId))
+        RequestBuilder.delete(PATH_CLASSIFIER, classifierId)
             .withQuery(VERSION, versionDate).build();
     executeWithoutResponse(request);
   }
@@ -282,7 +327,7 @@ public class VisualRecognition extends WatsonService {
         "classifierId cannot be null or empty");
 
     Request request =
-        RequestBuilder.get(String.format(PATH_CLASSIFIER, classifierId))
+        RequestBuilder.get(PATH_CLASSIFIER, classifierId)
             .withQuery(VERSION, versionDate).build();
     return executeRequest(request, VisualClassifier.class);
   }
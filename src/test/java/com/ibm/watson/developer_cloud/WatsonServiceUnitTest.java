@@ -54,11 +54,18 @@ public abstract class WatsonServiceUnitTest extends WatsonServiceTest {
   }
 
   /**
-   * Stops the mock server
+   * Stops the mock server. MockServer releases its port asynchronously and every test binds the
+   * same port, so the next test could fail with "Address already in use": wait up to a second for
+   * the server to stop.
+   * 
+   * @throws InterruptedException if interrupted while waiting
    */
   @After
-  public void tearDown() {
+  public void tearDown() throws InterruptedException {
     mockServer.stop();
+    for (int i = 0; i < 50 && mockServer.isRunning(); i++) {
+      Thread.sleep(20);
+    }
   }
 
 }
@@ -0,0 +1,59 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.alchemy.v1.util.AlchemyEndPoints.AlchemyAPI;
+
+/**
+ * The Class AlchemyEndPointsTest.
+ */
+public class AlchemyEndPointsTest {
+
+  /**
+   * Test the paths of the input types of an operation.
+   */
+  @Test
+  public void testGetPath() {
+    assertEquals("/url/URLGetRankedNamedEntities",
+        AlchemyEndPoints.getPath(AlchemyAPI.entities, "url"));
+    assertEquals("/text/TextGetTextSentiment",
+        AlchemyEndPoints.getPath(AlchemyAPI.sentiment, "text"));
+    assertEquals("/html/HTMLGetPubDate",
+        AlchemyEndPoints.getPath(AlchemyAPI.publication_date, "html"));
+    assertEquals("/image/ImageGetRankedImageFaceTags",
+        AlchemyEndPoints.getPath(AlchemyAPI.image_recognition, "image"));
+  }
+
+  /**
+   * Test that every operation has a path.
+   */
+  @Test
+  public void testGetPathOfEveryOperation() {
+    for (final AlchemyAPI operation : AlchemyAPI.values()) {
+      AlchemyEndPoints.getPath(operation, "url");
+    }
+  }
+
+  /**
+   * Test an input type not accepted by an operation.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetPathWithUnknownInputType() {
+    AlchemyEndPoints.getPath(AlchemyAPI.authors, "text");
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Concept;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+/**
+ * The Class ConceptTypeAdapterTest.
+ */
+public class ConceptTypeAdapterTest {
+
+  private final Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+
+  /**
+   * Test read, including relevance sent as a string and unknown fields.
+   */
+  @Test
+  public void testRead() {
+    final Concept concept =
+        gson.fromJson("{\"text\":\"IBM\",\"relevance\":\"0.95\",\"dbpedia\":null,"
+            + "\"unknown\":{\"a\":1},\"website\":\"http://www.ibm.com\"}", Concept.class);
+
+    assertEquals("IBM", concept.getText());
+    assertEquals(0.95, concept.getRelevance(), 0);
+    assertEquals("http://www.ibm.com", concept.getWebsite());
+    assertNull(concept.getDbpedia());
+  }
+
+  /**
+   * Test write and read back.
+   */
+  @Test
+  public void testWrite() {
+    final Concept concept = new Concept();
+    concept.setText("IBM");
+    concept.setRelevance(0.5);
+
+    final String json = gson.toJson(concept);
+    assertEquals("{\"relevance\":0.5,\"text\":\"IBM\"}", json);
+    assertEquals(concept, gson.fromJson(json, Concept.class));
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.DisambiguatedLinks;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Entity;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Quotation;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Sentiment;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Sentiment.SentimentType;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+/**
+ * The Class EntityTypeAdapterTest.
+ */
+public class EntityTypeAdapterTest {
+
+  private final Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+
+  /**
+   * Test read, including the nested models, numbers sent as strings and unknown fields.
+   */
+  @Test
+  public void testRead() {
+    final Entity entity =
+        gson.fromJson("{\"type\":\"Company\",\"relevance\":\"0.9\",\"count\":\"3\","
+            + "\"text\":\"IBM\","
+            + "\"sentiment\":{\"type\":\"positive\",\"score\":\"0.4\",\"mixed\":\"1\"},"
+            + "\"knowledgeGraph\":{\"typeHierarchy\":\"/companies/IBM\"},"
+            + "\"disambiguated\":{\"name\":\"IBM\",\"subType\":[\"Brand\",\"Company\"]},"
+            + "\"quotations\":[{\"quotation\":\"Think\"}],\"unknown\":[1,2]}", Entity.class);
+
+    assertEquals("Company", entity.getType());
+    assertEquals(0.9, entity.getRelevance(), 0);
+    assertEquals(Integer.valueOf(3), entity.getCount());
+    assertEquals(SentimentType.POSITIVE, entity.getSentiment().getType());
+    assertEquals(0.4, entity.getSentiment().getScore(), 0);
+    assertEquals("1", entity.getSentiment().getMixed());
+    assertEquals("/companies/IBM", entity.getKnowledgeGraph().getTypeHierarchy());
+    assertEquals(Arrays.asList("Brand", "Company"), entity.getDisambiguated().getSubType());
+    assertEquals("Think", entity.getQuotations().get(0).getQuotation());
+    assertNull(gson.fromJson("{}", Entity.class).getCount());
+  }
+
+  /**
+   * Test write and read back.
+   */
+  @Test
+  public void testWrite() {
+    final Sentiment sentiment = new Sentiment();
+    sentiment.setType(SentimentType.NEGATIVE);
+    final DisambiguatedLinks links = new DisambiguatedLinks();
+    links.setName("IBM");
+    final Quotation quotation = new Quotation();
+    quotation.setQuotation("Think");
+    final Entity entity = new Entity();
+    entity.setText("IBM");
+    entity.setSentiment(sentiment);
+    entity.setDisambiguated(links);
+    entity.setQuotations(Arrays.asList(quotation));
+
+    final String json = gson.toJson(entity);
+    assertEquals("{\"disambiguated\":{\"name\":\"IBM\"},\"quotations\":[{\"quotation\":\"Think\"}],"
+        + "\"sentiment\":{\"type\":\"negative\"},\"text\":\"IBM\"}", json);
+    assertEquals(entity, gson.fromJson(json, Entity.class));
+  }
+}
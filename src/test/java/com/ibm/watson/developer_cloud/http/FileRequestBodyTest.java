@@ -0,0 +1,92 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import okio.Buffer;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.squareup.okhttp.RequestBody;
+
+/**
+ * The Class FileRequestBodyTest.
+ */
+public class FileRequestBodyTest {
+
+  /** The temporary folder. */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File file;
+
+  /**
+   * Creates the file to send.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Before
+  public void setUp() throws IOException {
+    file = folder.newFile();
+    final FileOutputStream out = new FileOutputStream(file);
+    out.write("0123456789".getBytes());
+    out.close();
+  }
+
+  /**
+   * Writes a request body.
+   * 
+   * @param body the request body
+   * @return the bytes written
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private String write(RequestBody body) throws IOException {
+    final Buffer buffer = new Buffer();
+    body.writeTo(buffer);
+    return buffer.readUtf8();
+  }
+
+  /**
+   * Test that the whole file is sent, as many times as needed.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testFile() throws IOException {
+    final RequestBody body = FileRequestBody.create(HttpMediaType.BINARY_FILE, file);
+    assertEquals(10, body.contentLength());
+    assertEquals("0123456789", write(body));
+    assertEquals("0123456789", write(body));
+  }
+
+  /**
+   * Test that only a region of the file is sent.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testRegion() throws IOException {
+    final RequestBody body = FileRequestBody.create(HttpMediaType.BINARY_FILE, file, 3, 5);
+    assertEquals(5, body.contentLength());
+    assertEquals("34567", write(body));
+  }
+}
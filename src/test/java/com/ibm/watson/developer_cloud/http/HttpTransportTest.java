@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.language_translation.v2.LanguageTranslation;
+import com.ibm.watson.developer_cloud.natural_language_classifier.v1.NaturalLanguageClassifier;
+import com.squareup.okhttp.OkHttpClient;
+
+/**
+ * The Class HttpTransportTest.
+ */
+public class HttpTransportTest {
+
+  /**
+   * Test that the clients created by a transport share its connection pool and dispatcher.
+   */
+  @Test
+  public void testNewClientSharesPoolAndDispatcher() {
+    final HttpTransport transport =
+        new HttpTransport(new HttpTransportOptions().maxIdleConnections(10).maxRequestsPerHost(20));
+    final OkHttpClient client1 = transport.newClient();
+    final OkHttpClient client2 = transport.newClient();
+
+    assertNotSame(client1, client2);
+    assertSame(transport.getConnectionPool(), client1.getConnectionPool());
+    assertSame(transport.getConnectionPool(), client2.getConnectionPool());
+    assertSame(transport.getDispatcher(), client1.getDispatcher());
+    assertSame(client1.getSslSocketFactory(), client2.getSslSocketFactory());
+    assertEquals(20, transport.getDispatcher().getMaxRequestsPerHost());
+  }
+
+  /**
+   * Test that the dispatcher allows as many requests per host as in total by default.
+   */
+  @Test
+  public void testDefaultMaxRequestsPerHost() {
+    final HttpTransport transport = new HttpTransport();
+    assertEquals(64, transport.getDispatcher().getMaxRequests());
+    assertEquals(64, transport.getDispatcher().getMaxRequestsPerHost());
+  }
+
+  /**
+   * Test that the services use the default transport unless another one is set.
+   */
+  @Test
+  public void testServicesShareTransport() {
+    final LanguageTranslation translation = new LanguageTranslation();
+    final NaturalLanguageClassifier classifier = new NaturalLanguageClassifier();
+    assertSame(HttpTransport.getDefault(), translation.getHttpTransport());
+    assertSame(HttpTransport.getDefault(), classifier.getHttpTransport());
+
+    final HttpTransport transport = new HttpTransport();
+    classifier.setHttpTransport(transport);
+    assertSame(transport, classifier.getHttpTransport());
+  }
+
+  /**
+   * Test null options.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullOptions() {
+    new HttpTransport(null);
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import okio.Buffer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.squareup.okhttp.RequestBody;
+
+/**
+ * The Class InputStreamRequestBodyTest.
+ */
+public class InputStreamRequestBodyTest {
+  private static final byte[] CONTENT = "0123456789".getBytes();
+
+  /** The temporary folder. */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Writes a request body.
+   * 
+   * @param body the request body
+   * @return the bytes written
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private String write(RequestBody body) throws IOException {
+    final Buffer buffer = new Buffer();
+    body.writeTo(buffer);
+    return buffer.readUtf8();
+  }
+
+  /**
+   * Test the content length of the streams whose length is known.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testContentLength() throws IOException {
+    final File file = folder.newFile();
+    final FileOutputStream out = new FileOutputStream(file);
+    out.write(CONTENT);
+    out.close();
+
+    final FileInputStream fileStream = new FileInputStream(file);
+    fileStream.skip(4);
+    final RequestBody fileBody =
+        InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, fileStream);
+    assertEquals(6, fileBody.contentLength());
+    assertEquals("456789", write(fileBody));
+
+    final RequestBody bytesBody =
+        InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, new ByteArrayInputStream(CONTENT));
+    assertEquals(10, bytesBody.contentLength());
+    assertEquals("0123456789", write(bytesBody));
+  }
+
+  /**
+   * Test that streams of unknown length are chunked.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testChunked() throws IOException {
+    final RequestBody body =
+        InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, new BufferedInputStream(
+            new ByteArrayInputStream(CONTENT)));
+    assertEquals(-1, body.contentLength());
+    assertEquals("0123456789", write(body));
+  }
+
+  /**
+   * Test that only the given length is sent.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testExplicitLength() throws IOException {
+    final RequestBody body =
+        InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, new BufferedInputStream(
+            new ByteArrayInputStream(CONTENT)), 4);
+    assertEquals(4, body.contentLength());
+    assertEquals("0123", write(body));
+  }
+
+  /**
+   * Test that a stream shorter than its length fails.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test(expected = EOFException.class)
+  public void testShortStream() throws IOException {
+    write(InputStreamRequestBody.create(HttpMediaType.BINARY_FILE, new ByteArrayInputStream(
+        CONTENT), 20));
+  }
+}
@@ -16,18 +16,28 @@ package com.ibm.watson.developer_cloud.language_translation.v2;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 import io.netty.handler.codec.http.HttpHeaders;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockserver.model.Delay;
 import org.mockserver.model.Header;
 import org.mockserver.verify.VerificationTimes;
 
@@ -44,7 +54,10 @@ import com.ibm.watson.developer_cloud.language_translation.v2.model.Translation;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModelList;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationResult;
+import com.ibm.watson.developer_cloud.service.DeadlineExceededException;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Response;
 
 public class LanguageTranslationTest extends WatsonServiceUnitTest {
 
@@ -158,6 +171,163 @@ public class LanguageTranslationTest extends WatsonServiceUnitTest {
         .toJson(modelList));
   }
 
+  /**
+   * Test that concurrent identical requests share a single call when request coalescing is
+   * enabled.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testGetModelsCoalesced() throws Exception {
+    mockServer.when(request().withPath(GET_MODELS_PATH)).respond(
+        response()
+            .withHeaders(
+                new Header(HttpHeaders.Names.CONTENT_TYPE, HttpMediaType.APPLICATION_JSON))
+            .withBody(GsonSingleton.getGson().toJson(models))
+            .withDelay(new Delay(TimeUnit.MILLISECONDS, 500)));
+    service.setRequestCoalescing(true);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final List<Future<List<TranslationModel>>> results =
+        new ArrayList<Future<List<TranslationModel>>>();
+    for (int i = 0; i < 4; i++) {
+      results.add(executor.submit(new Callable<List<TranslationModel>>() {
+        @Override
+        public List<TranslationModel> call() {
+          return service.getModels();
+        }
+      }));
+    }
+    for (final Future<List<TranslationModel>> result : results) {
+      assertEquals(models.getModels(), result.get(10, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+
+    mockServer.verify(request().withPath(GET_MODELS_PATH), VerificationTimes.exactly(1));
+  }
+
+  /**
+   * Test that a coalesced request is sent on its own when the identical request in flight reached
+   * its deadline.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testGetModelsCoalescedLeaderDeadline() throws Exception {
+    mockServer.when(request().withPath(GET_MODELS_PATH)).respond(
+        response()
+            .withHeaders(
+                new Header(HttpHeaders.Names.CONTENT_TYPE, HttpMediaType.APPLICATION_JSON))
+            .withBody(GsonSingleton.getGson().toJson(models))
+            .withDelay(new Delay(TimeUnit.MILLISECONDS, 500)));
+    service.setRequestCoalescing(true);
+    service.setDeadline(200);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final Future<List<TranslationModel>> leader =
+        executor.submit(new Callable<List<TranslationModel>>() {
+          @Override
+          public List<TranslationModel> call() {
+            return service.getModels();
+          }
+        });
+    Thread.sleep(50);
+    service.setDeadline(0);
+    assertEquals(models.getModels(), service.getModels());
+    executor.shutdown();
+
+    try {
+      leader.get(10, TimeUnit.SECONDS);
+      fail("DeadlineExceededException expected");
+    } catch (final ExecutionException e) {
+      assertTrue(e.getCause().getCause() instanceof DeadlineExceededException);
+    }
+  }
+
+  /**
+   * Test that a coalesced request stops waiting for the identical request in flight when it
+   * reaches its own deadline.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testGetModelsCoalescedFollowerDeadline() throws Exception {
+    mockServer.when(request().withPath(GET_MODELS_PATH)).respond(
+        response()
+            .withHeaders(
+                new Header(HttpHeaders.Names.CONTENT_TYPE, HttpMediaType.APPLICATION_JSON))
+            .withBody(GsonSingleton.getGson().toJson(models))
+            .withDelay(new Delay(TimeUnit.MILLISECONDS, 1500)));
+    service.setRequestCoalescing(true);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final Future<List<TranslationModel>> leader =
+        executor.submit(new Callable<List<TranslationModel>>() {
+          @Override
+          public List<TranslationModel> call() {
+            return service.getModels();
+          }
+        });
+    Thread.sleep(50);
+    service.setDeadline(200);
+    final long start = System.nanoTime();
+    try {
+      service.getModels();
+      fail("DeadlineExceededException expected");
+    } catch (final RuntimeException e) {
+      assertTrue(e.getCause() instanceof DeadlineExceededException);
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+    assertEquals(models.getModels(), leader.get(10, TimeUnit.SECONDS));
+    executor.shutdown();
+  }
+
+  /**
+   * Test that concurrent requests are not coalesced when they come from different services or
+   * negotiate a different language.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testGetModelsNotCoalesced() throws Exception {
+    mockServer.when(request().withPath(GET_MODELS_PATH)).respond(
+        response()
+            .withHeaders(
+                new Header(HttpHeaders.Names.CONTENT_TYPE, HttpMediaType.APPLICATION_JSON))
+            .withBody(GsonSingleton.getGson().toJson(models))
+            .withDelay(new Delay(TimeUnit.MILLISECONDS, 500)));
+    service.setRequestCoalescing(true);
+    service.addInterceptor(new Interceptor() {
+      @Override
+      public Response intercept(Chain chain) throws IOException {
+        return chain.proceed(chain.request().newBuilder()
+            .header(HttpHeaders.Names.ACCEPT_LANGUAGE, Thread.currentThread().getName()).build());
+      }
+    });
+    final LanguageTranslation other = new LanguageTranslation();
+    other.setApiKey("");
+    other.setEndPoint(MOCK_SERVER_URL);
+    other.setRequestCoalescing(true);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    final List<Future<List<TranslationModel>>> results =
+        new ArrayList<Future<List<TranslationModel>>>();
+    for (final LanguageTranslation client : new LanguageTranslation[] {service, service, other}) {
+      results.add(executor.submit(new Callable<List<TranslationModel>>() {
+        @Override
+        public List<TranslationModel> call() {
+          return client.getModels();
+        }
+      }));
+    }
+    for (final Future<List<TranslationModel>> result : results) {
+      assertEquals(models.getModels(), result.get(10, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+
+    mockServer.verify(request().withPath(GET_MODELS_PATH), VerificationTimes.exactly(3));
+  }
+
   /**
    * Test get model with null.
    */
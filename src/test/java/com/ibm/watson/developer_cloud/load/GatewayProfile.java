@@ -0,0 +1,149 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.load;
+
+/**
+ * Behavior of a {@link MockGateway} path: how long it takes to answer, how often it fails and what
+ * it returns. All the durations are in milliseconds.
+ */
+public class GatewayProfile {
+
+  private String body = "{}";
+  private double errorRate;
+  private int errorStatus = 503;
+  private long latency;
+  private long latencyJitter;
+  private int payloadSize;
+
+  /**
+   * Sets the JSON returned by successful requests.
+   * 
+   * @param body the body
+   * @return the gateway profile
+   */
+  public GatewayProfile body(String body) {
+    this.body = body;
+    return this;
+  }
+
+  /**
+   * Sets the fraction of requests, between 0 and 1, that fail with {@link #errorStatus(int)}.
+   * 
+   * @param errorRate the error rate
+   * @return the gateway profile
+   */
+  public GatewayProfile errorRate(double errorRate) {
+    this.errorRate = errorRate;
+    return this;
+  }
+
+  /**
+   * Sets the status code of the failed requests. Default is 503.
+   * 
+   * @param errorStatus the error status
+   * @return the gateway profile
+   */
+  public GatewayProfile errorStatus(int errorStatus) {
+    this.errorStatus = errorStatus;
+    return this;
+  }
+
+  /**
+   * Gets the body.
+   * 
+   * @return the body
+   */
+  public String getBody() {
+    return body;
+  }
+
+  /**
+   * Gets the error rate.
+   * 
+   * @return the error rate
+   */
+  public double getErrorRate() {
+    return errorRate;
+  }
+
+  /**
+   * Gets the error status.
+   * 
+   * @return the error status
+   */
+  public int getErrorStatus() {
+    return errorStatus;
+  }
+
+  /**
+   * Gets the latency.
+   * 
+   * @return the latency
+   */
+  public long getLatency() {
+    return latency;
+  }
+
+  /**
+   * Gets the latency jitter.
+   * 
+   * @return the latency jitter
+   */
+  public long getLatencyJitter() {
+    return latencyJitter;
+  }
+
+  /**
+   * Gets the payload size.
+   * 
+   * @return the payload size
+   */
+  public int getPayloadSize() {
+    return payloadSize;
+  }
+
+  /**
+   * Sets the time the gateway waits before answering.
+   * 
+   * @param latency the latency
+   * @return the gateway profile
+   */
+  public GatewayProfile latency(long latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  /**
+   * Sets the maximum random time added to the latency.
+   * 
+   * @param latencyJitter the latency jitter
+   * @return the gateway profile
+   */
+  public GatewayProfile latencyJitter(long latencyJitter) {
+    this.latencyJitter = latencyJitter;
+    return this;
+  }
+
+  /**
+   * Sets the minimum size in bytes of the successful responses. The body is padded with white
+   * spaces up to this size.
+   * 
+   * @param payloadSize the payload size
+   * @return the gateway profile
+   */
+  public GatewayProfile payloadSize(int payloadSize) {
+    this.payloadSize = payloadSize;
+    return this;
+  }
+}
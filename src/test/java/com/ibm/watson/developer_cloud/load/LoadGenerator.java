@@ -0,0 +1,167 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a service call at a target rate from a pool of threads. Calls are scheduled at fixed
+ * intervals and their latency is measured from the scheduled time, so a slow service is not hidden
+ * by the callers waiting for it.
+ */
+public class LoadGenerator {
+
+  /**
+   * Worker that executes the scheduled calls.
+   */
+  private class Worker extends Thread {
+    private long allocatedBytes;
+    private long count;
+    private long errors;
+    private long[] latencies = new long[1024];
+
+    private final long durationNanos;
+    private final long intervalNanos;
+    private final long start;
+    private final Runnable task;
+    private final AtomicLong tickets;
+
+    /**
+     * Instantiates a new worker.
+     * 
+     * @param task the task
+     * @param tickets the shared call counter
+     * @param start the start time in nanoseconds
+     * @param intervalNanos the interval between two calls
+     * @param durationNanos the duration of the run
+     */
+    Worker(Runnable task, AtomicLong tickets, long start, long intervalNanos, long durationNanos) {
+      this.task = task;
+      this.tickets = tickets;
+      this.start = start;
+      this.intervalNanos = intervalNanos;
+      this.durationNanos = durationNanos;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Thread#run()
+     */
+    @Override
+    public void run() {
+      final long allocatedBefore = getAllocatedBytes();
+      while (true) {
+        final long scheduled = tickets.getAndIncrement() * intervalNanos;
+        if (scheduled >= durationNanos)
+          break;
+
+        final long wait = start + scheduled - System.nanoTime();
+        if (wait > 0) {
+          try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+          } catch (final InterruptedException e) {
+            break;
+          }
+        }
+
+        try {
+          task.run();
+        } catch (final RuntimeException e) {
+          errors++;
+        }
+        if (count == latencies.length)
+          latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        latencies[(int) count++] = System.nanoTime() - start - scheduled;
+      }
+      allocatedBytes = getAllocatedBytes() - allocatedBefore;
+    }
+  }
+
+  private final int threads;
+
+  /**
+   * Instantiates a new load generator.
+   * 
+   * @param threads the number of calling threads
+   */
+  public LoadGenerator(int threads) {
+    this.threads = threads;
+  }
+
+  /**
+   * Gets the bytes allocated by the current thread, if the JVM supports it.
+   * 
+   * @return the allocated bytes or 0
+   */
+  private static long getAllocatedBytes() {
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread
+          .currentThread().getId());
+    }
+    return 0;
+  }
+
+  /**
+   * Runs the task at the target rate.
+   * 
+   * @param task the service call, failures are reported with an exception
+   * @param requestsPerSecond the target requests per second
+   * @param duration the duration in milliseconds
+   * @return the load report
+   * @throws InterruptedException if interrupted while waiting for the workers
+   */
+  public LoadReport run(Runnable task, double requestsPerSecond, long duration)
+      throws InterruptedException {
+    final long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+    final long durationNanos = TimeUnit.MILLISECONDS.toNanos(duration);
+    final AtomicLong tickets = new AtomicLong();
+    final long start = System.nanoTime();
+
+    final List<Worker> workers = new ArrayList<Worker>();
+    for (int i = 0; i < threads; i++) {
+      final Worker worker = new Worker(task, tickets, start, intervalNanos, durationNanos);
+      worker.start();
+      workers.add(worker);
+    }
+
+    long count = 0;
+    long errors = 0;
+    long allocatedBytes = 0;
+    for (final Worker worker : workers) {
+      worker.join();
+      count += worker.count;
+      errors += worker.errors;
+      allocatedBytes += worker.allocatedBytes;
+    }
+    final long elapsed = System.nanoTime() - start;
+
+    final long[] latencies = new long[(int) count];
+    int offset = 0;
+    for (final Worker worker : workers) {
+      System.arraycopy(worker.latencies, 0, latencies, offset, (int) worker.count);
+      offset += worker.count;
+    }
+    Arrays.sort(latencies);
+
+    return new LoadReport(latencies, errors, elapsed, allocatedBytes);
+  }
+}
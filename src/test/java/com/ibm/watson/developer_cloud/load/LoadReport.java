@@ -0,0 +1,130 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.load;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of a {@link LoadGenerator} run.
+ */
+public class LoadReport {
+
+  private final long allocatedBytes;
+  private int connections = -1;
+  private final long elapsedNanos;
+  private final long errors;
+  private final long[] latencies;
+
+  /**
+   * Instantiates a new load report.
+   * 
+   * @param latencies the sorted latencies in nanoseconds
+   * @param errors the number of failed calls
+   * @param elapsedNanos the duration of the run
+   * @param allocatedBytes the bytes allocated by the calling threads
+   */
+  LoadReport(long[] latencies, long errors, long elapsedNanos, long allocatedBytes) {
+    this.latencies = latencies;
+    this.errors = errors;
+    this.elapsedNanos = elapsedNanos;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  /**
+   * Gets the allocation rate of the calling threads.
+   * 
+   * @return the allocation rate in MB per second
+   */
+  public double getAllocationRate() {
+    return allocatedBytes / 1048576.0 / (elapsedNanos / 1e9);
+  }
+
+  /**
+   * Gets the connection reuse, the fraction of the requests that did not open a new connection.
+   * 
+   * @return the connection reuse, or -1 if the connections were not counted
+   */
+  public double getConnectionReuse() {
+    if (connections < 0 || latencies.length == 0)
+      return -1;
+    return 1 - (double) connections / latencies.length;
+  }
+
+  /**
+   * Gets the number of failed calls.
+   * 
+   * @return the errors
+   */
+  public long getErrors() {
+    return errors;
+  }
+
+  /**
+   * Gets a latency percentile.
+   * 
+   * @param percentile the percentile, between 0 and 100
+   * @return the latency in milliseconds
+   */
+  public double getLatency(double percentile) {
+    if (latencies.length == 0)
+      return 0;
+    final int index =
+        (int) Math.min(latencies.length - 1, Math.ceil(percentile / 100 * latencies.length) - 1);
+    return latencies[Math.max(0, index)] / 1e6;
+  }
+
+  /**
+   * Gets the number of calls.
+   * 
+   * @return the requests
+   */
+  public long getRequests() {
+    return latencies.length;
+  }
+
+  /**
+   * Gets the throughput.
+   * 
+   * @return the requests per second
+   */
+  public double getThroughput() {
+    return latencies.length / (elapsedNanos / 1e9);
+  }
+
+  /**
+   * Sets the number of connections opened during the run, as counted by the server.
+   * 
+   * @param connections the connections
+   * @return the load report
+   */
+  public LoadReport connections(int connections) {
+    this.connections = connections;
+    return this;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return String.format("requests=%d errors=%d duration=%dms throughput=%.1f req/s "
+        + "p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms allocation=%.1f MB/s "
+        + "connections=%d reuse=%.1f%%", getRequests(), errors,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getThroughput(), getLatency(50),
+        getLatency(90), getLatency(99), getLatency(100), getAllocationRate(), connections,
+        getConnectionReuse() * 100);
+  }
+}
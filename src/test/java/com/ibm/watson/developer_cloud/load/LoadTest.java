@@ -0,0 +1,236 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.load;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import okio.BufferedSource;
+import okio.Okio;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.ibm.watson.developer_cloud.http.HttpTransport;
+import com.ibm.watson.developer_cloud.http.HttpTransportOptions;
+import com.ibm.watson.developer_cloud.language_translation.v2.LanguageTranslation;
+import com.ibm.watson.developer_cloud.natural_language_classifier.v1.NaturalLanguageClassifier;
+import com.ibm.watson.developer_cloud.personality_insights.v2.PersonalityInsights;
+import com.ibm.watson.developer_cloud.service.CompressionOptions;
+import com.ibm.watson.developer_cloud.service.WatsonService;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.SpeechToText;
+
+/**
+ * Load test of the services against a {@link MockGateway}, without credentials or network access.
+ * It is excluded from the default test run; enable it with the <code>load-tests</code> Maven
+ * profile or the <code>loadTests</code> Gradle property, or select it explicitly. The runs are
+ * short by default; use the <code>load.duration</code> (milliseconds), <code>load.rps</code> and
+ * <code>load.threads</code> system properties for longer runs, e.g.
+ * 
+ * <pre>
+ * mvn test -Pload-tests
+ * mvn test -Dtest=LoadTest -Dload.duration=60000 -Dload.rps=500
+ * gradle test -PloadTests
+ * </pre>
+ */
+public class LoadTest {
+
+  private static final Logger log = Logger.getLogger(LoadTest.class.getName());
+
+  private static final long DURATION = Long.getLong("load.duration", 1000);
+  private static final long RPS = Long.getLong("load.rps", 100);
+  private static final int THREADS = Integer.getInteger("load.threads", 8);
+  private static final int WARM_UP = 20;
+
+  private static final String CLASSIFY_PATH = "/v1/classifiers/[^/]+/classify";
+  private static final String PROFILE_PATH = "/v2/profile";
+  private static final String RECOGNIZE_PATH = "/v1/recognize";
+  private static final String TRANSLATE_PATH = "/v2/translate";
+
+  private MockGateway gateway;
+  private HttpTransport transport;
+
+  /**
+   * Configures a service to call the gateway through the load test transport.
+   * 
+   * @param <T> the service type
+   * @param service the service
+   * @return the service
+   */
+  private <T extends WatsonService> T configure(T service) {
+    service.setEndPoint(gateway.getUrl());
+    service.setUsernameAndPassword("username", "password");
+    service.setHttpTransport(transport);
+    return service;
+  }
+
+  /**
+   * Warms up and runs a task, logs and returns the report.
+   * 
+   * @param name the name of the run
+   * @param task the task
+   * @return the report
+   * @throws InterruptedException the interrupted exception
+   */
+  private LoadReport run(String name, Runnable task) throws InterruptedException {
+    for (int i = 0; i < WARM_UP; i++) {
+      try {
+        task.run();
+      } catch (final RuntimeException e) {
+        // ignore the simulated errors
+      }
+    }
+
+    gateway.reset();
+    final LoadReport report =
+        new LoadGenerator(THREADS).run(task, RPS, DURATION).connections(gateway.getConnections());
+    log.info(name + ": " + report);
+    return report;
+  }
+
+  /**
+   * Starts the gateway.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Before
+  public void setUp() throws IOException {
+    gateway = new MockGateway();
+    gateway.profile(TRANSLATE_PATH, new GatewayProfile().latency(5).latencyJitter(5)
+        .body("{\"translations\":[{\"translation\":\"Hola\"}],\"word_count\":1,"
+            + "\"character_count\":5}"));
+    gateway.profile(CLASSIFY_PATH, new GatewayProfile().latency(10).errorRate(0.1)
+        .body("{\"classifier_id\":\"47C164-nlc-243\",\"text\":\"is it hot?\","
+            + "\"top_class\":\"temperature\",\"classes\":[{\"class_name\":\"temperature\","
+            + "\"confidence\":0.99},{\"class_name\":\"conditions\",\"confidence\":0.01}]}"));
+    gateway.profile(PROFILE_PATH, new GatewayProfile().latency(5).body("{\"id\":\"*UNKNOWN*\"}"));
+    gateway.profile(RECOGNIZE_PATH, new GatewayProfile().latency(20).payloadSize(64 * 1024)
+        .body("{\"results\":[{\"alternatives\":[{\"transcript\":\"thunderstorms could produce "
+            + "large hail\",\"confidence\":0.9}],\"final\":true}],\"result_index\":0}"));
+    gateway.start();
+
+    transport = new HttpTransport(new HttpTransportOptions().maxIdleConnections(THREADS));
+  }
+
+  /**
+   * Stops the gateway.
+   */
+  @After
+  public void tearDown() {
+    gateway.stop();
+  }
+
+  /**
+   * Load test of the classifier, with 10% of the requests failing.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testClassify() throws InterruptedException {
+    final NaturalLanguageClassifier service = configure(new NaturalLanguageClassifier());
+    final LoadReport report = run("classify", new Runnable() {
+      @Override
+      public void run() {
+        service.classify("47C164-nlc-243", "is it hot?");
+      }
+    });
+
+    assertTrue(report.getRequests() > 0);
+    assertTrue(report.getErrors() > 0);
+    assertTrue(report.getErrors() < report.getRequests() / 2);
+    assertTrue(report.getLatency(50) >= 10);
+  }
+
+  /**
+   * Load test of the personality insights with a large text, compressed and uncompressed, checking
+   * the bytes sent to the gateway.
+   * 
+   * @throws InterruptedException the interrupted exception
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testProfileCompressed() throws InterruptedException, IOException {
+    final BufferedSource source =
+        Okio.buffer(Okio.source(new File("src/test/resources/personality_insights/en.txt")));
+    final String text = source.readUtf8();
+    source.close();
+    final PersonalityInsights service = configure(new PersonalityInsights());
+    final Runnable task = new Runnable() {
+      @Override
+      public void run() {
+        service.getProfile(text);
+      }
+    };
+
+    final LoadReport uncompressed = run("profile", task);
+    final long uncompressedBytes = gateway.getBytesReceived() / uncompressed.getRequests();
+    service.setCompressionOptions(new CompressionOptions().path(PROFILE_PATH));
+    final LoadReport compressed = run("profile compressed", task);
+    final long compressedBytes = gateway.getBytesReceived() / compressed.getRequests();
+    log.info("profile bytes sent per request: " + uncompressedBytes + " uncompressed, "
+        + compressedBytes + " compressed");
+
+    assertTrue(compressed.getErrors() == 0);
+    assertEquals(text.getBytes("UTF-8").length, uncompressedBytes);
+    assertEquals(gateway.getContentBytesReceived(), uncompressedBytes * compressed.getRequests());
+    assertTrue(compressedBytes < uncompressedBytes / 2);
+  }
+
+  /**
+   * Load test of speech recognition, uploading an audio file and downloading a large response.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testRecognize() throws InterruptedException {
+    final SpeechToText service = configure(new SpeechToText());
+    final File audio = new File("src/test/resources/speech_to_text/sample1.wav");
+    final LoadReport report = run("recognize", new Runnable() {
+      @Override
+      public void run() {
+        service.recognize(audio, HttpMediaType.AUDIO_WAV);
+      }
+    });
+
+    assertTrue(report.getRequests() > 0);
+    assertTrue(report.getErrors() == 0);
+    assertTrue(report.getLatency(50) >= 20);
+  }
+
+  /**
+   * Load test of the translation, checking that the connections are reused.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testTranslate() throws InterruptedException {
+    final LanguageTranslation service = configure(new LanguageTranslation());
+    final LoadReport report = run("translate", new Runnable() {
+      @Override
+      public void run() {
+        service.translate("Hello", "en-es");
+      }
+    });
+
+    assertTrue(report.getRequests() > 0);
+    assertTrue(report.getErrors() == 0);
+    assertTrue(report.getConnectionReuse() > 0.5);
+  }
+}
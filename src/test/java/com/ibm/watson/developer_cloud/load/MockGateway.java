@@ -0,0 +1,271 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.load;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the Watson gateway used by the load tests. Each path is answered according to
+ * its {@link GatewayProfile}. The gateway counts the requests and the client connections so that
+ * connection reuse can be reported, and decompresses gzip encoded request bodies to count both the
+ * bytes sent on the wire and the content.
+ */
+public class MockGateway {
+
+  private static final byte[] NOT_FOUND = "{\"code\":404,\"error\":\"Not Found\"}".getBytes();
+
+  private final AtomicLong bytesReceived = new AtomicLong();
+  private final Set<InetSocketAddress> connections = Collections
+      .newSetFromMap(new ConcurrentHashMap<InetSocketAddress, Boolean>());
+  private final AtomicLong contentBytesReceived = new AtomicLong();
+  private ExecutorService executor;
+  private final Map<Pattern, GatewayProfile> profiles =
+      new ConcurrentHashMap<Pattern, GatewayProfile>();
+  private final Random random = new Random();
+  private final AtomicLong requests = new AtomicLong();
+  private HttpServer server;
+
+  /**
+   * Answers a request using the profile of its path.
+   * 
+   * @param exchange the HTTP exchange
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private void handle(HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    connections.add(exchange.getRemoteAddress());
+    final AtomicLong wireBytes = new AtomicLong();
+    final InputStream wire = new FilterInputStream(exchange.getRequestBody()) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0)
+          wireBytes.addAndGet(read);
+        return read;
+      }
+    };
+    final boolean gzip = "gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+    contentBytesReceived.addAndGet(drain(gzip ? new GZIPInputStream(wire) : wire));
+    bytesReceived.addAndGet(wireBytes.get());
+
+    final GatewayProfile profile = getProfile(exchange.getRequestURI().getPath());
+    try {
+      if (profile == null) {
+        respond(exchange, 404, NOT_FOUND);
+        return;
+      }
+
+      long latency = profile.getLatency();
+      final double dice;
+      synchronized (random) {
+        if (profile.getLatencyJitter() > 0)
+          latency += (long) (random.nextDouble() * profile.getLatencyJitter());
+        dice = random.nextDouble();
+      }
+      if (latency > 0)
+        Thread.sleep(latency);
+
+      if (dice < profile.getErrorRate()) {
+        final int status = profile.getErrorStatus();
+        respond(exchange, status,
+            ("{\"code\":" + status + ",\"error\":\"Simulated error\"}").getBytes());
+      } else {
+        respond(exchange, 200, getPayload(profile));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /**
+   * Reads and discards the request body.
+   * 
+   * @param is the request body
+   * @return the number of bytes read
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private long drain(InputStream is) throws IOException {
+    final byte[] buffer = new byte[8192];
+    long total = 0;
+    int read;
+    while ((read = is.read(buffer)) != -1) {
+      total += read;
+    }
+    is.close();
+    return total;
+  }
+
+  /**
+   * Gets the number of request body bytes received, as sent on the wire.
+   * 
+   * @return the bytes received
+   */
+  public long getBytesReceived() {
+    return bytesReceived.get();
+  }
+
+  /**
+   * Gets the number of distinct client connections.
+   * 
+   * @return the connections
+   */
+  public int getConnections() {
+    return connections.size();
+  }
+
+  /**
+   * Gets the number of request body bytes received, after decompressing the gzip encoded bodies.
+   * 
+   * @return the content bytes received
+   */
+  public long getContentBytesReceived() {
+    return contentBytesReceived.get();
+  }
+
+  /**
+   * Gets the successful response body of a profile, padded to its payload size.
+   * 
+   * @param profile the profile
+   * @return the payload
+   */
+  private byte[] getPayload(GatewayProfile profile) {
+    final byte[] body = profile.getBody().getBytes();
+    if (body.length >= profile.getPayloadSize())
+      return body;
+
+    final byte[] payload = Arrays.copyOf(body, profile.getPayloadSize());
+    Arrays.fill(payload, body.length, payload.length, (byte) ' ');
+    return payload;
+  }
+
+  /**
+   * Gets the profile matching a path.
+   * 
+   * @param path the request path
+   * @return the profile or null
+   */
+  private GatewayProfile getProfile(String path) {
+    for (final Map.Entry<Pattern, GatewayProfile> entry : profiles.entrySet()) {
+      if (entry.getKey().matcher(path).matches())
+        return entry.getValue();
+    }
+    return null;
+  }
+
+  /**
+   * Gets the number of requests received.
+   * 
+   * @return the requests
+   */
+  public long getRequests() {
+    return requests.get();
+  }
+
+  /**
+   * Gets the gateway URL, to be used as the service endpoint.
+   * 
+   * @return the URL
+   */
+  public String getUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  /**
+   * Sets the profile of the paths matching a regular expression, e.g.
+   * <code>/v1/classifiers/[^/]+/classify</code>.
+   * 
+   * @param pathRegex the path regular expression
+   * @param profile the profile
+   * @return the mock gateway
+   */
+  public MockGateway profile(String pathRegex, GatewayProfile profile) {
+    profiles.put(Pattern.compile(pathRegex), profile);
+    return this;
+  }
+
+  /**
+   * Resets the request, byte and connection counters.
+   */
+  public void reset() {
+    requests.set(0);
+    bytesReceived.set(0);
+    contentBytesReceived.set(0);
+    connections.clear();
+  }
+
+  /**
+   * Sends a JSON response.
+   * 
+   * @param exchange the HTTP exchange
+   * @param status the status code
+   * @param body the body
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, body.length);
+    final OutputStream os = exchange.getResponseBody();
+    os.write(body);
+    os.close();
+  }
+
+  /**
+   * Starts the gateway on a free port.
+   * 
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  public void start() throws IOException {
+    // Without it the response headers and body are delayed by Nagle's algorithm
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    executor = Executors.newCachedThreadPool();
+    server.setExecutor(executor);
+    server.createContext("/", new HttpHandler() {
+      @Override
+      public void handle(HttpExchange exchange) throws IOException {
+        MockGateway.this.handle(exchange);
+      }
+    });
+    server.start();
+  }
+
+  /**
+   * Stops the gateway.
+   */
+  public void stop() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
@@ -14,19 +14,33 @@
 package com.ibm.watson.developer_cloud.natural_language_classifier.v1;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
 import java.io.File;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Delay;
+import org.mockserver.verify.VerificationTimes;
 
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classification;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classifier;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classifiers;
+import com.ibm.watson.developer_cloud.service.CallMetrics;
+import com.ibm.watson.developer_cloud.service.HedgingOptions;
+import com.ibm.watson.developer_cloud.service.MetricsListener;
+import com.ibm.watson.developer_cloud.service.ServiceCallback;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 
 /**
@@ -84,6 +98,78 @@ public class NaturalLanguageClassifierTest extends WatsonServiceUnitTest {
     assertEquals(classification, result);
   }
 
+  /**
+   * Test that a slow classify call is hedged and the fastest response wins.
+   */
+  @Test
+  public void testClassifyHedged() {
+    final String path = String.format(CLASSIFY_PATH, classifierId);
+    mockServer.when(request().withMethod(POST).withPath(path), Times.once()).respond(
+        response().withHeader(APPLICATION_JSON)
+            .withBody(GsonSingleton.getGson().toJson(classification))
+            .withDelay(new Delay(TimeUnit.SECONDS, 2)));
+    mockServer.when(request().withMethod(POST).withPath(path)).respond(
+        response().withHeader(APPLICATION_JSON).withBody(
+            GsonSingleton.getGson().toJson(classification)));
+
+    service.setHedgingOptions(new HedgingOptions().path("/v1/classifiers/{id}/classify")
+        .initialDelay(100).budget(1));
+    final List<CallMetrics> calls = new CopyOnWriteArrayList<CallMetrics>();
+    service.setMetricsListener(new MetricsListener() {
+      @Override
+      public void onCall(CallMetrics metrics) {
+        calls.add(metrics);
+      }
+    });
+    final long start = System.nanoTime();
+    assertEquals(classification, service.classify(classifierId, classification.getText()));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    mockServer.verify(request().withMethod(POST).withPath(path), VerificationTimes.exactly(2));
+
+    // the loser is cancelled without being reported
+    assertEquals(1, calls.size());
+    assertEquals(200, calls.get(0).getStatusCode());
+  }
+
+  /**
+   * Test classify async.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testClassifyAsync() throws Exception {
+    JsonObject contentJson = new JsonObject();
+    contentJson.addProperty(TEXT, classification.getText());
+
+    String path = String.format(CLASSIFY_PATH, classifierId);
+
+    mockServer.when(request().withMethod(POST).withPath(path).withBody(contentJson.toString()))
+        .respond(
+            response().withHeader(APPLICATION_JSON).withBody(
+                GsonSingleton.getGson().toJson(classification)));
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicReference<Classification> callbackResult = new AtomicReference<Classification>();
+    Future<Classification> future =
+        service.classifyAsync(classifierId, classification.getText(),
+            new ServiceCallback<Classification>() {
+              @Override
+              public void onResponse(Classification response) {
+                callbackResult.set(response);
+                latch.countDown();
+              }
+
+              @Override
+              public void onFailure(Exception e) {
+                latch.countDown();
+              }
+            });
+
+    assertEquals(classification, future.get(10, TimeUnit.SECONDS));
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(classification, callbackResult.get());
+  }
+
   /**
    * Test get classifier.
    */
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.service.CircuitBreaker.State;
+
+/**
+ * The Class CircuitBreakerTest.
+ */
+public class CircuitBreakerTest {
+
+  private static final String END_POINT = "https://gateway.watsonplatform.net/service/api";
+
+  /**
+   * Test that the circuit opens after consecutive failures only.
+   */
+  @Test
+  public void testOpen() {
+    final CircuitBreaker breaker = new CircuitBreaker(2, 60000);
+    breaker.onFailure(END_POINT, breaker.tryAcquire(END_POINT));
+    breaker.onSuccess(END_POINT, breaker.tryAcquire(END_POINT));
+    breaker.onFailure(END_POINT, breaker.tryAcquire(END_POINT));
+    assertEquals(State.CLOSED, breaker.getState(END_POINT));
+
+    breaker.onFailure(END_POINT, breaker.tryAcquire(END_POINT));
+    assertEquals(State.OPEN, breaker.getState(END_POINT));
+    assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire(END_POINT));
+    assertTrue(breaker.tryAcquire("https://other") != CircuitBreaker.REJECTED);
+  }
+
+  /**
+   * Test that a single probe is let through when the circuit is half-open.
+   */
+  @Test
+  public void testHalfOpen() {
+    final CircuitBreaker breaker = new CircuitBreaker(1, 0);
+    breaker.onFailure(END_POINT, breaker.tryAcquire(END_POINT));
+
+    long probe = breaker.tryAcquire(END_POINT);
+    assertTrue(probe != CircuitBreaker.REJECTED);
+    assertEquals(State.HALF_OPEN, breaker.getState(END_POINT));
+    assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire(END_POINT));
+
+    breaker.onFailure(END_POINT, probe);
+    assertEquals(State.OPEN, breaker.getState(END_POINT));
+
+    probe = breaker.tryAcquire(END_POINT);
+    breaker.onSuccess(END_POINT, probe);
+    assertEquals(State.CLOSED, breaker.getState(END_POINT));
+    assertTrue(breaker.tryAcquire(END_POINT) != CircuitBreaker.REJECTED);
+  }
+
+  /**
+   * Test that a cancelled probe lets another probe through without changing the state.
+   */
+  @Test
+  public void testProbeCancelled() {
+    final CircuitBreaker breaker = new CircuitBreaker(1, 0);
+    breaker.onFailure(END_POINT, breaker.tryAcquire(END_POINT));
+
+    final long probe = breaker.tryAcquire(END_POINT);
+    breaker.onCancel(END_POINT, probe);
+    assertEquals(State.HALF_OPEN, breaker.getState(END_POINT));
+
+    final long next = breaker.tryAcquire(END_POINT);
+    assertTrue(next != CircuitBreaker.REJECTED);
+    breaker.onSuccess(END_POINT, probe);
+    assertEquals(State.HALF_OPEN, breaker.getState(END_POINT));
+    breaker.onSuccess(END_POINT, next);
+    assertEquals(State.CLOSED, breaker.getState(END_POINT));
+  }
+
+  /**
+   * Test that the outcomes of requests sent before the circuit opened do not change its state.
+   */
+  @Test
+  public void testLateOutcomesIgnored() {
+    final CircuitBreaker breaker = new CircuitBreaker(1, 60000);
+    final long late = breaker.tryAcquire(END_POINT);
+    breaker.onFailure(END_POINT, breaker.tryAcquire(END_POINT));
+    assertEquals(State.OPEN, breaker.getState(END_POINT));
+
+    breaker.onSuccess(END_POINT, late);
+    assertEquals(State.OPEN, breaker.getState(END_POINT));
+
+    final CircuitBreaker halfOpen = new CircuitBreaker(1, 0);
+    final long before = halfOpen.tryAcquire(END_POINT);
+    halfOpen.onFailure(END_POINT, halfOpen.tryAcquire(END_POINT));
+    final long probe = halfOpen.tryAcquire(END_POINT);
+
+    halfOpen.onSuccess(END_POINT, before);
+    halfOpen.onCancel(END_POINT, before);
+    assertEquals(State.HALF_OPEN, halfOpen.getState(END_POINT));
+    assertEquals(CircuitBreaker.REJECTED, halfOpen.tryAcquire(END_POINT));
+
+    halfOpen.onFailure(END_POINT, probe);
+    assertEquals(State.OPEN, halfOpen.getState(END_POINT));
+  }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.squareup.okhttp.MediaType;
+
+/**
+ * The Class CompressionOptionsTest.
+ */
+public class CompressionOptionsTest {
+  private static final String PROFILE_PATH = "/v2/profile";
+
+  /**
+   * Test that only text bodies over the threshold are compressed.
+   */
+  @Test
+  public void testIsCompressed() {
+    final CompressionOptions options = new CompressionOptions().threshold(1000);
+    final MediaType json = MediaType.parse(HttpMediaType.APPLICATION_JSON);
+    assertTrue(options.isCompressed(PROFILE_PATH, json, 1000));
+    assertTrue(options.isCompressed(PROFILE_PATH, MediaType.parse("text/plain"), 5000));
+    assertFalse(options.isCompressed(PROFILE_PATH, json, 999));
+    assertFalse(options.isCompressed(PROFILE_PATH, json, -1));
+    assertFalse(options.isCompressed(PROFILE_PATH, HttpMediaType.BINARY_FILE, 5000));
+    assertFalse(options.isCompressed(PROFILE_PATH, null, 5000));
+  }
+
+  /**
+   * Test that only the registered paths are compressed.
+   */
+  @Test
+  public void testPath() {
+    final CompressionOptions options = new CompressionOptions().path(PROFILE_PATH);
+    final MediaType text = MediaType.parse("text/plain");
+    assertTrue(options.isCompressed(PROFILE_PATH, text, 5000));
+    assertFalse(options.isCompressed("/v1/tone", text, 5000));
+  }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * The Class ConcurrencyLimiterTest.
+ */
+public class ConcurrencyLimiterTest {
+  private static final String END_POINT = "https://gateway.watsonplatform.net/service/api";
+
+  /**
+   * Test that calls over the limit are rejected.
+   * 
+   * @throws Exception the exception
+   */
+  @Test(expected = ConcurrencyLimitExceededException.class)
+  public void testReject() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 10, 0);
+    limiter.acquire(END_POINT);
+    limiter.acquire(END_POINT);
+    assertEquals(2, limiter.getInFlight(END_POINT));
+    limiter.acquire(END_POINT);
+  }
+
+  /**
+   * Test that a queued call gets the slot released by another call.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testWait() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 5000);
+    limiter.acquire(END_POINT);
+    new Thread() {
+      @Override
+      public void run() {
+        try {
+          Thread.sleep(50);
+        } catch (final InterruptedException e) {
+          // ignore
+        }
+        limiter.onIgnored(END_POINT);
+      }
+    }.start();
+    limiter.acquire(END_POINT);
+    assertEquals(1, limiter.getInFlight(END_POINT));
+  }
+
+  /**
+   * Test that the limit is cut when the service sheds load.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testDropped() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 100, 0);
+    limiter.acquire(END_POINT);
+    limiter.onDropped(END_POINT);
+    assertEquals(9, limiter.getLimit(END_POINT));
+    assertEquals(0, limiter.getInFlight(END_POINT));
+  }
+
+  /**
+   * Test that the limit grows while the latency is stable and shrinks when it increases.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testLatencyGradient() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 100, 0);
+    final long rtt = TimeUnit.MILLISECONDS.toNanos(100);
+
+    for (int i = 0; i < 20; i++) {
+      fill(limiter);
+      limiter.onSuccess(END_POINT, rtt);
+      release(limiter);
+    }
+    final int grown = limiter.getLimit(END_POINT);
+    assertTrue(grown > 10);
+
+    for (int i = 0; i < 20; i++) {
+      fill(limiter);
+      limiter.onSuccess(END_POINT, rtt * 4);
+      release(limiter);
+    }
+    assertTrue(limiter.getLimit(END_POINT) < grown);
+  }
+
+  /**
+   * Acquires all the slots of the limiter.
+   * 
+   * @param limiter the limiter
+   * @throws Exception the exception
+   */
+  private void fill(ConcurrencyLimiter limiter) throws Exception {
+    while (limiter.getInFlight(END_POINT) < limiter.getLimit(END_POINT)) {
+      limiter.acquire(END_POINT);
+    }
+  }
+
+  /**
+   * Releases all the slots of the limiter.
+   * 
+   * @param limiter the limiter
+   */
+  private void release(ConcurrencyLimiter limiter) {
+    while (limiter.getInFlight(END_POINT) > 0) {
+      limiter.onIgnored(END_POINT);
+    }
+  }
+}
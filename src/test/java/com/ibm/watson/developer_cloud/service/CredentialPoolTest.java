@@ -0,0 +1,202 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.model.Header;
+import org.mockserver.verify.VerificationTimes;
+
+import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
+import com.ibm.watson.developer_cloud.alchemy.v1.AlchemyLanguage;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Language;
+import com.ibm.watson.developer_cloud.http.HttpHeaders;
+import com.ibm.watson.developer_cloud.natural_language_classifier.v1.NaturalLanguageClassifier;
+import com.ibm.watson.developer_cloud.service.CredentialPool.Strategy;
+
+/**
+ * The Class CredentialPoolTest.
+ */
+public class CredentialPoolTest extends WatsonServiceUnitTest {
+  private static final String CLASSIFIERS_PATH = "/v1/classifiers";
+  private static final String LANGUAGE_PATH = "/text/TextGetLanguage";
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.ibm.watson.developer_cloud.WatsonServiceUnitTest#setUp()
+   */
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+  }
+
+  /**
+   * Selects a credential and completes the call.
+   * 
+   * @param pool the credential pool
+   * @return the API key
+   */
+  private String select(CredentialPool pool) {
+    final String apiKey = pool.select(Collections.<String>emptyList());
+    pool.onComplete(apiKey);
+    return apiKey;
+  }
+
+  /**
+   * Test that the credentials are used one after the other and benched credentials are skipped.
+   */
+  @Test
+  public void testRoundRobin() {
+    final CredentialPool pool = new CredentialPool("a", "b", "c");
+    assertEquals("a", select(pool));
+    assertEquals("b", select(pool));
+    pool.onThrottled("c", 60000);
+    assertFalse(pool.isAvailable("c"));
+    assertEquals("a", select(pool));
+    assertEquals("b", select(pool));
+
+    // every credential tried
+    assertNull(pool.select(Arrays.asList("a", "b", "c")));
+
+    // every credential benched, the first one back is used
+    pool.onThrottled("a", 120000);
+    pool.onQuotaExceeded("b");
+    assertEquals("c", select(pool));
+  }
+
+  /**
+   * Test the least loaded and quota aware strategies.
+   */
+  @Test
+  public void testStrategies() {
+    final CredentialPool leastLoaded =
+        new CredentialPool("a", "b").strategy(Strategy.LEAST_LOADED);
+    final List<String> excluded = new ArrayList<String>();
+    assertEquals("a", leastLoaded.select(excluded));
+    assertEquals("b", leastLoaded.select(excluded));
+    assertEquals("a", leastLoaded.select(excluded));
+    leastLoaded.onComplete("a");
+    leastLoaded.onComplete("a");
+    assertEquals(0, leastLoaded.getInFlight("a"));
+    assertEquals("a", leastLoaded.select(excluded));
+
+    final CredentialPool quotaAware =
+        new CredentialPool("a", "b").strategy(Strategy.QUOTA_AWARE).quota(10).quota("b", 12);
+    for (int i = 0; i < 4; i++) {
+      select(quotaAware);
+    }
+    assertEquals(9, quotaAware.getRemaining("a"));
+    assertEquals(9, quotaAware.getRemaining("b"));
+    assertEquals(Long.MAX_VALUE, new CredentialPool("a").getRemaining("a"));
+  }
+
+  /**
+   * Test that a throttled call is sent again with the next credential.
+   */
+  @Test
+  public void testThrottled() {
+    final String throttled = "Basic dGhyb3R0bGVkOnBhc3N3b3Jk";
+    final String available = "Basic YXZhaWxhYmxlOnBhc3N3b3Jk";
+    mockServer.when(
+        request().withPath(CLASSIFIERS_PATH).withHeader(
+            new Header(HttpHeaders.AUTHORIZATION, throttled))).respond(
+        response().withStatusCode(429).withHeader(new Header("Retry-After", "30")));
+    mockServer.when(
+        request().withPath(CLASSIFIERS_PATH).withHeader(
+            new Header(HttpHeaders.AUTHORIZATION, available))).respond(
+        response().withStatusCode(200).withHeader(APPLICATION_JSON)
+            .withBody("{\"classifiers\":[]}"));
+
+    final CredentialPool pool = new CredentialPool(throttled, available);
+    final NaturalLanguageClassifier service = new NaturalLanguageClassifier();
+    service.setEndPoint(MOCK_SERVER_URL);
+    service.setCredentialPool(pool);
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(service.getClassifiers().getClassifiers().isEmpty());
+    }
+    assertFalse(pool.isAvailable(throttled));
+    mockServer.verify(
+        request().withHeader(new Header(HttpHeaders.AUTHORIZATION, throttled)),
+        VerificationTimes.exactly(1));
+  }
+
+  /**
+   * Test that each credential of the pool has its own rate limit budget.
+   */
+  @Test
+  public void testRateLimitPerCredential() {
+    mockServer.when(request().withPath(CLASSIFIERS_PATH)).respond(
+        response().withStatusCode(200).withHeader(APPLICATION_JSON)
+            .withBody("{\"classifiers\":[]}"));
+
+    final NaturalLanguageClassifier service = new NaturalLanguageClassifier();
+    service.setEndPoint(MOCK_SERVER_URL);
+    service.setCredentialPool(new CredentialPool("Basic YTpw", "Basic Yjpw"));
+    service.setRateLimiter(new TokenBucketRateLimiter(1));
+
+    final long start = System.nanoTime();
+    for (int i = 0; i < 4; i++) {
+      assertTrue(service.getClassifiers().getClassifiers().isEmpty());
+    }
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 800);
+  }
+
+  /**
+   * Test that an Alchemy API key that exceeded its daily transaction limit is benched.
+   */
+  @Test
+  public void testDailyTransactionLimitExceeded() {
+    mockServer.when(
+        request().withPath(LANGUAGE_PATH).withQueryStringParameter("apikey", "exceeded")).respond(
+        response().withStatusCode(200).withHeader(new Header("X-AlchemyAPI-Status", "ERROR"))
+            .withHeader(new Header("X-AlchemyAPI-Error-Msg", "daily-transaction-limit-exceeded")));
+    mockServer.when(
+        request().withPath(LANGUAGE_PATH).withQueryStringParameter("apikey", "available"))
+        .respond(
+            response().withStatusCode(200).withHeader(APPLICATION_JSON)
+                .withBody("{\"status\":\"OK\",\"language\":\"english\"}"));
+
+    final CredentialPool pool = new CredentialPool("exceeded", "available");
+    final AlchemyLanguage service = new AlchemyLanguage();
+    service.setEndPoint(MOCK_SERVER_URL);
+    service.setCredentialPool(pool);
+
+    final Map<String, Object> params = new HashMap<String, Object>();
+    params.put(AlchemyLanguage.TEXT, "this is a test");
+    for (int i = 0; i < 2; i++) {
+      final Language language = service.getLanguage(new HashMap<String, Object>(params));
+      assertEquals("english", language.getLanguage());
+    }
+    assertFalse(pool.isAvailable("exceeded"));
+    assertTrue(pool.isAvailable("available"));
+  }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The Class DeadlineTimerTest.
+ */
+public class DeadlineTimerTest {
+
+  /**
+   * Test that the timers stopped before their deadline do not pile up in the scheduler queue.
+   */
+  @Test
+  public void testStopPurgesQueue() {
+    for (int i = 0; i < 10 * DeadlineTimer.PURGE_INTERVAL; i++) {
+      final DeadlineTimer timer =
+          new DeadlineTimer(60000, new CallContext(60000, true, "/"), null).start();
+      timer.stop();
+      assertFalse(timer.isExpired());
+    }
+    assertTrue(DeadlineTimer.scheduler.getQueue().size() < 2 * DeadlineTimer.PURGE_INTERVAL);
+  }
+}
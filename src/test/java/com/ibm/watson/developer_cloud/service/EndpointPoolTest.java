@@ -0,0 +1,161 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.load.GatewayProfile;
+import com.ibm.watson.developer_cloud.load.MockGateway;
+import com.ibm.watson.developer_cloud.natural_language_classifier.v1.NaturalLanguageClassifier;
+
+/**
+ * The Class EndpointPoolTest.
+ */
+public class EndpointPoolTest {
+  private static final String CLASSIFIERS_PATH = "/v1/classifiers";
+  private static final String CLASSIFIERS = "{\"classifiers\":[]}";
+
+  private MockGateway fast;
+  private NaturalLanguageClassifier service;
+  private MockGateway slow;
+
+  /**
+   * Starts two gateways serving the same service.
+   * 
+   * @throws Exception the exception
+   */
+  @Before
+  public void setUp() throws Exception {
+    fast = new MockGateway();
+    fast.start();
+    slow = new MockGateway();
+    slow.start();
+
+    service = new NaturalLanguageClassifier();
+    service.setApiKey("");
+    service.setEndPoint(slow.getUrl());
+    service.setEndPointPool(new EndpointPool(slow.getUrl(), fast.getUrl()));
+  }
+
+  /**
+   * Stops the gateways.
+   */
+  @After
+  public void tearDown() {
+    fast.stop();
+    slow.stop();
+  }
+
+  /**
+   * Test that most calls go to the fastest endpoint.
+   */
+  @Test
+  public void testLatencyRouting() {
+    fast.profile(CLASSIFIERS_PATH, new GatewayProfile().body(CLASSIFIERS));
+    slow.profile(CLASSIFIERS_PATH, new GatewayProfile().body(CLASSIFIERS).latency(50));
+
+    for (int i = 0; i < 100; i++) {
+      service.getClassifiers();
+    }
+    assertTrue(fast.getRequests() > slow.getRequests() * 2);
+  }
+
+  /**
+   * Test that calls fail over to the other endpoint and the failing endpoint is ejected.
+   */
+  @Test
+  public void testFailover() {
+    fast.profile(CLASSIFIERS_PATH, new GatewayProfile().body(CLASSIFIERS));
+    slow.profile(CLASSIFIERS_PATH, new GatewayProfile().errorRate(1).errorStatus(503));
+
+    for (int i = 0; i < 20; i++) {
+      service.getClassifiers();
+    }
+    assertEquals(20, fast.getRequests());
+    assertEquals(3, slow.getRequests());
+    assertFalse(service.getEndPointPool().isAvailable(slow.getUrl()));
+  }
+
+  /**
+   * Test that the concurrency limiter limits each endpoint the calls are routed to.
+   */
+  @Test
+  public void testConcurrencyLimitPerEndpoint() {
+    fast.profile(CLASSIFIERS_PATH, new GatewayProfile().body(CLASSIFIERS));
+    slow.profile(CLASSIFIERS_PATH, new GatewayProfile().errorRate(1).errorStatus(503));
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 100, 0);
+    service.setConcurrencyLimiter(limiter);
+
+    for (int i = 0; i < 20; i++) {
+      service.getClassifiers();
+    }
+    // the limit of the failing endpoint is only reduced by its own 503s: 10 * 0.9^3
+    assertEquals(3, slow.getRequests());
+    assertEquals(7, limiter.getLimit(slow.getUrl()));
+    assertEquals(0, limiter.getInFlight(slow.getUrl()));
+    assertEquals(0, limiter.getInFlight(fast.getUrl()));
+  }
+
+  /**
+   * Test that calls cancelled by their deadline are not failed over and do not eject the endpoints.
+   */
+  @Test
+  public void testDeadlineIsNotFailure() {
+    fast.profile(CLASSIFIERS_PATH, new GatewayProfile().body(CLASSIFIERS).latency(500));
+    slow.profile(CLASSIFIERS_PATH, new GatewayProfile().body(CLASSIFIERS).latency(500));
+    service.setDeadline(100);
+
+    for (int i = 0; i < 3; i++) {
+      try {
+        service.getClassifiers();
+        fail();
+      } catch (final RuntimeException e) {
+        assertTrue(e.getCause() instanceof DeadlineExceededException);
+      }
+    }
+    assertEquals(3, fast.getRequests() + slow.getRequests());
+    assertTrue(service.getEndPointPool().isAvailable(fast.getUrl()));
+    assertTrue(service.getEndPointPool().isAvailable(slow.getUrl()));
+    assertEquals(0, service.getEndPointPool().getErrorRate(fast.getUrl()), 0);
+    assertEquals(0, service.getEndPointPool().getErrorRate(slow.getUrl()), 0);
+  }
+
+  /**
+   * Test that every endpoint is tried once per call.
+   */
+  @Test
+  public void testSelect() {
+    final EndpointPool pool = new EndpointPool("http://a", "http://b").ejectionThreshold(1);
+    final String first = pool.select(Collections.<String>emptyList());
+    final String second = pool.select(Collections.singletonList(first));
+    assertFalse(first.equals(second));
+    assertNull(pool.select(Arrays.asList(first, second)));
+
+    pool.onFailure("http://a");
+    pool.onFailure("http://b");
+    assertFalse(pool.isAvailable("http://a"));
+    assertEquals("http://a", pool.select(Collections.<String>emptyList()));
+  }
+}
@@ -13,25 +13,56 @@
  */
 package com.ibm.watson.developer_cloud.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Delay;
 import org.mockserver.model.Header;
 import org.mockserver.model.HttpRequest;
+import org.mockserver.verify.VerificationTimes;
 
 import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
+import com.ibm.watson.developer_cloud.concept_insights.v2.ConceptInsights;
+import com.ibm.watson.developer_cloud.concept_insights.v2.model.Concept;
+import com.ibm.watson.developer_cloud.concept_insights.v2.model.Graph;
 import com.ibm.watson.developer_cloud.http.HttpHeaders;
+import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.personality_insights.v2.PersonalityInsights;
+import com.ibm.watson.developer_cloud.personality_insights.v2.model.Profile;
+import com.ibm.watson.developer_cloud.personality_insights.v2.model.ProfileOptions;
+import com.ibm.watson.developer_cloud.visual_recognition.v2.VisualRecognition;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
 
 /**
  * Generic Service Test.
  */
 public class GenericServiceTest extends WatsonServiceUnitTest {
+  private final static String CLASSIFY_PATH = "/v2/classify";
   private final static String GET_PROFILE_PATH = "/v2/profile";
   private final String sampleText = "this is a test";
   private PersonalityInsights service;
@@ -138,6 +169,24 @@ public class GenericServiceTest extends WatsonServiceUnitTest {
     service.getProfile(sampleText);
   }
 
+  /**
+   * Test service unavailable exception when calling the service asynchronously.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testServiceUnavailableExceptionAsync() throws Exception {
+    mockAPICallWithError(503, "Service Unavailable");
+    final Future<Profile> future =
+        service.getProfileAsync(new ProfileOptions().text(sampleText), null);
+    try {
+      future.get(10, TimeUnit.SECONDS);
+      fail("ExecutionException expected");
+    } catch (final ExecutionException e) {
+      assertTrue(e.getCause() instanceof ServiceUnavailableException);
+    }
+  }
+
   /**
    * Test too many requests exception.
    */
@@ -147,6 +196,496 @@ public class GenericServiceTest extends WatsonServiceUnitTest {
     service.getProfile(sampleText);
   }
 
+  /**
+   * Test that the concurrency limit is reduced when the service sheds load.
+   */
+  @Test
+  public void testConcurrencyLimiter() {
+    mockAPICallWithError(503, "Service Unavailable");
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 100, 0);
+    service.setConcurrencyLimiter(limiter);
+    try {
+      service.getProfile(sampleText);
+      fail("ServiceUnavailableException expected");
+    } catch (final ServiceUnavailableException e) {
+      assertEquals(9, limiter.getLimit(MOCK_SERVER_URL));
+      assertEquals(0, limiter.getInFlight(MOCK_SERVER_URL));
+    }
+  }
+
+  /**
+   * Test that a call is cancelled when its deadline expires.
+   */
+  @Test
+  public void testDeadline() {
+    mockServer.when(request().withMethod(POST).withPath(GET_PROFILE_PATH)).respond(
+        response().withStatusCode(200).withBody("{}").withDelay(new Delay(TimeUnit.SECONDS, 2)));
+    service.setDeadline(200);
+
+    final long start = System.nanoTime();
+    try {
+      service.getProfile(sampleText);
+      fail("DeadlineExceededException expected");
+    } catch (final RuntimeException e) {
+      assertTrue(e.getCause() instanceof DeadlineExceededException);
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+  }
+
+  /**
+   * Test that a call cancelled by its deadline is not retried.
+   */
+  @Test
+  public void testDeadlineNotRetried() {
+    mockServer.when(request().withMethod(POST).withPath(GET_PROFILE_PATH)).respond(
+        response().withStatusCode(200).withBody("{}").withDelay(new Delay(TimeUnit.SECONDS, 2)));
+    service.setDeadline(200);
+    service.setRetryOptions(new RetryOptions().maxAttempts(10).initialDelay(3000)
+        .maxDelay(3000).retryNonIdempotent(true));
+
+    final long start = System.nanoTime();
+    try {
+      service.getProfile(sampleText);
+      fail("DeadlineExceededException expected");
+    } catch (final RuntimeException e) {
+      assertTrue(e.getCause() instanceof DeadlineExceededException);
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+  }
+
+  /**
+   * Test that a call does not wait to retry past its deadline.
+   */
+  @Test
+  public void testDeadlineStopsRetryBackoff() {
+    mockServer.when(request().withMethod(POST).withPath(GET_PROFILE_PATH)).respond(
+        response().withStatusCode(503).withHeader(new Header("Retry-After", "3"))
+            .withBody("{\"code\":503, \"error\":\"Service Unavailable\"}"));
+    service.setDeadline(200);
+    service.setRetryOptions(new RetryOptions().maxAttempts(4).initialDelay(3000)
+        .maxDelay(3000).retryNonIdempotent(true));
+
+    final long start = System.nanoTime();
+    try {
+      service.getProfile(sampleText);
+      fail("ServiceUnavailableException expected");
+    } catch (final ServiceUnavailableException e) {
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+    mockServer.verify(request().withPath(GET_PROFILE_PATH), VerificationTimes.exactly(1));
+  }
+
+  /**
+   * Test that a call does not wait for the rate limiter past its deadline.
+   */
+  @Test
+  public void testDeadlineCapsRateLimiter() {
+    mockAPICall();
+    service.setRateLimiter(new TokenBucketRateLimiter(0.1));
+    service.getProfile(sampleText);
+    service.getProfile(sampleText);
+    service.setDeadline(200);
+
+    final long start = System.nanoTime();
+    try {
+      service.getProfile(sampleText);
+      fail("DeadlineExceededException expected");
+    } catch (final RuntimeException e) {
+      assertTrue(e.getCause() instanceof DeadlineExceededException);
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+  }
+
+  /**
+   * Test that the deadline of a path overrides the deadline of the service.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testDeadlinePerPathAsync() throws Exception {
+    mockServer.when(request().withMethod(POST).withPath(GET_PROFILE_PATH)).respond(
+        response().withStatusCode(200).withBody("{}").withDelay(new Delay(TimeUnit.SECONDS, 2)));
+    service.setDeadline(10000);
+    service.setDeadline(GET_PROFILE_PATH, 200);
+    assertEquals(200, service.getDeadline(GET_PROFILE_PATH));
+
+    final Future<Profile> future =
+        service.getProfileAsync(new ProfileOptions().text(sampleText), null);
+    try {
+      future.get(1, TimeUnit.SECONDS);
+      fail("ExecutionException expected");
+    } catch (final ExecutionException e) {
+      assertTrue(e.getCause() instanceof DeadlineExceededException);
+    }
+  }
+
+  /**
+   * Test that the deadline covers the response body, which arrives a byte every 100 milliseconds
+   * so that no read exceeds the read timeout.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testDeadlineSlowBody() throws Exception {
+    final ServerSocket server = new ServerSocket(0);
+    final Thread thread = new Thread() {
+      @Override
+      public void run() {
+        try {
+          final Socket socket = server.accept();
+          final OutputStream out = socket.getOutputStream();
+          out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\n"
+              + "Content-Length: 22\r\n\r\n{").getBytes("UTF-8"));
+          for (int i = 0; i < 20; i++) {
+            out.flush();
+            Thread.sleep(100);
+            out.write(' ');
+          }
+          out.write('}');
+          socket.close();
+        } catch (final Exception e) {
+          // the client closed the connection
+        }
+      }
+    };
+    thread.start();
+    service.setEndPoint("http://localhost:" + server.getLocalPort());
+    service.setDeadline(300);
+
+    final long start = System.nanoTime();
+    try {
+      service.getProfile(sampleText);
+      fail("DeadlineExceededException expected");
+    } catch (final RuntimeException e) {
+      assertTrue(e.getCause() instanceof DeadlineExceededException);
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    } finally {
+      server.close();
+      thread.join();
+    }
+  }
+
+  /**
+   * Test that the interceptors of a service can modify the request.
+   */
+  @Test
+  public void testInterceptor() {
+    mockAPICall();
+    service.addInterceptor(new Interceptor() {
+      @Override
+      public Response intercept(Chain chain) throws IOException {
+        return chain.proceed(chain.request().newBuilder().header("X-Trace-Id", "1234").build());
+      }
+    });
+    service.getProfile(sampleText);
+    mockServer.verify(new HttpRequest().withMethod(POST).withHeader(
+        new Header("X-Trace-Id", "1234")));
+  }
+
+  /**
+   * Test that a global interceptor can short-circuit the call.
+   */
+  @Test
+  public void testGlobalInterceptor() {
+    final Interceptor interceptor = new Interceptor() {
+      @Override
+      public Response intercept(Chain chain) throws IOException {
+        return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1)
+            .code(200).body(ResponseBody.create(HttpMediaType.JSON, "{\"id\":\"cached\"}"))
+            .build();
+      }
+    };
+    WatsonService.addGlobalInterceptor(interceptor);
+    try {
+      assertEquals("cached", service.getProfile(sampleText).getId());
+      mockServer.verify(request().withMethod(POST).withPath(GET_PROFILE_PATH),
+          VerificationTimes.exactly(0));
+    } finally {
+      WatsonService.removeGlobalInterceptor(interceptor);
+    }
+  }
+
+  /**
+   * Test that the metrics of a call are reported to the metrics listener.
+   */
+  @Test
+  public void testMetricsListener() {
+    mockAPICall();
+    final List<CallMetrics> calls = new ArrayList<CallMetrics>();
+    service.setMetricsListener(new MetricsListener() {
+      @Override
+      public void onCall(CallMetrics metrics) {
+        calls.add(metrics);
+      }
+    });
+    service.getProfile(sampleText);
+
+    assertEquals(1, calls.size());
+    final CallMetrics metrics = calls.get(0);
+    assertEquals(service.getName(), metrics.getServiceName());
+    assertEquals(POST, metrics.getMethod());
+    assertEquals(GET_PROFILE_PATH, metrics.getPathTemplate());
+    assertEquals(200, metrics.getStatusCode());
+    assertTrue(metrics.getBytesSent() > 0);
+    assertEquals(2, metrics.getBytesReceived());
+    assertTrue(metrics.getDuration(TimeUnit.NANOSECONDS) >= metrics
+        .getTimeToFirstByte(TimeUnit.NANOSECONDS));
+  }
+
+  /**
+   * Test that the failed calls are recorded in the error histograms.
+   */
+  @Test
+  public void testHistogramMetricsListener() {
+    mockAPICallWithError(500, "Internal Server Error");
+    final HistogramMetricsListener listener = new HistogramMetricsListener();
+    service.setMetricsListener(listener);
+    try {
+      service.getProfile(sampleText);
+      fail("InternalServerErrorException expected");
+    } catch (final InternalServerErrorException e) {
+      final String operation = service.getName() + " POST " + GET_PROFILE_PATH;
+      assertEquals(1, listener.getHistograms().get(operation).getCount());
+      assertEquals(1, listener.getErrorHistograms().get(operation).getCount());
+    }
+  }
+
+  /**
+   * Test that a throttled request is retried and succeeds.
+   */
+  @Test
+  public void testRetryTooManyRequests() {
+    mockServer.when(request().withMethod(POST).withPath(GET_PROFILE_PATH), Times.once()).respond(
+        response().withStatusCode(429).withHeader(new Header("Retry-After", "0"))
+            .withBody("{\"code\":429, \"error\":\"Too many requests\"}"));
+    mockAPICall();
+
+    service.setRetryOptions(new RetryOptions().maxAttempts(3).initialDelay(10));
+    service.getProfile(sampleText);
+    mockServer.verify(request().withMethod(POST).withPath(GET_PROFILE_PATH),
+        VerificationTimes.exactly(2));
+  }
+
+  /**
+   * Test that the last error is returned when all the attempts fail.
+   */
+  @Test
+  public void testRetryMaxAttempts() {
+    mockAPICallWithError(429, "Too many requests");
+    service.setRetryOptions(new RetryOptions().maxAttempts(3).initialDelay(10));
+    try {
+      service.getProfile(sampleText);
+      fail("TooManyRequestsException expected");
+    } catch (final TooManyRequestsException e) {
+      mockServer.verify(request().withMethod(POST).withPath(GET_PROFILE_PATH),
+          VerificationTimes.exactly(3));
+    }
+  }
+
+  /**
+   * Test that a non idempotent request is not retried when the service is unavailable.
+   */
+  @Test
+  public void testRetryNonIdempotent() {
+    mockAPICallWithError(503, "Service Unavailable");
+    service.setRetryOptions(new RetryOptions().maxAttempts(3).initialDelay(10));
+    try {
+      service.getProfile(sampleText);
+      fail("ServiceUnavailableException expected");
+    } catch (final ServiceUnavailableException e) {
+      mockServer.verify(request().withMethod(POST).withPath(GET_PROFILE_PATH),
+          VerificationTimes.exactly(1));
+    }
+  }
+
+  /**
+   * Test that a multipart upload of an input stream is not retried, the stream was consumed by the
+   * first attempt.
+   */
+  @Test
+  public void testRetryStreamUpload() {
+    final VisualRecognition recognition =
+        new VisualRecognition(VisualRecognition.VERSION_DATE_2015_12_02);
+    recognition.setApiKey("");
+    recognition.setEndPoint(MOCK_SERVER_URL);
+    recognition.setRetryOptions(new RetryOptions().maxAttempts(3).initialDelay(10)
+        .retryNonIdempotent(true));
+
+    mockServer.when(request().withMethod(POST).withPath(CLASSIFY_PATH), Times.once()).respond(
+        response().withStatusCode(429).withHeader(new Header("Retry-After", "0"))
+            .withBody("{\"code\":429, \"error\":\"Too many requests\"}"));
+    mockServer.when(request().withMethod(POST).withPath(CLASSIFY_PATH)).respond(
+        response().withStatusCode(200).withBody("{}"));
+
+    try {
+      recognition.classify("a.jpg", new ByteArrayInputStream(new byte[] {1, 2, 3}));
+      fail("TooManyRequestsException expected");
+    } catch (final TooManyRequestsException e) {
+      mockServer.verify(request().withMethod(POST).withPath(CLASSIFY_PATH),
+          VerificationTimes.exactly(1));
+    }
+  }
+
+  /**
+   * Test that a request with a stream body is not hedged, the copy would be sent without a body.
+   */
+  @Test
+  public void testHedgingStreamUpload() {
+    final VisualRecognition recognition =
+        new VisualRecognition(VisualRecognition.VERSION_DATE_2015_12_02);
+    recognition.setApiKey("");
+    recognition.setEndPoint(MOCK_SERVER_URL);
+    recognition.setHedgingOptions(new HedgingOptions().path(CLASSIFY_PATH).initialDelay(10)
+        .budget(1));
+
+    mockServer.when(request().withMethod(POST).withPath(CLASSIFY_PATH)).respond(
+        response().withStatusCode(200).withBody("{}")
+            .withDelay(new Delay(TimeUnit.MILLISECONDS, 300)));
+
+    final AtomicInteger readsAfterClose = new AtomicInteger();
+    final ByteArrayInputStream bytes = new ByteArrayInputStream(new byte[] {1, 2, 3});
+    final InputStream images = new FilterInputStream(bytes) {
+      private boolean closed;
+
+      @Override
+      public void close() throws IOException {
+        closed = true;
+        super.close();
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        if (closed)
+          readsAfterClose.incrementAndGet();
+        return super.read(b, off, len);
+      }
+    };
+    recognition.classify("a.jpg", images);
+    assertEquals(0, readsAfterClose.get());
+    mockServer.verify(request().withMethod(POST).withPath(CLASSIFY_PATH),
+        VerificationTimes.exactly(1));
+  }
+
+  /**
+   * Test that identifiers without digits are replaced in the path template of the metrics.
+   */
+  @Test
+  public void testMetricsPathTemplate() {
+    final String conceptPath = "/v2/graphs/wikipedia/en-20120601/concepts/IBM_Watson";
+    mockServer.when(request().withMethod("GET").withPath(conceptPath)).respond(
+        response().withStatusCode(200).withBody("{}"));
+    final List<CallMetrics> calls = new ArrayList<CallMetrics>();
+    final ConceptInsights conceptInsights = new ConceptInsights();
+    conceptInsights.setUsernameAndPassword("", "");
+    conceptInsights.setEndPoint(MOCK_SERVER_URL);
+    conceptInsights.setMetricsListener(new MetricsListener() {
+      @Override
+      public void onCall(CallMetrics metrics) {
+        calls.add(metrics);
+      }
+    });
+
+    conceptInsights.getConcept(new Concept(Graph.WIKIPEDIA, "IBM_Watson"));
+    assertEquals("/v2/graphs/{id}/{id}/concepts/{id}", calls.get(0).getPathTemplate());
+  }
+
+  /**
+   * Test that the service fails fast once the circuit breaker is open.
+   */
+  @Test
+  public void testCircuitBreakerOpen() {
+    mockAPICallWithError(500, "Internal Server Error");
+    service.setCircuitBreaker(new CircuitBreaker(2, 60000));
+    for (int i = 0; i < 2; i++) {
+      try {
+        service.getProfile(sampleText);
+        fail("InternalServerErrorException expected");
+      } catch (final InternalServerErrorException e) {
+        // expected
+      }
+    }
+
+    try {
+      service.getProfile(sampleText);
+      fail("CircuitBreakerOpenException expected");
+    } catch (final CircuitBreakerOpenException e) {
+      mockServer.verify(request().withMethod(POST).withPath(GET_PROFILE_PATH),
+          VerificationTimes.exactly(2));
+    }
+  }
+
+  /**
+   * Test that calls past their deadline do not open the circuit.
+   */
+  @Test
+  public void testCircuitBreakerIgnoresDeadline() {
+    mockServer.when(request().withMethod(POST).withPath(GET_PROFILE_PATH)).respond(
+        response().withStatusCode(200).withBody("{}").withDelay(new Delay(TimeUnit.SECONDS, 1)));
+    final CircuitBreaker breaker = new CircuitBreaker(1, 60000);
+    service.setCircuitBreaker(breaker);
+    service.setDeadline(100);
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        service.getProfile(sampleText);
+        fail("DeadlineExceededException expected");
+      } catch (final RuntimeException e) {
+        assertTrue(e.getCause() instanceof DeadlineExceededException);
+      }
+    }
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(service.getEndPoint()));
+  }
+
+  /**
+   * Test that an interceptor throwing an unchecked exception releases the half-open probe of the
+   * circuit breaker and fails the asynchronous calls.
+   * 
+   * @throws Exception the exception
+   */
+  @Test
+  public void testCircuitBreakerUncheckedException() throws Exception {
+    mockServer.when(request().withMethod(POST).withPath(GET_PROFILE_PATH), Times.once()).respond(
+        response().withStatusCode(500).withBody("{\"code\":500, \"error\":\"error\"}"));
+    mockAPICall();
+    final CircuitBreaker breaker = new CircuitBreaker(1, 100);
+    service.setCircuitBreaker(breaker);
+    try {
+      service.getProfile(sampleText);
+      fail("InternalServerErrorException expected");
+    } catch (final InternalServerErrorException e) {
+      assertEquals(CircuitBreaker.State.OPEN, breaker.getState(service.getEndPoint()));
+    }
+
+    final Interceptor interceptor = new Interceptor() {
+      @Override
+      public Response intercept(Chain chain) throws IOException {
+        throw new IllegalStateException("interceptor failed");
+      }
+    };
+    service.addInterceptor(interceptor);
+    Thread.sleep(150);
+    try {
+      service.getProfile(sampleText);
+      fail("IllegalStateException expected");
+    } catch (final IllegalStateException e) {
+      assertEquals(CircuitBreaker.State.OPEN, breaker.getState(service.getEndPoint()));
+    }
+
+    Thread.sleep(150);
+    try {
+      service.getProfileAsync(new ProfileOptions().text(sampleText), null).get(10,
+          TimeUnit.SECONDS);
+      fail("ExecutionException expected");
+    } catch (final ExecutionException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    service.removeInterceptor(interceptor);
+    Thread.sleep(150);
+    service.getProfile(sampleText);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(service.getEndPoint()));
+  }
+
   /**
    * Test unauthorized exception.
    */
@@ -0,0 +1,88 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The Class HedgingOptionsTest.
+ */
+public class HedgingOptionsTest {
+
+  /**
+   * Test that the extra requests stay within the budget.
+   */
+  @Test
+  public void testBudget() {
+    final HedgingOptions options = new HedgingOptions().budget(0.05);
+    int hedges = 0;
+    for (int i = 0; i < 1000; i++) {
+      options.onCall();
+      if (options.tryHedge())
+        hedges++;
+    }
+    assertEquals(50, hedges);
+
+    final HedgingOptions noBudget = new HedgingOptions().budget(0);
+    noBudget.onCall();
+    assertFalse(noBudget.tryHedge());
+  }
+
+  /**
+   * Test that the delay switches from the initial delay to the latency percentile.
+   */
+  @Test
+  public void testDelay() {
+    final String path = "/v2/identify";
+    final HedgingOptions options = new HedgingOptions().path(path).initialDelay(500).percentile(90);
+    assertTrue(options.isHedged(path));
+    assertFalse(options.isHedged("/v2/translate"));
+    assertEquals(500, options.getDelay(path));
+
+    for (int i = 1; i <= 100; i++) {
+      options.recordLatency(path, i);
+    }
+    assertEquals(90, options.getDelay(path));
+  }
+
+  /**
+   * Test that the delay follows the latencies of the recent windows.
+   */
+  @Test
+  public void testWindow() throws InterruptedException {
+    final String path = "/v2/identify";
+    final HedgingOptions options = new HedgingOptions().path(path).percentile(90).window(100);
+    for (int i = 1; i <= 100; i++) {
+      options.recordLatency(path, 1000);
+    }
+    assertEquals(1000, options.getDelay(path));
+
+    Thread.sleep(150);
+    for (int i = 1; i <= 10; i++) {
+      options.recordLatency(path, 10);
+    }
+    assertEquals(1000, options.getDelay(path));
+    for (int i = 1; i <= 90; i++) {
+      options.recordLatency(path, 10);
+    }
+    assertEquals(10, options.getDelay(path));
+
+    Thread.sleep(250);
+    assertEquals(options.getInitialDelay(), options.getDelay(path));
+  }
+}
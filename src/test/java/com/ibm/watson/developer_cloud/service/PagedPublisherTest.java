@@ -0,0 +1,230 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class PagedPublisherTest.
+ */
+public class PagedPublisherTest {
+
+  /**
+   * Publisher of the numbers 0 to pages * PAGE_SIZE - 1, fetching each page on a separate thread.
+   */
+  private class NumberPublisher extends PagedPublisher<List<Integer>, Integer> {
+
+    private final int failingPage;
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final int pages;
+
+    private NumberPublisher(int pages, int failingPage) {
+      this.pages = pages;
+      this.failingPage = failingPage;
+    }
+
+    @Override
+    protected Future<List<Integer>> fetch(List<Integer> previous, final int offset,
+        final ServiceCallback<List<Integer>> callback) {
+      final int page = fetches.getAndIncrement();
+      return executor.submit(new Callable<List<Integer>>() {
+        @Override
+        public List<Integer> call() {
+          if (page == failingPage) {
+            callback.onFailure(new ServiceUnavailableException("page " + page, null));
+            return null;
+          }
+          final List<Integer> items = new ArrayList<Integer>();
+          for (int i = offset; i < offset + PAGE_SIZE; i++)
+            items.add(i);
+          callback.onResponse(items);
+          return items;
+        }
+      });
+    }
+
+    @Override
+    protected List<Integer> getItems(List<Integer> page) {
+      return page;
+    }
+
+    @Override
+    protected boolean hasNext(List<Integer> page, int offset) {
+      return offset < pages * PAGE_SIZE;
+    }
+  }
+
+  /**
+   * Subscriber that records the items and requests more from the test thread.
+   */
+  private static class RecordingSubscriber implements Subscriber<Integer> {
+
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile Throwable error;
+    private final List<Integer> items = new CopyOnWriteArrayList<Integer>();
+    private volatile CountDownLatch received = new CountDownLatch(0);
+    private Subscription subscription;
+
+    private boolean await() throws InterruptedException {
+      return done.await(5, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void onComplete() {
+      done.countDown();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      error = t;
+      done.countDown();
+    }
+
+    @Override
+    public void onNext(Integer item) {
+      items.add(item);
+      received.countDown();
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    private void request(int n) throws InterruptedException {
+      received = new CountDownLatch(n);
+      subscription.request(n);
+      assertTrue(received.await(5, TimeUnit.SECONDS));
+    }
+  }
+
+  private static final int PAGE_SIZE = 5;
+
+  private ExecutorService executor;
+
+  /**
+   * Sets up the executor fetching the pages.
+   */
+  @Before
+  public void setUp() {
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  /**
+   * Shuts down the executor.
+   */
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Test that the items are emitted as requested and that at most one page is fetched ahead.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testBackpressure() throws InterruptedException {
+    final NumberPublisher publisher = new NumberPublisher(4, -1);
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+    Thread.sleep(100);
+    assertEquals(0, publisher.fetches.get());
+
+    subscriber.request(3);
+    Thread.sleep(100);
+    assertEquals(3, subscriber.items.size());
+    assertEquals(2, publisher.fetches.get());
+
+    subscriber.request(7);
+    Thread.sleep(100);
+    assertEquals(10, subscriber.items.size());
+    assertEquals(3, publisher.fetches.get());
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertTrue(subscriber.await());
+    assertNull(subscriber.error);
+    assertEquals(4, publisher.fetches.get());
+    for (int i = 0; i < 20; i++)
+      assertEquals(Integer.valueOf(i), subscriber.items.get(i));
+  }
+
+  /**
+   * Test that cancelling stops the delivery of items.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testCancel() throws InterruptedException {
+    final NumberPublisher publisher = new NumberPublisher(4, -1);
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.request(2);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(10);
+    assertFalse(subscriber.done.await(200, TimeUnit.MILLISECONDS));
+    assertEquals(2, subscriber.items.size());
+  }
+
+  /**
+   * Test that the items received before a failed page are emitted before the error.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testFailure() throws InterruptedException {
+    final NumberPublisher publisher = new NumberPublisher(4, 1);
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertTrue(subscriber.await());
+    assertEquals(PAGE_SIZE, subscriber.items.size());
+    assertTrue(subscriber.error instanceof ServiceUnavailableException);
+  }
+
+  /**
+   * Test that a non-positive request is signaled as an error.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testInvalidRequest() throws InterruptedException {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    new NumberPublisher(1, -1).subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+    assertTrue(subscriber.await());
+    assertTrue(subscriber.error instanceof IllegalArgumentException);
+  }
+}
@@ -28,6 +28,7 @@ import org.junit.Test;
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.http.RequestTag;
 import com.ibm.watson.developer_cloud.util.RequestUtil;
 import com.squareup.okhttp.HttpUrl;
 import com.squareup.okhttp.MediaType;
@@ -79,6 +80,19 @@ public class RequestBuilderTest {
     assertEquals(urlWithQuery, request.urlString());
   }
 
+  /**
+   * Test that the path format is kept as the path template.
+   */
+  @Test
+  public void testPathFormat() {
+    final Request request =
+        RequestBuilder.post("/v1/classifiers/%s/classify", "classifier").build();
+    assertEquals(RequestUtil.DEFAULT_ENDPOINT + "/v1/classifiers/classifier/classify",
+        request.urlString());
+    assertEquals("/v1/classifiers/{id}/classify",
+        ((RequestTag) request.tag()).getPathTemplate());
+  }
+
   /**
    * Test illegal argument exception.
    */
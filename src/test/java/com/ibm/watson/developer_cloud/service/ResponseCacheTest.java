@@ -0,0 +1,162 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Header;
+import org.mockserver.verify.VerificationTimes;
+
+import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
+import com.ibm.watson.developer_cloud.http.HttpHeaders;
+import com.ibm.watson.developer_cloud.language_translation.v2.LanguageTranslation;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModelList;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+/**
+ * The Class ResponseCacheTest.
+ */
+public class ResponseCacheTest extends WatsonServiceUnitTest {
+  private final static String GET_MODELS_PATH = "/v2/models";
+  private final static long HOUR = TimeUnit.HOURS.toMillis(1);
+
+  private TranslationModelList models;
+  private LanguageTranslation service;
+
+  /** The temporary folder. */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Mocks the list of models.
+   * 
+   * @param times the number of times the mock responds
+   */
+  private void mockGetModels(Times times) {
+    mockServer.when(request().withPath(GET_MODELS_PATH), times).respond(
+        response().withHeaders(APPLICATION_JSON, new Header(HttpHeaders.ETAG, "\"v1\""))
+            .withBody(GsonSingleton.getGson().toJson(models)));
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see com.ibm.watson.developer_cloud.WatsonServiceUnitTest#setUp()
+   */
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+    service = new LanguageTranslation();
+    service.setApiKey("");
+    service.setEndPoint(MOCK_SERVER_URL);
+    models =
+        loadFixture("src/test/resources/language_translation/models.json",
+            TranslationModelList.class);
+  }
+
+  /**
+   * Test that a fresh response is served from the cache.
+   */
+  @Test
+  public void testCachedResponse() {
+    mockGetModels(Times.unlimited());
+    service.setResponseCache(new ResponseCache(10).ttl(GET_MODELS_PATH, HOUR));
+
+    assertEquals(models.getModels(), service.getModels());
+    assertEquals(models.getModels(), service.getModels());
+    mockServer.verify(request().withPath(GET_MODELS_PATH), VerificationTimes.exactly(1));
+  }
+
+  /**
+   * Test that services with different credential pools do not share their cached responses.
+   */
+  @Test
+  public void testCredentialPools() {
+    mockGetModels(Times.unlimited());
+    final ResponseCache cache = new ResponseCache(10).ttl(GET_MODELS_PATH, HOUR);
+    service.setResponseCache(cache);
+    service.setCredentialPool(new CredentialPool("a:1", "b:1"));
+    final LanguageTranslation other = new LanguageTranslation();
+    other.setApiKey("");
+    other.setEndPoint(MOCK_SERVER_URL);
+    other.setResponseCache(cache);
+    other.setCredentialPool(new CredentialPool("c:1"));
+
+    service.getModels();
+    other.getModels();
+    service.getModels();
+    mockServer.verify(request().withPath(GET_MODELS_PATH), VerificationTimes.exactly(2));
+  }
+
+  /**
+   * Test that the paths without a time to live are not cached.
+   */
+  @Test
+  public void testPathWithoutTtl() {
+    mockGetModels(Times.unlimited());
+    service.setResponseCache(new ResponseCache(10).ttl("/v2/identifiable_languages", 1000));
+
+    service.getModels();
+    service.getModels();
+    mockServer.verify(request().withPath(GET_MODELS_PATH), VerificationTimes.exactly(2));
+  }
+
+  /**
+   * Test that an expired response is revalidated with its ETag.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testRevalidation() throws InterruptedException {
+    mockGetModels(Times.once());
+    mockServer.when(
+        request().withPath(GET_MODELS_PATH).withHeader(
+            new Header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))).respond(
+        response().withStatusCode(304));
+    service.setResponseCache(new ResponseCache(10).ttl(GET_MODELS_PATH, 1));
+
+    service.getModels();
+    Thread.sleep(5);
+    assertEquals(models.getModels(), service.getModels());
+    mockServer.verify(
+        request().withPath(GET_MODELS_PATH).withHeader(
+            new Header(HttpHeaders.IF_NONE_MATCH, "\"v1\"")), VerificationTimes.exactly(1));
+  }
+
+  /**
+   * Test that the responses stored on disk are served by a new cache.
+   */
+  @Test
+  public void testDiskCache() {
+    mockGetModels(Times.unlimited());
+    service.setResponseCache(new ResponseCache(10).ttl(GET_MODELS_PATH, HOUR).directory(
+        folder.getRoot(), 1024 * 1024));
+    service.getModels();
+
+    service.setResponseCache(new ResponseCache(10).ttl(GET_MODELS_PATH, HOUR).directory(
+        folder.getRoot(), 1024 * 1024));
+    assertEquals(models.getModels(), service.getModels());
+    mockServer.verify(request().withPath(GET_MODELS_PATH), VerificationTimes.exactly(1));
+  }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * The Class TokenBucketRateLimiterTest.
+ */
+public class TokenBucketRateLimiterTest {
+
+  /**
+   * Test that the burst is sent right away and the following requests are spaced.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testAcquire() throws InterruptedException {
+    final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(20, 2);
+
+    long start = System.nanoTime();
+    rateLimiter.acquire("key");
+    rateLimiter.acquire("key");
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 40);
+
+    start = System.nanoTime();
+    for (int i = 0; i < 4; i++) {
+      rateLimiter.acquire("key");
+    }
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 140);
+  }
+
+  /**
+   * Test that each credential has its own bucket.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testAcquirePerKey() throws InterruptedException {
+    final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1);
+
+    final long start = System.nanoTime();
+    rateLimiter.acquire("key1");
+    rateLimiter.acquire("key2");
+    rateLimiter.acquire("key3");
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+  }
+
+  /**
+   * Test that a request that cannot be sent within the timeout does not use the budget.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testTryAcquire() throws InterruptedException {
+    final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10);
+
+    rateLimiter.acquire("key");
+    rateLimiter.acquire("key");
+    assertFalse(rateLimiter.tryAcquire("key", 10, TimeUnit.MILLISECONDS));
+
+    final long start = System.nanoTime();
+    assertTrue(rateLimiter.tryAcquire("key", 500, TimeUnit.MILLISECONDS));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 150);
+  }
+
+  /**
+   * Test invalid requests per second.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRequestsPerSecond() {
+    new TokenBucketRateLimiter(0);
+  }
+}
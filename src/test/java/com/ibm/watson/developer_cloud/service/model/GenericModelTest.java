@@ -0,0 +1,93 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.service.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Keyword;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Keywords;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.IdentifiedLanguage;
+
+/**
+ * The Class GenericModelTest.
+ */
+public class GenericModelTest {
+
+  /**
+   * Creates a keyword.
+   * 
+   * @param text the text
+   * @param relevance the relevance
+   * @return the keyword
+   */
+  private Keyword createKeyword(String text, double relevance) {
+    final Keyword keyword = new Keyword();
+    keyword.setText(text);
+    keyword.setRelevance(relevance);
+    return keyword;
+  }
+
+  /**
+   * Test equals and hash code, including the inherited fields.
+   */
+  @Test
+  public void testEqualsAndHashCode() {
+    final IdentifiedLanguage en1 = new IdentifiedLanguage("en", 0.9);
+    final IdentifiedLanguage en2 = new IdentifiedLanguage("en", 0.9);
+
+    assertEquals(en1, en2);
+    assertEquals(en1.hashCode(), en2.hashCode());
+    assertNotEquals(en1, new IdentifiedLanguage("en", 0.8));
+    assertNotEquals(en1, new IdentifiedLanguage("es", 0.9));
+    assertNotEquals(en1, new IdentifiedLanguage(null, 0.9));
+    assertFalse(en1.equals(null));
+  }
+
+  /**
+   * Test equals on nested models.
+   */
+  @Test
+  public void testEqualsNested() {
+    final Keywords keywords1 = new Keywords();
+    keywords1.setKeywords(Arrays.asList(createKeyword("IBM", 0.9)));
+    final Keywords keywords2 = new Keywords();
+    keywords2.setKeywords(Arrays.asList(createKeyword("IBM", 0.9)));
+
+    assertEquals(keywords1, keywords2);
+    assertEquals(keywords1.hashCode(), keywords2.hashCode());
+
+    keywords2.setKeywords(Arrays.asList(createKeyword("IBM", 0.8)));
+    assertNotEquals(keywords1, keywords2);
+  }
+
+  /**
+   * Test that models can be deduplicated in a hash set.
+   */
+  @Test
+  public void testHashSet() {
+    final Set<IdentifiedLanguage> languages = new HashSet<IdentifiedLanguage>();
+    languages.add(new IdentifiedLanguage("en", 0.9));
+    languages.add(new IdentifiedLanguage("en", 0.9));
+    languages.add(new IdentifiedLanguage("es", 0.1));
+    assertEquals(2, languages.size());
+  }
+}
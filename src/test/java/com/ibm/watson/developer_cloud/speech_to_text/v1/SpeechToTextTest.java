@@ -20,7 +20,11 @@ import io.netty.handler.codec.http.HttpHeaders;
 import java.io.File;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -31,6 +35,8 @@ import org.mockserver.model.Header;
 
 import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.ibm.watson.developer_cloud.service.Subscriber;
+import com.ibm.watson.developer_cloud.service.Subscription;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechAlternative;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechModel;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechModelSet;
@@ -214,6 +220,56 @@ public class SpeechToTextTest extends WatsonServiceUnitTest {
     Assert.assertEquals(result, speechResults);
   }
 
+  /**
+   * Test that the results of several audio files are published in order.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testRecognizePublisher() throws InterruptedException {
+    final SpeechResults speechResults = new SpeechResults();
+    speechResults.setResultIndex(0);
+    speechResults.setResults(new ArrayList<Transcript>());
+
+    final File audio = new File("src/test/resources/speech_to_text/sample1.wav");
+
+    mockServer.when(request().withMethod(POST).withPath(RECOGNIZE_PATH)).respond(
+        response().withHeaders(
+            new Header(HttpHeaders.Names.CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)).withBody(
+            GsonSingleton.getGson().toJson(speechResults)));
+
+    final List<SpeechResults> results = new CopyOnWriteArrayList<SpeechResults>();
+    final CountDownLatch done = new CountDownLatch(1);
+    service.recognizePublisher(Arrays.asList(audio, audio, audio), HttpMediaType.AUDIO_WAV, null)
+        .subscribe(new Subscriber<SpeechResults>() {
+          private Subscription subscription;
+
+          @Override
+          public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+          }
+
+          @Override
+          public void onNext(SpeechResults item) {
+            results.add(item);
+            subscription.request(1);
+          }
+
+          @Override
+          public void onError(Throwable t) {}
+
+          @Override
+          public void onComplete() {
+            done.countDown();
+          }
+        });
+
+    Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+    Assert.assertEquals(3, results.size());
+    Assert.assertEquals(speechResults, results.get(0));
+  }
+
   /**
    * Test recognize -missing audio file, generate IllegalArgumentException.
    * 
@@ -15,8 +15,10 @@ package com.ibm.watson.developer_cloud.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -64,4 +66,31 @@ public class BluemixUtilsTest extends WatsonServiceTest {
     assertEquals(API_KEY_FREE, BluemixUtils.getAPIKey(SERVICE_NAME, BluemixUtils.PLAN_FREE));
     assertEquals(API_KEY_STANDARD, BluemixUtils.getAPIKey(SERVICE_NAME, BluemixUtils.PLAN_STANDARD));
   }
+
+  /**
+   * Test get api keys of all the instances of a service.
+   */
+  @Test
+  public void testGetAPIKeys() {
+    assertEquals(Arrays.asList(API_KEY_FREE, API_KEY_STANDARD),
+        BluemixUtils.getAPIKeys(SERVICE_NAME));
+    assertEquals(Arrays.asList(API_KEY_STANDARD),
+        BluemixUtils.getAPIKeys(SERVICE_NAME, BluemixUtils.PLAN_STANDARD));
+    assertTrue(BluemixUtils.getAPIKeys("not_a_service").isEmpty());
+    assertTrue(BluemixUtils.getAPIKeys(null).isEmpty());
+  }
+
+  /**
+   * Test that the credentials follow the changes of the VCAP_SERVICES.
+   */
+  @Test
+  public void testGetAPIKeyWithChangedServices() {
+    assertEquals(API_KEY_FREE, BluemixUtils.getAPIKey(SERVICE_NAME));
+    BluemixUtils.setServices("{\"personality_insights\":[{\"plan\":\"standard\","
+        + "\"credentials\":{\"username\":\"not-a-username\",\"password\":\"not-a-password\"}}]}");
+    assertEquals(API_KEY_STANDARD, BluemixUtils.getAPIKey(SERVICE_NAME));
+    BluemixUtils.setServices("not json");
+    assertNull(BluemixUtils.getAPIKey(SERVICE_NAME));
+    setup();
+  }
 }
@@ -0,0 +1,50 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.language_translation.v2.model.IdentifiedLanguage;
+
+/**
+ * The Class GsonSingletonTest.
+ */
+public class GsonSingletonTest {
+
+  private final IdentifiedLanguage language = new IdentifiedLanguage("en", 0.9);
+
+  /**
+   * Test that the wire Gson writes compact JSON.
+   */
+  @Test
+  public void testGetGsonWithoutPrettyPrinting() {
+    assertEquals("{\"confidence\":0.9,\"language\":\"en\"}",
+        GsonSingleton.getGsonWithoutPrettyPrinting().toJson(language));
+    assertSame(GsonSingleton.getGsonWithoutPrettyPrinting(),
+        GsonSingleton.getGsonWithoutPrettyPrinting());
+  }
+
+  /**
+   * Test that toString pretty prints the model.
+   */
+  @Test
+  public void testGetGson() {
+    assertTrue(language.toString().contains("\n"));
+    assertEquals(GsonSingleton.getGson().toJson(language), language.toString());
+  }
+}
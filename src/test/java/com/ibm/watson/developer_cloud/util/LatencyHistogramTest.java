@@ -0,0 +1,88 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The Class LatencyHistogramTest.
+ */
+public class LatencyHistogramTest {
+
+  /**
+   * Test that every value falls in a bucket whose upper bound is within 1% of the value.
+   */
+  @Test
+  public void testBuckets() {
+    for (long value = 0; value < 1000000; value += 7) {
+      final long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+      assertTrue(highest >= value);
+      assertTrue(highest - value <= value / 100 + 1);
+    }
+    final long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(Long.MAX_VALUE));
+    assertEquals(Long.MAX_VALUE, highest);
+  }
+
+  /**
+   * Test the percentiles of a uniform distribution.
+   */
+  @Test
+  public void testPercentiles() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getValueAtPercentile(99));
+
+    for (int i = 1; i <= 10000; i++) {
+      histogram.recordValue(i);
+    }
+    assertEquals(10000, histogram.getCount());
+    assertEquals(10000, histogram.getMax());
+    assertEquals(5000.5, histogram.getMean(), 0.001);
+    assertEquals(5000, histogram.getValueAtPercentile(50), 50);
+    assertEquals(9900, histogram.getValueAtPercentile(99), 99);
+    assertEquals(10000, histogram.getValueAtPercentile(100));
+
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+  }
+
+  /**
+   * Test that values recorded concurrently are all counted.
+   * 
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testConcurrentRecording() throws InterruptedException {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread() {
+        @Override
+        public void run() {
+          for (int j = 0; j < 10000; j++) {
+            histogram.recordValue(j);
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(40000, histogram.getCount());
+    assertEquals(9999, histogram.getMax());
+  }
+}
@@ -20,6 +20,8 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
+import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.squareup.okhttp.HttpUrl;
 
 /**
  * The Class RequestUtilTest.
@@ -105,4 +107,47 @@ public class RequestUtilTest {
     Assert.assertNull(RequestUtil.pick(null));
   }
 
+  /**
+   * Test that the identifiers are removed from the path templates.
+   */
+  @Test
+  public void testPathTemplate() {
+    Assert.assertEquals("/v1/classifiers/{id}/classify",
+        RequestUtil.toPathTemplate("/v1/classifiers/47C164-nlc-243/classify"));
+    Assert.assertEquals("/v1/models/en-US_BroadbandModel",
+        RequestUtil.toPathTemplate("/v1/models/en-US_BroadbandModel"));
+    Assert.assertEquals("/", RequestUtil.toPathTemplate(""));
+  }
+
+  /**
+   * Test that the end point of a relative request is replaced and that the query parameters are
+   * encoded.
+   */
+  @Test
+  public void testReplaceEndPoint() {
+    final String url =
+        RequestBuilder.get("/v1/classify").withQuery("text", "a+b c", "id", "1").build().urlString();
+    Assert.assertEquals(RequestUtil.DEFAULT_ENDPOINT + "/v1/classify?text=a%2Bb+c&id=1", url);
+    Assert.assertEquals("https://gateway.watsonplatform.net/api/v1/classify?text=a%2Bb+c&id=1",
+        RequestUtil.replaceEndPoint(url, "https://gateway.watsonplatform.net/api"));
+    Assert.assertEquals("https://gateway.watsonplatform.net/api/v1",
+        RequestUtil.replaceEndPoint("/v1", "https://gateway.watsonplatform.net/api"));
+  }
+
+  /**
+   * Test resolve.
+   */
+  @Test
+  public void testResolve() {
+    final HttpUrl url =
+        RequestBuilder.get("/v1/classify").withQuery("text", "a+b c", "id", "1").build().httpUrl();
+    final HttpUrl api = HttpUrl.parse("https://gateway.watsonplatform.net/api");
+    Assert.assertEquals("https://gateway.watsonplatform.net/api/v1/classify?text=a%2Bb+c&id=1",
+        RequestUtil.resolve(api, url.encodedPath(), url.encodedQuery()).toString());
+    Assert.assertEquals("https://gateway.watsonplatform.net/api/v1/classify",
+        RequestUtil.resolve(HttpUrl.parse("https://gateway.watsonplatform.net/api/"),
+            "/v1/classify", null).toString());
+    Assert.assertEquals("a-b_c.d*1", RequestUtil.encode("a-b_c.d*1"));
+    Assert.assertEquals("a%2Bb+c", RequestUtil.encode("a+b c"));
+  }
 }
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.reflect.TypeToken;
+import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.IdentifiedLanguage;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+
+/**
+ * The Class ResponseUtilTest.
+ */
+public class ResponseUtilTest {
+
+  /**
+   * Creates a JSON response.
+   * 
+   * @param json the JSON body
+   * @return the response
+   */
+  private Response createResponse(String json) {
+    return new Response.Builder().request(new Request.Builder().url("http://localhost").build())
+        .protocol(Protocol.HTTP_1_1).code(200)
+        .body(ResponseBody.create(HttpMediaType.JSON, json)).build();
+  }
+
+  /**
+   * Test get object.
+   */
+  @Test
+  public void testGetObject() {
+    final IdentifiedLanguage language =
+        ResponseUtil.getObject(createResponse("{\"language\":\"en\",\"confidence\":0.9}"),
+            IdentifiedLanguage.class);
+    assertEquals("en", language.getLanguage());
+    assertEquals(0.9, language.getConfidence(), 0);
+  }
+
+  /**
+   * Test get object with a list type.
+   */
+  @Test
+  public void testGetObjectList() {
+    final Type type = new TypeToken<List<IdentifiedLanguage>>() {}.getType();
+    final List<IdentifiedLanguage> languages =
+        ResponseUtil.getObject(createResponse("[{\"language\":\"en\"},{\"language\":\"es\"}]"),
+            type);
+    assertEquals(2, languages.size());
+    assertEquals("es", languages.get(1).getLanguage());
+  }
+
+  /**
+   * Test get object with an empty body.
+   */
+  @Test
+  public void testGetObjectEmpty() {
+    assertNull(ResponseUtil.getObject(createResponse(""), IdentifiedLanguage.class));
+  }
+}